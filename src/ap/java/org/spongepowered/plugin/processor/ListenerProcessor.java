@@ -25,11 +25,21 @@
 package org.spongepowered.plugin.processor;
 
 import static javax.tools.Diagnostic.Kind.ERROR;
+import static javax.tools.StandardLocation.CLASS_OUTPUT;
 
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.util.generator.event.ListenerIndex;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.annotation.processing.AbstractProcessor;
@@ -38,17 +48,21 @@
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.annotation.processing.SupportedSourceVersion;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
 
 @SupportedAnnotationTypes(ListenerProcessor.LISTENER_ANNOTATION_CLASS)
 @SupportedSourceVersion(SourceVersion.RELEASE_8)
@@ -56,9 +70,30 @@ public class ListenerProcessor extends AbstractProcessor {
 
     static final String LISTENER_ANNOTATION_CLASS = "org.spongepowered.api.event.Listener";
     private static final String EVENT_CLASS = Event.class.getName();
+    private static final String LIST_CLASS = List.class.getName();
+    private static final String FILTER_PACKAGE = "org.spongepowered.api.event.filter.";
+
+    /**
+     * The lines of the {@link ListenerIndex} for each compiled class, keyed
+     * by its binary name.
+     */
+    private final Map<String, List<String>> index = new LinkedHashMap<>();
 
     @Override
     public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!roundEnv.errorRaised() && !this.index.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+
+        for (Element e : roundEnv.getRootElements()) {
+            if (e.getKind().isClass()) {
+                indexClass((TypeElement) e);
+            }
+        }
+
         if (ProcessorUtils.contains(annotations, Listener.class)) {
             for (Element e : roundEnv.getElementsAnnotatedWith(Listener.class)) {
                 if (e.getKind() != ElementKind.METHOD) {
@@ -68,24 +103,48 @@ public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment
                 ExecutableElement method = (ExecutableElement) e;
 
                 Messager msg = this.processingEnv.getMessager();
+                boolean valid = true;
                 if (method.getModifiers().contains(Modifier.STATIC)) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must not be static", method);
+                    valid = false;
                 }
                 if (!method.getModifiers().contains(Modifier.PUBLIC)) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must be public", method);
+                    valid = false;
                 }
                 if (method.getModifiers().contains(Modifier.ABSTRACT)) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must not be abstract", method);
+                    valid = false;
                 }
                 if (method.getEnclosingElement().getKind().isInterface()) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "interfaces cannot declare listeners", method);
+                    valid = false;
                 }
                 if (method.getReturnType().getKind() != TypeKind.VOID) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must return void", method);
+                    valid = false;
                 }
                 List<? extends VariableElement> parameters = method.getParameters();
-                if (parameters.isEmpty() || !isTypeSubclass(parameters.get(0), EVENT_CLASS)) {
+                Listener listener = method.getAnnotation(Listener.class);
+                if (listener.batched()) {
+                    if (listener.order() != Order.POST) {
+                        msg.printMessage(Diagnostic.Kind.ERROR, "batched listeners must use Order.POST", method);
+                        valid = false;
+                    }
+                    if (parameters.size() != 1 || !isErasedType(parameters.get(0), LIST_CLASS)) {
+                        msg.printMessage(Diagnostic.Kind.ERROR, "batched listeners must have a List of events as their only parameter", method);
+                        valid = false;
+                    }
+                    if (hasFilter(method) || parameters.stream().anyMatch(this::hasFilter)) {
+                        msg.printMessage(Diagnostic.Kind.ERROR, "batched listeners must not use filter annotations", method);
+                        valid = false;
+                    }
+                } else if (parameters.isEmpty() || !isTypeSubclass(parameters.get(0), EVENT_CLASS)) {
                     msg.printMessage(Diagnostic.Kind.ERROR, "method must have an Event as its first parameter", method);
+                    valid = false;
+                }
+                if (valid) {
+                    indexListener(method);
                 }
             }
         }
@@ -93,6 +152,99 @@ public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment
         return false;
     }
 
+    private void indexClass(TypeElement type) {
+        this.index.computeIfAbsent(getBinaryName(type), name -> new ArrayList<>());
+        for (Element e : type.getEnclosedElements()) {
+            if (e.getKind().isClass()) {
+                indexClass((TypeElement) e);
+            }
+        }
+    }
+
+    private void indexListener(ExecutableElement method) {
+        Types types = this.processingEnv.getTypeUtils();
+        StringBuilder descriptor = new StringBuilder("(");
+        for (VariableElement parameter : method.getParameters()) {
+            appendDescriptor(descriptor, types.erasure(parameter.asType()));
+        }
+        descriptor.append(")V");
+
+        Listener listener = method.getAnnotation(Listener.class);
+        this.index.computeIfAbsent(getBinaryName((TypeElement) method.getEnclosingElement()), name -> new ArrayList<>())
+                .add("listener " + method.getSimpleName() + ' ' + descriptor + ' ' + listener.order().name() + ' '
+                        + listener.beforeModifications() + ' ' + listener.async() + ' ' + listener.batched());
+    }
+
+    private void appendDescriptor(StringBuilder builder, TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                builder.append('Z');
+                break;
+            case BYTE:
+                builder.append('B');
+                break;
+            case SHORT:
+                builder.append('S');
+                break;
+            case INT:
+                builder.append('I');
+                break;
+            case LONG:
+                builder.append('J');
+                break;
+            case CHAR:
+                builder.append('C');
+                break;
+            case FLOAT:
+                builder.append('F');
+                break;
+            case DOUBLE:
+                builder.append('D');
+                break;
+            case ARRAY:
+                builder.append('[');
+                appendDescriptor(builder, ((ArrayType) type).getComponentType());
+                break;
+            case DECLARED:
+                builder.append('L').append(getBinaryName((TypeElement) ((DeclaredType) type).asElement()).replace('.', '/')).append(';');
+                break;
+            default:
+                throw new IllegalArgumentException("Unexpected parameter type " + type);
+        }
+    }
+
+    private String getBinaryName(TypeElement type) {
+        return this.processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject file = this.processingEnv.getFiler().createResource(CLASS_OUTPUT, "", ListenerIndex.LOCATION);
+            try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+                for (Map.Entry<String, List<String>> entry : this.index.entrySet()) {
+                    writer.write("class " + entry.getKey());
+                    writer.newLine();
+                    for (String line : entry.getValue()) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(ERROR, "Failed to write the listener index: " + e);
+        }
+    }
+
+    private boolean hasFilter(Element element) {
+        for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+            if (type.getQualifiedName().toString().startsWith(FILTER_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private boolean isTypeSubclass(Element typedElement, String subclass) {
         Elements elements = this.processingEnv.getElementUtils();
         Types types = this.processingEnv.getTypeUtils();
@@ -101,4 +253,12 @@ private boolean isTypeSubclass(Element typedElement, String subclass) {
         return types.isAssignable(typedElement.asType(), event);
     }
 
+    private boolean isErasedType(Element typedElement, String className) {
+        Elements elements = this.processingEnv.getElementUtils();
+        Types types = this.processingEnv.getTypeUtils();
+
+        TypeMirror type = types.erasure(elements.getTypeElement(className).asType());
+        return types.isSameType(types.erasure(typedElement.asType()), type);
+    }
+
 }
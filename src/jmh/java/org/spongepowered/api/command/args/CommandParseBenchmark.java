@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.spongepowered.api.command.args.GenericArguments.flags;
+import static org.spongepowered.api.command.args.GenericArguments.integer;
+import static org.spongepowered.api.command.args.GenericArguments.optionalWeak;
+import static org.spongepowered.api.command.args.GenericArguments.remainingJoinedStrings;
+import static org.spongepowered.api.command.args.GenericArguments.seq;
+import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.command.args.parsing.InputTokenizer;
+import org.spongepowered.api.command.args.parsing.SingleArg;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing chains of optional elements that all fail on their input
+ * and have to be backtracked, with and without leading flags.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandParseBenchmark {
+
+    @Param({"4", "16"})
+    public int depth;
+
+    private CommandElement optionals;
+    private CommandElement flagged;
+    private String optionalsInput;
+    private List<SingleArg> optionalsArgs;
+    private String flaggedInput;
+    private List<SingleArg> flaggedArgs;
+
+    @Setup
+    public void setup() throws ArgumentParseException {
+        final CommandElement[] elements = new CommandElement[this.depth + 1];
+        final StringBuilder words = new StringBuilder();
+        final StringBuilder flags = new StringBuilder();
+        for (int i = 0; i < this.depth; i++) {
+            elements[i] = optionalWeak(integer(t("number" + i)));
+            words.append(" word").append(i);
+            flags.append("--long").append(i).append("=value -s ");
+        }
+        elements[this.depth] = remainingJoinedStrings(t("rest"));
+        this.optionals = seq(elements);
+        this.flagged = flags()
+                .setUnknownLongFlagBehavior(CommandFlags.UnknownFlagBehavior.ACCEPT_VALUE)
+                .setUnknownShortFlagBehavior(CommandFlags.UnknownFlagBehavior.ACCEPT_NONVALUE)
+                .buildWith(this.optionals);
+
+        final InputTokenizer tokenizer = InputTokenizer.spaceSplitString();
+        this.optionalsInput = words.toString().trim();
+        this.optionalsArgs = tokenizer.tokenize(this.optionalsInput, false);
+        this.flaggedInput = flags.append(this.optionalsInput).toString();
+        this.flaggedArgs = tokenizer.tokenize(this.flaggedInput, false);
+    }
+
+    @Benchmark
+    public CommandContext optionalChain() throws ArgumentParseException {
+        final CommandContext context = new CommandContext();
+        this.optionals.parse(null, new CommandArgs(this.optionalsInput, this.optionalsArgs), context);
+        return context;
+    }
+
+    @Benchmark
+    public CommandContext flagChain() throws ArgumentParseException {
+        final CommandContext context = new CommandContext();
+        this.flagged.parse(null, new CommandArgs(this.flaggedInput, this.flaggedArgs), context);
+        return context;
+    }
+
+}
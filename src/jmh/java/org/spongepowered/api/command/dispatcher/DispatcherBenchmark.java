@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Compares alias lookups and first argument completion of
+ * {@link SimpleDispatcher} and {@link TrieDispatcher}, copying the
+ * completions like {@link Dispatcher#getSuggestions} does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherBenchmark {
+
+    @Param({"100", "3000"})
+    public int aliases;
+
+    private final SimpleDispatcher simple = new SimpleDispatcher();
+    private final TrieDispatcher trie = new TrieDispatcher();
+    private String alias;
+    private String prefix;
+
+    @Setup
+    public void setup() {
+        final Random random = new Random(0);
+        for (int i = 0; i < this.aliases; i++) {
+            final char[] chars = new char[4 + random.nextInt(8)];
+            for (int j = 0; j < chars.length; j++) {
+                chars[j] = (char) ('a' + random.nextInt(26));
+            }
+            final String alias = new String(chars);
+            final Command command = new Command();
+            this.simple.register(command, alias);
+            this.trie.register(command, alias);
+            if (i == this.aliases / 2) {
+                this.alias = alias;
+            }
+        }
+        this.prefix = this.alias.substring(0, 2);
+    }
+
+    @Benchmark
+    public Optional<CommandMapping> getSimple() {
+        return this.simple.get(this.alias, null);
+    }
+
+    @Benchmark
+    public Optional<CommandMapping> getTrie() {
+        return this.trie.get(this.alias, null);
+    }
+
+    @Benchmark
+    public List<String> completeSimple() {
+        return ImmutableList.copyOf(this.simple.filterCommands(null, this.prefix));
+    }
+
+    @Benchmark
+    public List<String> completeTrie() {
+        return ImmutableList.copyOf(this.trie.filterCommands(null, this.prefix));
+    }
+
+    private static final class Command implements CommandCallable {
+
+        @Override
+        public CommandResult process(CommandSource source, String arguments) {
+            return CommandResult.empty();
+        }
+
+        @Override
+        public List<String> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPosition) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean testPermission(CommandSource source) {
+            return true;
+        }
+
+        @Override
+        public Optional<Text> getShortDescription(CommandSource source) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Text> getHelp(CommandSource source) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Text getUsage(CommandSource source) {
+            return Text.EMPTY;
+        }
+
+    }
+
+}
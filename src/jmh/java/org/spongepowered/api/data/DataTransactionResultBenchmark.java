@@ -0,0 +1,192 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import com.google.common.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.data.ChangeDataHolderEvent;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataTransactionResultBenchmark {
+
+    private ImmutableValue<?>[] values;
+    private DataTransactionResult result;
+
+    @Setup
+    public void setup() {
+        this.values = new ImmutableValue<?>[8];
+        for (int i = 0; i < this.values.length; i++) {
+            this.values[i] = new SimpleValue(new SimpleKey("key" + i, i), i);
+        }
+        this.result = build();
+    }
+
+    @Benchmark
+    public DataTransactionResult build() {
+        final DataTransactionResult.Builder builder = DataTransactionResult.builder();
+        for (int i = 0; i < this.values.length; i++) {
+            if (i % 2 == 0) {
+                builder.success(this.values[i]);
+            } else {
+                builder.replace(this.values[i]);
+            }
+        }
+        return builder.result(DataTransactionResult.Type.SUCCESS).build();
+    }
+
+    @Benchmark
+    public DataTransactionResult absorb() {
+        return DataTransactionResult.builder()
+                .result(DataTransactionResult.Type.SUCCESS)
+                .absorbResult(this.result)
+                .absorbResult(this.result)
+                .build();
+    }
+
+    private static final class SimpleKey implements Key<ImmutableValue<Integer>> {
+
+        private final String id;
+        private final DataQuery query;
+        private final int ordinal;
+
+        SimpleKey(String id, int ordinal) {
+            this.id = id;
+            this.query = DataQuery.of(id);
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Override
+        public String getName() {
+            return this.id;
+        }
+
+        @Override
+        public TypeToken<ImmutableValue<Integer>> getValueToken() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public TypeToken<?> getElementToken() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DataQuery getQuery() {
+            return this.query;
+        }
+
+        @Override
+        public int getOrdinal() {
+            return this.ordinal;
+        }
+
+        @Override
+        public <E extends DataHolder> void registerEvent(Class<E> holderFilter, EventListener<ChangeDataHolderEvent.ValueChange> listener) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+    private static final class SimpleValue implements ImmutableValue<Integer> {
+
+        private final SimpleKey key;
+        private final Integer value;
+
+        SimpleValue(SimpleKey key, Integer value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        @Override
+        public Integer get() {
+            return this.value;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public Integer getDefault() {
+            return 0;
+        }
+
+        @Override
+        public Optional<Integer> getDirect() {
+            return Optional.of(this.value);
+        }
+
+        @Override
+        public Key<? extends BaseValue<Integer>> getKey() {
+            return this.key;
+        }
+
+        @Override
+        public ImmutableValue<Integer> with(Integer value) {
+            return new SimpleValue(this.key, value);
+        }
+
+        @Override
+        public ImmutableValue<Integer> transform(Function<Integer, Integer> function) {
+            return with(function.apply(this.value));
+        }
+
+        @Override
+        public Value<Integer> asMutable() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
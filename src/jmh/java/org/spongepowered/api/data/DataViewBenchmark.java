@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataViewBenchmark {
+
+    private static final DataQuery NAME = of("name");
+    private static final DataQuery COUNT = of("count");
+    private static final DataQuery NESTED_VALUE = of("nested", "deeper", "value");
+
+    @Param({"LINKED_MAP", "COMPACT"})
+    public DataContainer.Layout layout;
+
+    private DataContainer container;
+
+    @Setup
+    public void setup() {
+        this.container = DataContainer.createNew(this.layout);
+        for (int i = 0; i < 16; i++) {
+            this.container.set(of("key" + i), i);
+        }
+        this.container.set(NAME, "benchmark")
+                .set(COUNT, 42)
+                .set(NESTED_VALUE, 1.5D);
+    }
+
+    @Benchmark
+    public DataContainer set() {
+        return DataContainer.createNew(this.layout)
+                .set(NAME, "benchmark")
+                .set(COUNT, 42)
+                .set(NESTED_VALUE, 1.5D);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return this.container.getInt(COUNT).get();
+    }
+
+    @Benchmark
+    public double getNested() {
+        return this.container.getDouble(NESTED_VALUE).get();
+    }
+
+    @Benchmark
+    public DataContainer copy() {
+        return this.container.copy();
+    }
+
+    @Benchmark
+    public void getValuesDeep(Blackhole blackhole) {
+        for (Map.Entry<DataQuery, Object> entry : this.container.getValues(true).entrySet()) {
+            blackhole.consume(entry.getValue());
+        }
+    }
+
+    @Benchmark
+    public void visit(Blackhole blackhole) {
+        this.container.visit((path, value) -> blackhole.consume(value));
+    }
+
+    @Benchmark
+    public void walk(Blackhole blackhole) {
+        this.container.walk().forEach(entry -> blackhole.consume(entry.getValue()));
+    }
+
+}
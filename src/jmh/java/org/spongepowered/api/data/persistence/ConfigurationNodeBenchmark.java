@@ -0,0 +1,87 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import ninja.leaping.configurate.ConfigurationNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.data.ConfigurationNodeDataContainer;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigurationNodeBenchmark {
+
+    private static final DataQuery VALUE = of("world7", "rules", "rule3", "value");
+
+    private ConfigurationNode node;
+    private DataContainer container;
+
+    @Setup
+    public void setup() {
+        this.node = ConfigurationNode.root();
+        for (int world = 0; world < 10; world++) {
+            final ConfigurationNode rules = this.node.getNode("world" + world, "rules");
+            for (int rule = 0; rule < 10; rule++) {
+                rules.getNode("rule" + rule, "value").setValue(rule);
+                rules.getNode("rule" + rule, "enabled").setValue(rule % 2 == 0);
+            }
+        }
+        this.container = ConfigurationNodeTranslator.INSTANCE.translate(this.node);
+    }
+
+    @Benchmark
+    public DataContainer nodeToView() {
+        return ConfigurationNodeTranslator.INSTANCE.translate(this.node);
+    }
+
+    @Benchmark
+    public ConfigurationNode viewToNode() {
+        return ConfigurationNodeTranslator.INSTANCE.translate(this.container);
+    }
+
+    @Benchmark
+    public int liveRead() {
+        return ConfigurationNodeDataContainer.of(this.node).getInt(VALUE).get();
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.cause;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Cause} lookups against scanning the causes, the way every
+ * lookup was answered before the per class index.
+ *
+ * <p>The lookups of {@link #listeners(Blackhole)} stand in for the
+ * listeners of a single event, querying the same cause for a few types.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CauseBenchmark {
+
+    private static final Class<?>[] LISTENER_TARGETS = {Player.class, Entity.class, Plugin.class, Player.class, Block.class, Entity.class,
+            Player.class, Plugin.class};
+
+    @Param({"3", "6", "12"})
+    public int depth;
+
+    private Object[] objects;
+    private Cause cause;
+
+    @Setup
+    public void setup() {
+        this.objects = new Object[this.depth];
+        for (int i = 0; i < this.depth; i++) {
+            switch (i % 3) {
+                case 0:
+                    this.objects[i] = new Block() { };
+                    break;
+                case 1:
+                    this.objects[i] = new Entity() { };
+                    break;
+                default:
+                    this.objects[i] = new Plugin() { };
+            }
+        }
+        // The player is the last cause, so scans walk the whole cause
+        this.objects[this.depth - 1] = new Player() { };
+        this.cause = Cause.of(EventContext.empty(), this.objects[0], copyOfRange(this.objects, 1));
+    }
+
+    private static Object[] copyOfRange(Object[] objects, int from) {
+        final Object[] copy = new Object[objects.length - from];
+        System.arraycopy(objects, from, copy, 0, copy.length);
+        return copy;
+    }
+
+    @Benchmark
+    public Optional<Player> first() {
+        return this.cause.first(Player.class);
+    }
+
+    @Benchmark
+    public Optional<Player> firstScan() {
+        for (Object object : this.objects) {
+            if (Player.class.isInstance(object)) {
+                return Optional.of((Player) object);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Benchmark
+    public void listeners(Blackhole blackhole) {
+        // A new cause per event, so the index is built once per invocation
+        final Cause cause = new Cause(EventContext.empty(), this.objects);
+        for (Class<?> target : LISTENER_TARGETS) {
+            blackhole.consume(cause.first(target));
+        }
+    }
+
+    @Benchmark
+    public void listenersScan(Blackhole blackhole) {
+        final Cause cause = new Cause(EventContext.empty(), this.objects);
+        for (Class<?> target : LISTENER_TARGETS) {
+            Object found = null;
+            for (Object object : cause.cause) {
+                if (target.isInstance(object)) {
+                    found = object;
+                    break;
+                }
+            }
+            blackhole.consume(Optional.ofNullable(found));
+        }
+    }
+
+    private interface Block {
+    }
+
+    private interface Entity {
+    }
+
+    private interface Player extends Entity {
+    }
+
+    private interface Plugin {
+    }
+
+}
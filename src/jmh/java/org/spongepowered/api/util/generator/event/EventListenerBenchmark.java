@@ -0,0 +1,130 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.filter.cause.First;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares a generated listener against calling the listener method
+ * reflectively after resolving its parameter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventListenerBenchmark {
+
+    private Listeners listeners;
+    private Method method;
+    private EventListener<Event> generated;
+    private TestEvent event;
+
+    @Setup
+    public void setup(Blackhole blackhole) throws Exception {
+        this.listeners = new Listeners(blackhole);
+        this.method = Listeners.class.getMethod("onEvent", TestEvent.class, String.class);
+        this.generated = new EventListenerFactory("org.spongepowered.benchmark.listener").create(this.listeners, this.method);
+        this.event = new TestEvent(Cause.of(EventContext.empty(), 1, 2L, "foo"));
+    }
+
+    @Benchmark
+    public void generated() throws Exception {
+        this.generated.handle(this.event);
+    }
+
+    @Benchmark
+    public void reflective() throws Exception {
+        if (this.event.isCancelled()) {
+            return;
+        }
+        final Optional<String> first = this.event.getCause().first(String.class);
+        if (first.isPresent()) {
+            this.method.invoke(this.listeners, this.event, first.get());
+        }
+    }
+
+    public static class Listeners {
+
+        private final Blackhole blackhole;
+
+        Listeners(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        public void onEvent(TestEvent event, @First String value) {
+            this.blackhole.consume(value);
+        }
+
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        TestEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+}
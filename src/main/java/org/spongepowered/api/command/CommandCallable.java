@@ -31,6 +31,8 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -71,6 +73,35 @@ public interface CommandCallable {
      */
     List<String> getSuggestions(CommandSource source, String arguments, @Nullable  Location<World> targetPosition) throws CommandException;
 
+    /**
+     * Gets a list of suggestions based on input, without blocking the calling
+     * thread on lookups which may take a while, such as of stored users.
+     *
+     * <p>The arguments are always parsed on the calling thread, only the slow
+     * lookups run on the given executor. Implementations without support for
+     * this gather all suggestions on the calling thread before
+     * returning.</p>
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @param targetPosition The position the source is looking at when
+     *     performing tab completion
+     * @param executor The executor to run slow lookups on
+     * @return A future completed with the suggestions, or exceptionally with
+     *     a {@link CommandException} if there was a parsing error
+     * @see #getSuggestions(CommandSource, String, Location)
+     */
+    default CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments,
+            @Nullable Location<World> targetPosition, Executor executor) {
+        final CompletableFuture<List<String>> future = new CompletableFuture<>();
+        try {
+            future.complete(getSuggestions(source, arguments, targetPosition));
+        } catch (CommandException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
     /**
      * Test whether this command can probably be executed by the given source.
      *
@@ -32,6 +32,8 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -175,4 +177,25 @@ public interface CommandManager extends Dispatcher {
     @Override
     List<String> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPosition);
 
+    /**
+     * Gets a list of suggestions based on input, without blocking the calling
+     * thread on lookups which may take a while, such as of stored users.
+     *
+     * <p>Implementations serving clients should route requests through a
+     * {@link SuggestionTracker}, so a newer request of a source cancels its
+     * previous one and repeated requests are answered from its cache.</p>
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @param targetPosition The position the source is looking at when
+     *     performing tab completion
+     * @param executor The executor to run slow lookups on
+     * @return A future completed with the suggestions
+     */
+    @Override
+    default CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments,
+            @Nullable Location<World> targetPosition, Executor executor) {
+        return Dispatcher.super.getSuggestionsAsync(source, arguments, targetPosition, executor);
+    }
+
 }
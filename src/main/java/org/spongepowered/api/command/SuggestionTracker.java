@@ -0,0 +1,215 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.base.Objects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Gathers suggestions of a {@link CommandCallable} asynchronously on behalf
+ * of many {@link CommandSource}s, as a client requests them while typing.
+ *
+ * <p>Each source only has one request in flight, a newer request cancels
+ * the previous one of the same source. A request which takes longer than the
+ * deadline is completed exceptionally with a {@link TimeoutException}. In
+ * both cases the future returned by the callable is cancelled as well.
+ * Suggestions are cached per source for a short time, so retyping the same
+ * arguments does not gather them again.</p>
+ */
+public final class SuggestionTracker {
+
+    /**
+     * The maximum amount of suggestion lists which are cached.
+     */
+    private static final int CACHE_SIZE = 1024;
+
+    private static final ScheduledExecutorService TIMEOUTS = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("SuggestionTracker-Timeout")
+            .setDaemon(true)
+            .build());
+
+    private final CommandCallable callable;
+    private final Executor executor;
+    private final long timeout;
+    private final ConcurrentMap<String, CompletableFuture<List<String>>> pending = new ConcurrentHashMap<>();
+    private final Cache<Request, List<String>> cache;
+
+    /**
+     * Creates a new tracker.
+     *
+     * @param callable The callable to gather suggestions from
+     * @param executor The executor to run slow lookups on
+     * @param timeout The time after which a request is given up
+     * @param cacheDuration The time suggestions are cached for
+     * @param unit The unit of the timeout and cache duration
+     */
+    public SuggestionTracker(CommandCallable callable, Executor executor, long timeout, long cacheDuration, TimeUnit unit) {
+        this.callable = checkNotNull(callable, "callable");
+        this.executor = checkNotNull(executor, "executor");
+        checkNotNull(unit, "unit");
+        checkArgument(timeout > 0, "timeout must be positive");
+        checkArgument(cacheDuration >= 0, "cacheDuration must not be negative");
+        this.timeout = unit.toNanos(timeout);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(CACHE_SIZE)
+                .expireAfterWrite(cacheDuration, unit)
+                .build();
+    }
+
+    /**
+     * Gets a list of suggestions based on input, cancelling the previous
+     * request of the source if it is still in flight.
+     *
+     * @param source The command source
+     * @param arguments The arguments entered up to this point
+     * @param targetPosition The position the source is looking at when
+     *     performing tab completion
+     * @return A future completed with the suggestions, or exceptionally with
+     *     a {@link CommandException} if there was a parsing error or a
+     *     {@link TimeoutException} if the deadline passed
+     * @see CommandCallable#getSuggestionsAsync(CommandSource, String, Location, Executor)
+     */
+    public CompletableFuture<List<String>> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPosition) {
+        checkNotNull(source, "source");
+        checkNotNull(arguments, "arguments");
+        final String identifier = source.getIdentifier();
+        final Request request = new Request(identifier, arguments, targetPosition);
+        final CompletableFuture<List<String>> result = new CompletableFuture<>();
+        final CompletableFuture<List<String>> previous = this.pending.put(identifier, result);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+
+        final List<String> cached = this.cache.getIfPresent(request);
+        if (cached != null) {
+            this.pending.remove(identifier, result);
+            result.complete(cached);
+            return result;
+        }
+
+        final ScheduledFuture<?> deadline = TIMEOUTS.schedule(() -> result.completeExceptionally(
+                new TimeoutException("Suggestions for '" + arguments + "' took too long")), this.timeout, TimeUnit.NANOSECONDS);
+        result.whenComplete((suggestions, e) -> {
+            deadline.cancel(false);
+            this.pending.remove(identifier, result);
+        });
+        final CompletableFuture<List<String>> suggestions;
+        try {
+            suggestions = this.callable.getSuggestionsAsync(source, arguments, targetPosition, this.executor);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        suggestions.whenComplete((list, e) -> {
+            if (e != null) {
+                result.completeExceptionally(e);
+            } else if (list == null) {
+                result.completeExceptionally(new NullPointerException("Suggestions for '" + arguments + "' were null"));
+            } else {
+                this.cache.put(request, list);
+                result.complete(list);
+            }
+        });
+        result.whenComplete((list, e) -> {
+            if (e != null) {
+                // Stop gathering suggestions which nobody is waiting for
+                suggestions.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Gets whether the given source has a request in flight.
+     *
+     * @param source The command source
+     * @return Whether a request is in flight
+     */
+    public boolean isPending(CommandSource source) {
+        return this.pending.containsKey(source.getIdentifier());
+    }
+
+    /**
+     * Discards all cached suggestions, for example after commands were
+     * registered or removed.
+     */
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    private static final class Request {
+
+        private final String source;
+        private final String arguments;
+        @Nullable private final Location<World> targetPosition;
+
+        Request(String source, String arguments, @Nullable Location<World> targetPosition) {
+            this.source = source;
+            this.arguments = arguments;
+            this.targetPosition = targetPosition;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Request that = (Request) o;
+            return this.source.equals(that.source)
+                    && this.arguments.equals(that.arguments)
+                    && Objects.equal(this.targetPosition, that.targetPosition);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(this.source, this.arguments, this.targetPosition);
+        }
+
+    }
+
+}
@@ -27,6 +27,11 @@
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.TranslatableText;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 import javax.annotation.Nullable;
 
 /**
@@ -49,4 +54,24 @@ public static String textToArgKey(@Nullable Text key) {
         return key.toPlain();
     }
 
+    /**
+     * Gets a future completed with the completions of all the given futures,
+     * added in order to a new collection.
+     *
+     * @param futures The futures of completions
+     * @param collection The supplier of the collection to add them to
+     * @param <C> The type of collection
+     * @return The future of all completions
+     */
+    static <C extends Collection<String>> CompletableFuture<C> collectCompletions(List<CompletableFuture<List<String>>> futures,
+            Supplier<C> collection) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[futures.size()])).thenApply(v -> {
+            final C completions = collection.get();
+            for (CompletableFuture<List<String>> future : futures) {
+                completions.addAll(future.join());
+            }
+            return completions;
+        });
+    }
+
 }
@@ -149,4 +149,24 @@ public Text getUsage() {
 
     }
 
+    /**
+     * An {@link ArgumentParseException} without a stack trace, as created by
+     * {@link CommandArgs#createError(Text)}. Parse errors are reported to the
+     * source and often discarded while trying other elements, so the stack
+     * trace is never worth filling in.
+     */
+    static final class Stackless extends ArgumentParseException {
+        private static final long serialVersionUID = 3412853707938046210L;
+
+        Stackless(Text message, String source, int position) {
+            super(message, source, position);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+    }
+
 }
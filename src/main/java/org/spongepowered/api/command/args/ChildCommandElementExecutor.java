@@ -47,6 +47,9 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.Nullable;
@@ -163,6 +166,43 @@ public List<String> complete(final CommandSource src, CommandArgs args, CommandC
         return completions;
     }
 
+    @Override
+    public CompletableFuture<List<String>> completeAsync(final CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+        final CommandArgs.Snapshot state = args.getSnapshot();
+        final Optional<String> commandComponent = args.nextIfPresent();
+        if (!commandComponent.isPresent() || !args.hasNext()) {
+            // Only child commands can have slow completions
+            args.applySnapshot(state);
+            return CompletableFuture.completedFuture(complete(src, args, context));
+        }
+        Optional<CommandMapping> child = this.dispatcher.get(commandComponent.get(), src);
+        if (!child.isPresent()) {
+            return CompletableFuture.completedFuture(ImmutableList.of());
+        }
+        if (child.get().getCallable() instanceof CommandSpec) {
+            return ((CommandSpec) child.get().getCallable()).completeAsync(src, args, context, executor);
+        }
+        args.nextIfPresent();
+        final String arguments = args.getRaw().substring(args.getRawPosition());
+        while (args.hasNext()) {
+            args.nextIfPresent();
+        }
+        return child.get()
+                .getCallable()
+                .getSuggestionsAsync(src, arguments, context.<Location<World>>getOne(CommandContext.TARGET_BLOCK_ARG).orElse(null), executor)
+                .exceptionally(e -> {
+                    final Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                    if (!(cause instanceof CommandException)) {
+                        throw e instanceof CompletionException ? (CompletionException) e : new CompletionException(e);
+                    }
+                    final Text eText = ((CommandException) cause).getText();
+                    if (eText != null) {
+                        src.sendMessage(error(eText));
+                    }
+                    return ImmutableList.of();
+                });
+    }
+
     private Set<String> filterCommands(final CommandSource src) {
         return Multimaps.filterValues(this.dispatcher.getAll(),
             input ->
@@ -37,6 +37,8 @@
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * Holder for command arguments.
  */
@@ -44,6 +46,8 @@ public final class CommandArgs {
     private final String rawInput;
     private List<SingleArg> args;
     private int index = -1;
+    // The arguments as of the last snapshot, null if they changed since
+    @Nullable private ImmutableList<SingleArg> snapshotArgs;
 
     /**
      * Create a new CommandArgs instance with the given raw input and arguments.
@@ -107,6 +111,21 @@ public String next() throws ArgumentParseException {
         return this.args.get(++this.index).getValue();
     }
 
+    /**
+     * Try to read the next argument, advancing the current index if successful.
+     * Unlike {@link #next()}, the argument is not copied into a string if
+     * it is a view of the raw input.
+     *
+     * @return The next argument
+     * @throws ArgumentParseException if not enough arguments are present
+     */
+    public CharSequence nextCharSequence() throws ArgumentParseException {
+        if (!hasNext()) {
+            throw createError(t("Not enough arguments!"));
+        }
+        return this.args.get(++this.index).getCharSequence();
+    }
+
     /**
      * Try to read the next argument, advancing the current index if successful
      * or returning an absent optional if not.
@@ -122,11 +141,14 @@ public Optional<String> nextIfPresent() {
      * of the last parsed argument attached. The returned exception must be
      * thrown at the target
      *
+     * <p>The exception does not carry a stack trace, as it only reports
+     * invalid input.</p>
+     *
      * @param message The message for the exception
      * @return the newly created, but unthrown exception
      */
     public ArgumentParseException createError(Text message) {
-        return new ArgumentParseException(message, this.rawInput, this.index < 0 ? 0 : this.args.get(this.index).getStartIdx());
+        return new ArgumentParseException.Stackless(message, this.rawInput, this.index < 0 ? 0 : this.args.get(this.index).getStartIdx());
     }
 
     /**
@@ -139,7 +161,7 @@ public List<String> getAll() {
     }
 
     List<SingleArg> getArgs() {
-        return this.args;
+        return Collections.unmodifiableList(this.args);
     }
 
     /**
@@ -197,6 +219,7 @@ public String get(int index) {
     public void insertArg(String value) {
         int index = this.index < 0 ? 0 : this.args.get(this.index).getEndIdx();
         this.args.add(this.index + 1, new SingleArg(value, index, index));
+        this.snapshotArgs = null;
     }
 
     /**
@@ -237,6 +260,7 @@ private void removeArgs(int startIdx, int endIdx) {
         for (int i = startIdx; i <= endIdx; ++i) {
             this.args.remove(startIdx);
         }
+        this.snapshotArgs = null;
     }
 
     /**
@@ -274,7 +298,12 @@ public int getRawPosition() {
      *      {@link CommandArgs}
      */
     public Snapshot getSnapshot() {
-        return new Snapshot(this.index, this.args);
+        // Only copy the arguments if they changed since the last snapshot
+        ImmutableList<SingleArg> args = this.snapshotArgs;
+        if (args == null) {
+            args = this.snapshotArgs = ImmutableList.copyOf(this.args);
+        }
+        return new Snapshot(this.index, args);
     }
 
     /**
@@ -301,9 +330,10 @@ public void applySnapshot(Snapshot snapshot) {
      */
     public void applySnapshot(Snapshot snapshot, boolean resetArgs) {
         this.index = snapshot.index;
-        if (resetArgs) {
+        if (resetArgs && snapshot.args != this.snapshotArgs) {
             this.args.clear();
             this.args.addAll(snapshot.args);
+            this.snapshotArgs = snapshot.args;
         }
     }
 
@@ -315,9 +345,9 @@ public final class Snapshot {
         final int index;
         final ImmutableList<SingleArg> args;
 
-        Snapshot(int index, List<SingleArg> args) {
+        Snapshot(int index, ImmutableList<SingleArg> args) {
             this.index = index;
-            this.args = ImmutableList.copyOf(args);
+            this.args = args;
         }
 
         @Override
@@ -41,6 +41,8 @@
 import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 /**
  * Context that a command is executed in.
  * This object stores parsed arguments from other commands
@@ -60,6 +62,8 @@ public final class CommandContext {
 
     private final Multimap<String, Object> parsedArgs;
     private final Set<String> definedFlags;
+    // The last snapshot, null if anything changed since
+    @Nullable private Snapshot snapshot;
 
     /**
      * Create a new empty CommandContext.
@@ -185,6 +189,7 @@ public <T> T requireOne(Text key)
     public void putArg(String key, Object value) {
         checkNotNull(value, "value");
         this.parsedArgs.put(key, value);
+        this.snapshot = null;
     }
 
     /**
@@ -204,6 +209,7 @@ public void putArg(Text key, Object value) {
      */
     public void addFlag(String key) {
         definedFlags.add(key);
+        this.snapshot = null;
     }
 
     /**
@@ -282,7 +288,11 @@ public boolean hasFlag(Text key) {
      *      {@link CommandContext}
      */
     public Snapshot createSnapshot() {
-        return new Snapshot(this.parsedArgs, this.definedFlags);
+        // Only copy the state if it changed since the last snapshot
+        if (this.snapshot == null) {
+            this.snapshot = new Snapshot(this.parsedArgs, this.definedFlags);
+        }
+        return this.snapshot;
     }
 
     /**
@@ -292,10 +302,14 @@ public Snapshot createSnapshot() {
      * @param snapshot The {@link Snapshot} to restore this context with
      */
     public void applySnapshot(Snapshot snapshot) {
+        if (snapshot == this.snapshot) {
+            return;
+        }
         this.parsedArgs.clear();
         this.parsedArgs.putAll(snapshot.args);
         this.definedFlags.clear();
         this.definedFlags.addAll(snapshot.flags);
+        this.snapshot = snapshot;
     }
 
     /**
@@ -29,6 +29,8 @@
 import org.spongepowered.api.text.TranslatableText;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -93,6 +95,31 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
         }
     }
 
+    /**
+     * Attempt to extract a value for this element from the given arguments and
+     * put it in the given context, returning the error instead of throwing it
+     * if the arguments could not be parsed.
+     *
+     * <p>Elements combining other elements override this to try them without
+     * throwing and catching an exception for every failed attempt. By default
+     * this catches the exception thrown by
+     * {@link #parse(CommandSource, CommandArgs, CommandContext)}.</p>
+     *
+     * @param source The source to parse for
+     * @param args The args to extract from
+     * @param context The context to supply to
+     * @return The error if unable to extract a value, otherwise null
+     */
+    @Nullable
+    public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+        try {
+            parse(source, args, context);
+            return null;
+        } catch (ArgumentParseException e) {
+            return e;
+        }
+    }
+
     /**
      * Attempt to extract a value for this element from the given arguments.
      * This method is expected to have no side-effects for the source, meaning
@@ -117,6 +144,25 @@ public void parse(CommandSource source, CommandArgs args, CommandContext context
      */
     public abstract List<String> complete(CommandSource src, CommandArgs args, CommandContext context);
 
+    /**
+     * Fetch completions for command arguments, running lookups which may take
+     * a while on the given executor.
+     *
+     * <p>The arguments must be consumed before returning, like
+     * {@link #complete(CommandSource, CommandArgs, CommandContext)} does, so
+     * elements after this one can continue from them. By default all
+     * completions are fetched on the calling thread.</p>
+     *
+     * @param src The source requesting tab completions
+     * @param args The arguments currently provided
+     * @param context The context to store state in
+     * @param executor The executor to run slow lookups on
+     * @return A future completed with any relevant completions
+     */
+    public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+        return CompletableFuture.completedFuture(complete(src, args, context));
+    }
+
     /**
      * Return a usage message for this specific argument.
      *
@@ -68,30 +68,42 @@ protected CommandFlags(@Nullable CommandElement childElement, Map<List<String>,
 
     @Override
     public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+        ArgumentParseException error = tryParse(source, args, context);
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    @Nullable
+    @Override
+    public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
         CommandArgs.Snapshot state = args.getSnapshot();
-        while (args.hasNext()) {
-            String arg = args.next();
-            if (arg.startsWith("-")) {
-                CommandArgs.Snapshot start = args.getSnapshot();
-                boolean remove;
-                if (arg.startsWith("--")) { // Long flag
-                    remove = parseLongFlag(source, arg.substring(2), args, context);
-                } else {
-                    remove = parseShortFlags(source, arg.substring(1), args, context);
-                }
-                if (remove) {
-                    args.removeArgs(start, args.getSnapshot());
+        try {
+            while (args.hasNext()) {
+                // Only flags are copied into strings, the other arguments are left to the child element
+                CharSequence arg = args.nextCharSequence();
+                if (arg.length() > 0 && arg.charAt(0) == '-') {
+                    CommandArgs.Snapshot start = args.getSnapshot();
+                    boolean remove;
+                    if (arg.length() > 1 && arg.charAt(1) == '-') { // Long flag
+                        remove = parseLongFlag(source, arg.subSequence(2, arg.length()).toString(), args, context);
+                    } else {
+                        remove = parseShortFlags(source, arg.subSequence(1, arg.length()).toString(), args, context);
+                    }
+                    if (remove) {
+                        args.removeArgs(start, args.getSnapshot());
+                    }
+                } else if (this.anchorFlags) {
+                    break;
                 }
-            } else if (this.anchorFlags) {
-                break;
             }
+        } catch (ArgumentParseException e) {
+            return e;
         }
         // We removed the arguments so we don't parse them as they have already been parsed as flags,
         // so don't restore them here!
         args.applySnapshot(state, false);
-        if (this.childElement != null) {
-            this.childElement.parse(source, args, context);
-        }
+        return this.childElement != null ? this.childElement.tryParse(source, args, context) : null;
     }
 
     private boolean parseLongFlag(CommandSource source, String longFlag, CommandArgs args, CommandContext context) throws ArgumentParseException {
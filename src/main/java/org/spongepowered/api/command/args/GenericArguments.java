@@ -84,6 +84,7 @@
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -91,14 +92,18 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -356,13 +361,30 @@ public static CommandElement plugin(Text key) {
 
     private static class PluginCommandElement extends PatternMatchingCommandElement {
 
+        // The plugins are all loaded before any command can be used
+        @Nullable private SortedChoices choices;
+
         protected PluginCommandElement(@Nullable Text key) {
             super(key);
         }
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Sponge.getPluginManager().getPlugins().stream().map(PluginContainer::getId).collect(Collectors.toList());
+            return getSortedChoices();
+        }
+
+        @Override
+        protected Iterable<String> getChoices(CommandSource source, String prefix) {
+            return getSortedChoices().startingWith(prefix);
+        }
+
+        private SortedChoices getSortedChoices() {
+            if (this.choices == null) {
+                this.choices = SortedChoices.of(Sponge.getPluginManager().getPlugins().stream()
+                        .map(PluginContainer::getId)
+                        .collect(Collectors.toList()));
+            }
+            return this.choices;
         }
 
         @Override
@@ -433,9 +455,22 @@ private static class SequenceCommandElement extends CommandElement {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             for (CommandElement element : this.elements) {
-                element.parse(source, args, context);
+                ArgumentParseException error = element.tryParse(source, args, context);
+                if (error != null) {
+                    return error;
+                }
             }
+            return null;
         }
 
         @Override
@@ -446,47 +481,65 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         @Override
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             Set<String> completions = Sets.newHashSet();
+            for (CompletableFuture<List<String>> future : complete(src, args, context,
+                    element -> CompletableFuture.completedFuture(element.complete(src, args, context)))) {
+                completions.addAll(future.join());
+            }
+            return Lists.newArrayList(completions);
+        }
+
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            return ArgUtils.collectCompletions(complete(src, args, context, element -> element.completeAsync(src, args, context, executor)),
+                    HashSet::new).thenApply(Lists::newArrayList);
+        }
+
+        /**
+         * Completes the element at the end of the arguments, and any optional
+         * elements before it, through the given function.
+         */
+        private List<CompletableFuture<List<String>>> complete(CommandSource src, CommandArgs args, CommandContext context,
+                Function<CommandElement, CompletableFuture<List<String>>> completer) {
+            List<CompletableFuture<List<String>>> completions = new ArrayList<>();
             for (CommandElement element : this.elements) {
                 CommandArgs.Snapshot state = args.getSnapshot();
                 CommandContext.Snapshot contextSnapshot = context.createSnapshot();
-                try {
-                    element.parse(src, args, context);
-
-                    // If we get here, the parse occurred successfully.
-                    // However, if nothing was consumed, then we should consider
-                    // what could have been.
-                    CommandContext.Snapshot afterSnapshot = context.createSnapshot();
-                    if (state.equals(args.getSnapshot())) {
-                        context.applySnapshot(contextSnapshot);
-                        completions.addAll(element.complete(src, args, context));
-                        args.applySnapshot(state);
-                        context.applySnapshot(afterSnapshot);
-                    } else if (args.hasNext()) {
-                        completions.clear();
-                    } else {
-                        // What we might also have - we have no args left to parse so
-                        // while the parse itself was successful, there could be other
-                        // valid entries to add...
-                        context.applySnapshot(contextSnapshot);
-                        args.applySnapshot(state);
-                        completions.addAll(element.complete(src, args, context));
-                        if (!(element instanceof OptionalCommandElement)) {
-                            break;
-                        }
-
-                        // The last element was optional, so we go back to before this
-                        // element would have been parsed, and assume it never existed...
-                        context.applySnapshot(contextSnapshot);
-                        args.applySnapshot(state);
-                    }
-                } catch (ArgumentParseException ignored) {
+                if (element.tryParse(src, args, context) != null) {
                     args.applySnapshot(state);
                     context.applySnapshot(contextSnapshot);
-                    completions.addAll(element.complete(src, args, context));
+                    completions.add(completer.apply(element));
                     break;
                 }
+
+                // If we get here, the parse occurred successfully.
+                // However, if nothing was consumed, then we should consider
+                // what could have been.
+                CommandContext.Snapshot afterSnapshot = context.createSnapshot();
+                if (state.equals(args.getSnapshot())) {
+                    context.applySnapshot(contextSnapshot);
+                    completions.add(completer.apply(element));
+                    args.applySnapshot(state);
+                    context.applySnapshot(afterSnapshot);
+                } else if (args.hasNext()) {
+                    completions.clear();
+                } else {
+                    // What we might also have - we have no args left to parse so
+                    // while the parse itself was successful, there could be other
+                    // valid entries to add...
+                    context.applySnapshot(contextSnapshot);
+                    args.applySnapshot(state);
+                    completions.add(completer.apply(element));
+                    if (!(element instanceof OptionalCommandElement)) {
+                        break;
+                    }
+
+                    // The last element was optional, so we go back to before this
+                    // element would have been parsed, and assume it never existed...
+                    context.applySnapshot(contextSnapshot);
+                    args.applySnapshot(state);
+                }
             }
-            return Lists.newArrayList(completions);
+            return completions;
         }
 
         @Override
@@ -712,22 +765,27 @@ private static class FirstParsingCommandElement extends CommandElement {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             ArgumentParseException lastException = null;
             for (CommandElement element : this.elements) {
                 CommandArgs.Snapshot startState = args.getSnapshot();
                 CommandContext.Snapshot contextSnapshot = context.createSnapshot();
-                try {
-                    element.parse(source, args, context);
-                    return;
-                } catch (ArgumentParseException ex) {
-                    lastException = ex;
-                    args.applySnapshot(startState);
-                    context.applySnapshot(contextSnapshot);
+                lastException = element.tryParse(source, args, context);
+                if (lastException == null) {
+                    return null;
                 }
+                args.applySnapshot(startState);
+                context.applySnapshot(contextSnapshot);
             }
-            if (lastException != null) {
-                throw lastException;
-            }
+            return lastException;
         }
 
         @Override
@@ -750,6 +808,17 @@ public List<String> complete(final CommandSource src, final CommandArgs args, fi
                 })));
         }
 
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            List<CompletableFuture<List<String>>> completions = new ArrayList<>();
+            for (CommandElement element : this.elements) {
+                CommandArgs.Snapshot snapshot = args.getSnapshot();
+                completions.add(element.completeAsync(src, args, context, executor));
+                args.applySnapshot(snapshot);
+            }
+            return ArgUtils.collectCompletions(completions, ArrayList::new).thenApply(ImmutableList::copyOf);
+        }
+
         @Override
         public Text getUsage(CommandSource commander) {
             final Text.Builder ret = Text.builder();
@@ -842,26 +911,35 @@ private static class OptionalCommandElement extends CommandElement {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             if (!args.hasNext()) {
                 Text key = this.element.getKey();
                 if (key != null && this.value != null) {
                     context.putArg(key.toPlain(), this.value);
                 }
-                return;
+                return null;
             }
             CommandArgs.Snapshot startState = args.getSnapshot();
-            try {
-                this.element.parse(source, args, context);
-            } catch (ArgumentParseException ex) {
-                if (this.considerInvalidFormatEmpty || args.hasNext()) { // If there are more args, suppress. Otherwise, throw the error
+            ArgumentParseException error = this.element.tryParse(source, args, context);
+            if (error != null) {
+                if (this.considerInvalidFormatEmpty || args.hasNext()) { // If there are more args, suppress. Otherwise, return the error
                     args.applySnapshot(startState);
                     if (this.element.getKey() != null && this.value != null) {
                         context.putArg(this.element.getUntranslatedKey(), this.value);
                     }
                 } else {
-                    throw ex;
+                    return error;
                 }
             }
+            return null;
         }
 
         @Override
@@ -874,6 +952,11 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
             return this.element.complete(src, args, context);
         }
 
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            return this.element.completeAsync(src, args, context, executor);
+        }
+
         @Override
         public Text getUsage(CommandSource src) {
             final Text containingUsage = this.element.getUsage(src);
@@ -911,9 +994,22 @@ protected RepeatedCommandElement(CommandElement element, int times) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             for (int i = 0; i < this.times; ++i) {
-                this.element.parse(source, args, context);
+                ArgumentParseException error = this.element.tryParse(source, args, context);
+                if (error != null) {
+                    return error;
+                }
             }
+            return null;
         }
 
         @Override
@@ -925,9 +1021,7 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             for (int i = 0; i < this.times; ++i) {
                 CommandArgs.Snapshot startState = args.getSnapshot();
-                try {
-                    this.element.parse(src, args, context);
-                } catch (ArgumentParseException e) {
+                if (this.element.tryParse(src, args, context) != null) {
                     args.applySnapshot(startState);
                     return this.element.complete(src, args, context);
                 }
@@ -964,9 +1058,22 @@ protected AllOfCommandElement(CommandElement element) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
             while (args.hasNext()) {
-                this.element.parse(source, args, context);
+                ArgumentParseException error = this.element.tryParse(source, args, context);
+                if (error != null) {
+                    return error;
+                }
             }
+            return null;
         }
 
         @Override
@@ -977,13 +1084,11 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         @Override
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             CommandArgs.Snapshot startState = null;
-            try {
-                while (args.hasNext()) {
-                    startState = args.getSnapshot();
-                    this.element.parse(src, args, context);
+            while (args.hasNext()) {
+                startState = args.getSnapshot();
+                if (this.element.tryParse(src, args, context) != null) {
+                    break;
                 }
-            } catch (ArgumentParseException e) {
-                // ignored
             }
 
             // The final element, if an exception was not thrown, might have more completions available to it.
@@ -1187,6 +1292,7 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
     private static class EnumValueElement<T extends Enum<T>> extends PatternMatchingCommandElement {
         private final Class<T> type;
         private final Map<String, T> values;
+        private final SortedChoices choices;
 
         EnumValueElement(Text key, Class<T> type) {
             super(key);
@@ -1198,6 +1304,7 @@ public static <T extends Enum<T>> CommandElement enumValue(Text key, Class<T> ty
                             + "with the same name, only differing by capitalization, which is unsupported.");
                     }
                 ));
+            this.choices = SortedChoices.of(this.values.keySet());
         }
 
         @Override
@@ -1205,6 +1312,11 @@ protected Iterable<String> getChoices(CommandSource source) {
             return this.values.keySet();
         }
 
+        @Override
+        protected Iterable<String> getChoices(CommandSource source, String prefix) {
+            return this.choices.startingWith(prefix);
+        }
+
         @Override
         protected Object getValue(String choice) throws IllegalArgumentException {
             T value = this.values.get(choice.toLowerCase());
@@ -1255,16 +1367,16 @@ private static class RemainingJoinedStringsCommandElement extends KeyElement {
         @Override
         protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
             if (this.raw) {
-                args.next();
+                args.nextCharSequence();
                 String ret = args.getRaw().substring(args.getRawPosition());
                 while (args.hasNext()) { // Consume remaining args
-                    args.next();
+                    args.nextCharSequence();
                 }
                 return ret;
             }
-            final StringBuilder ret = new StringBuilder(args.next());
+            final StringBuilder ret = new StringBuilder(args.nextCharSequence());
             while (args.hasNext()) {
-                ret.append(' ').append(args.next());
+                ret.append(' ').append(args.nextCharSequence());
             }
             return ret.toString();
         }
@@ -1381,6 +1493,22 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
             }
         }
 
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            final CommandArgs.Snapshot state = args.getSnapshot();
+            final Optional<String> nextArg = args.nextIfPresent();
+            if (nextArg.isPresent()) {
+                final List<String> selectors = Selector.complete(nextArg.get());
+                if (!selectors.isEmpty()) {
+                    // Leave the argument unconsumed like SelectorCommandElement#complete does
+                    args.applySnapshot(state);
+                    return CompletableFuture.completedFuture(selectors);
+                }
+            }
+            // Looking up all stored profiles may hit the disk
+            return CompletableFuture.supplyAsync(() -> getCompletions(src, nextArg.orElse(null)), executor);
+        }
+
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
             return Sponge.getGame().getServiceManager().provideUnchecked(UserStorageService.class).getAll().stream()
@@ -1555,7 +1683,8 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
             final Optional<String> nextArg = args.nextIfPresent();
             if (nextArg.isPresent()) {
                 if (useRegex) {
-                    choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
+                    Pattern pattern = getFormattedPattern(nextArg.get());
+                    choices = Iterables.filter(choices, input -> pattern.matcher(input).find());
                 } else {
                     String arg = nextArg.get();
                     choices = Iterables.filter(choices, input -> input.regionMatches(true, 0, arg, 0, arg.length()));
@@ -1766,6 +1895,8 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
 
     private static class CatalogedTypeCommandElement<T extends CatalogType> extends PatternMatchingCommandElement {
         private final Class<T> catalogType;
+        // The catalog types are all registered before any command can be used
+        @Nullable private SortedChoices choices;
 
         protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
             super(key);
@@ -1774,11 +1905,22 @@ protected CatalogedTypeCommandElement(Text key, Class<T> catalogType) {
 
         @Override
         protected Iterable<String> getChoices(CommandSource source) {
-            return Sponge.getGame().getRegistry().getAllOf(this.catalogType).stream()
-                .<String>map(input -> {
-                    return input == null ? null : input.getId(); // TODO: ids or names?
-                })
-                .collect(Collectors.toList());
+            return getSortedChoices();
+        }
+
+        @Override
+        protected Iterable<String> getChoices(CommandSource source, String prefix) {
+            return getSortedChoices().startingWith(prefix);
+        }
+
+        private SortedChoices getSortedChoices() {
+            if (this.choices == null) {
+                this.choices = SortedChoices.of(Sponge.getGame().getRegistry().getAllOf(this.catalogType).stream()
+                        .filter(Objects::nonNull)
+                        .map(CatalogType::getId) // TODO: ids or names?
+                        .collect(Collectors.toList()));
+            }
+            return this.choices;
         }
 
         @Override
@@ -1816,11 +1958,24 @@ protected OnlyOneCommandElement(CommandElement element) {
 
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-            this.element.parse(source, args, context);
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            ArgumentParseException error = this.element.tryParse(source, args, context);
+            if (error != null) {
+                return error;
+            }
             if (context.getAll(this.element.getUntranslatedKey()).size() > 1) {
                 Text key = this.element.getKey();
-                throw args.createError(t("Argument %s may have only one value!", key != null ? key : t("unknown")));
+                return args.createError(t("Argument %s may have only one value!", key != null ? key : t("unknown")));
             }
+            return null;
         }
 
         @Override
@@ -1838,6 +1993,11 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             return this.element.complete(src, args, context);
         }
+
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            return this.element.completeAsync(src, args, context, executor);
+        }
     }
 
     /**
@@ -1900,13 +2060,17 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
         private boolean checkPermission(CommandSource source, CommandArgs args) throws ArgumentParseException {
             boolean hasPermission = source.hasPermission(this.permission);
             if (!hasPermission && !this.isOptional) {
-                Text key = getKey();
-                throw args.createError(t("You do not have permission to use the %s argument", key != null ? key : t("unknown")));
+                throw createPermissionError(args);
             }
 
             return hasPermission;
         }
 
+        private ArgumentParseException createPermissionError(CommandArgs args) {
+            Text key = getKey();
+            return args.createError(t("You do not have permission to use the %s argument", key != null ? key : t("unknown")));
+        }
+
         @Override
         public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
             if (!src.hasPermission(this.permission)) {
@@ -1915,11 +2079,29 @@ public List<String> complete(CommandSource src, CommandArgs args, CommandContext
             return this.element.complete(src, args, context);
         }
 
+        @Override
+        public CompletableFuture<List<String>> completeAsync(CommandSource src, CommandArgs args, CommandContext context, Executor executor) {
+            if (!src.hasPermission(this.permission)) {
+                return CompletableFuture.completedFuture(ImmutableList.of());
+            }
+            return this.element.completeAsync(src, args, context, executor);
+        }
+
         @Override
         public void parse(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-            if (checkPermission(source, args)) {
-                this.element.parse(source, args, context);
+            ArgumentParseException error = tryParse(source, args, context);
+            if (error != null) {
+                throw error;
+            }
+        }
+
+        @Nullable
+        @Override
+        public ArgumentParseException tryParse(CommandSource source, CommandArgs args, CommandContext context) {
+            if (source.hasPermission(this.permission)) {
+                return this.element.tryParse(source, args, context);
             }
+            return this.isOptional ? null : createPermissionError(args);
         }
 
         @Override
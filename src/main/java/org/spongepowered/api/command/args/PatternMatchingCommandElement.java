@@ -26,6 +26,8 @@
 
 import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
 import org.spongepowered.api.command.CommandSource;
@@ -43,6 +45,16 @@
  */
 public abstract class PatternMatchingCommandElement extends CommandElement {
     private static final Text nullKeyArg = t("argument");
+
+    /**
+     * The maximum amount of compiled patterns which are cached.
+     */
+    private static final int PATTERN_CACHE_SIZE = 256;
+
+    private static final LoadingCache<String, Pattern> PATTERNS = Caffeine.newBuilder()
+            .maximumSize(PATTERN_CACHE_SIZE)
+            .build(PatternMatchingCommandElement::compilePattern);
+
     final boolean useRegex;
 
     /**
@@ -61,22 +73,29 @@ protected PatternMatchingCommandElement(@Nullable Text key) {
     @Nullable
     @Override
     protected Object parseValue(CommandSource source, CommandArgs args) throws ArgumentParseException {
-        Iterable<String> choices = getChoices(source);
-        Iterable<Object> ret;
         String arg = args.next();
-
-        // Check to see if we have an exact match first
-        Optional<Object> exactMatch = getExactMatch(choices, arg);
-        if (exactMatch.isPresent()) {
-            // Return this as a collection as this can get transformed by the subclass.
-            return Collections.singleton(exactMatch.get());
-        }
+        Iterable<Object> ret;
 
         if (this.useRegex) {
+            Iterable<String> choices = getChoices(source);
+
+            // Check to see if we have an exact match first
+            Optional<Object> exactMatch = getExactMatch(choices, arg);
+            if (exactMatch.isPresent()) {
+                // Return this as a collection as this can get transformed by the subclass.
+                return Collections.singleton(exactMatch.get());
+            }
+
             Pattern pattern = getFormattedPattern(arg);
             ret = Iterables.transform(Iterables.filter(choices, element -> pattern.matcher(element).find()), this::getValue);
         } else {
-            Iterable<String> startsWith = Iterables.filter(choices, element -> element.regionMatches(true, 0, arg, 0, arg.length()));
+            // An exact match always starts with the argument
+            Iterable<String> startsWith = getChoices(source, arg);
+            Optional<Object> exactMatch = getExactMatch(startsWith, arg);
+            if (exactMatch.isPresent()) {
+                return Collections.singleton(exactMatch.get());
+            }
+
             ret = Iterables.transform(startsWith, this::getValue);
         }
 
@@ -89,25 +108,38 @@ protected Object parseValue(CommandSource source, CommandArgs args) throws Argum
 
     @Override
     public List<String> complete(CommandSource src, CommandArgs args, CommandContext context) {
-        Iterable<String> choices = getChoices(src);
-        final Optional<String> nextArg = args.nextIfPresent();
-        if (nextArg.isPresent()) {
-            if (useRegex) {
-                choices = Iterables.filter(choices, input -> getFormattedPattern(nextArg.get()).matcher(input).find());
-            } else {
-                String arg = nextArg.get();
-                choices = Iterables.filter(choices, input -> input.regionMatches(true, 0, arg, 0, arg.length()));
-            }
+        return getCompletions(src, args.nextIfPresent().orElse(null));
+    }
+
+    /**
+     * Gets the choices matching the given argument.
+     *
+     * @param src The source requesting tab completions
+     * @param arg The argument, or null to get all choices
+     * @return The matching choices
+     */
+    List<String> getCompletions(CommandSource src, @Nullable String arg) {
+        Iterable<String> choices;
+        if (arg == null) {
+            choices = getChoices(src);
+        } else if (this.useRegex) {
+            Pattern pattern = getFormattedPattern(arg);
+            choices = Iterables.filter(getChoices(src), input -> pattern.matcher(input).find());
+        } else {
+            choices = getChoices(src, arg);
         }
         return ImmutableList.copyOf(choices);
     }
 
     Pattern getFormattedPattern(String input) {
+        return PATTERNS.get(input);
+    }
+
+    private static Pattern compilePattern(String input) {
         if (!input.startsWith("^")) { // Anchor matches to the beginning -- this lets us use find()
             input = "^" + input;
         }
         return Pattern.compile(input, Pattern.CASE_INSENSITIVE);
-
     }
 
     /**
@@ -130,6 +162,23 @@ protected Optional<Object> getExactMatch(final Iterable<String> choices, final S
      */
     protected abstract Iterable<String> getChoices(CommandSource source);
 
+    /**
+     * Gets the available choices for this command source which start with
+     * the given prefix, ignoring case.
+     *
+     * <p>By default this checks every choice of
+     * {@link #getChoices(CommandSource)}. Elements with many choices can
+     * override this to look them up in a {@link SortedChoices} index
+     * instead.</p>
+     *
+     * @param source The source requesting choices
+     * @param prefix The prefix of the choices
+     * @return the possible choices starting with the prefix
+     */
+    protected Iterable<String> getChoices(CommandSource source, String prefix) {
+        return Iterables.filter(getChoices(source), input -> input.regionMatches(true, 0, prefix, 0, prefix.length()));
+    }
+
     /**
      * Gets the value for a given choice. For any result in
      * {@link #getChoices(CommandSource)}, this must return a non-null value.
@@ -0,0 +1,136 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Ordering;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable set of choices sorted ignoring case, which finds the choices
+ * starting with a prefix in {@code O(log n + k)}.
+ *
+ * <p>{@link PatternMatchingCommandElement}s with many choices can keep an
+ * index of them to answer
+ * {@link PatternMatchingCommandElement#getChoices(CommandSource, String)}
+ * without checking every choice.</p>
+ */
+public final class SortedChoices implements Iterable<String> {
+
+    private static final SortedChoices EMPTY = new SortedChoices(ImmutableList.of());
+
+    /**
+     * Gets an index of the given choices.
+     *
+     * @param choices The choices
+     * @return The index
+     */
+    public static SortedChoices of(Iterable<String> choices) {
+        checkNotNull(choices, "choices");
+        final ImmutableList<String> sorted = Ordering.from(String.CASE_INSENSITIVE_ORDER).immutableSortedCopy(choices);
+        return sorted.isEmpty() ? EMPTY : new SortedChoices(sorted);
+    }
+
+    private final ImmutableList<String> choices;
+
+    private SortedChoices(ImmutableList<String> choices) {
+        this.choices = choices;
+    }
+
+    /**
+     * Gets the choices starting with the given prefix, ignoring case.
+     *
+     * @param prefix The prefix
+     * @return The matching choices, in order
+     */
+    public List<String> startingWith(String prefix) {
+        checkNotNull(prefix, "prefix");
+        final int start = lowerBound(prefix);
+        int end = start;
+        while (end < this.choices.size() && this.choices.get(end).regionMatches(true, 0, prefix, 0, prefix.length())) {
+            end++;
+        }
+        return this.choices.subList(start, end);
+    }
+
+    /**
+     * Gets the choice equal to the given string, ignoring case.
+     *
+     * @param choice The string
+     * @return The matching choice, if present
+     */
+    public Optional<String> get(String choice) {
+        checkNotNull(choice, "choice");
+        final int index = lowerBound(choice);
+        if (index < this.choices.size() && this.choices.get(index).equalsIgnoreCase(choice)) {
+            return Optional.of(this.choices.get(index));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Gets the number of choices.
+     *
+     * @return The number of choices
+     */
+    public int size() {
+        return this.choices.size();
+    }
+
+    /**
+     * Gets the choices as a list, in order.
+     *
+     * @return The choices
+     */
+    public List<String> asList() {
+        return this.choices;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return this.choices.iterator();
+    }
+
+    // The index of the first choice not ordered before the given string
+    private int lowerBound(String string) {
+        int low = 0;
+        int high = this.choices.size();
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (String.CASE_INSENSITIVE_ORDER.compare(this.choices.get(mid), string) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+}
@@ -75,7 +75,7 @@ public List<SingleArg> tokenize(String arguments, boolean lenient) throws Argume
                 skipWhiteSpace(state);
             }
             int startIdx = state.getIndex() + 1;
-            String arg = nextArg(state);
+            CharSequence arg = nextArg(state);
             returnedArgs.add(new SingleArg(arg, startIdx, state.getIndex()));
             if (this.trimTrailingSpace) {
                 skipWhiteSpace(state);
@@ -95,21 +95,24 @@ private void skipWhiteSpace(TokenizerState state) throws ArgumentParseException
         }
     }
 
-    private String nextArg(TokenizerState state) throws ArgumentParseException {
-        StringBuilder argBuilder = new StringBuilder();
+    /**
+     * Reads the next argument. Arguments without escapes are returned as a
+     * view of the input, the others are built into a new string.
+     */
+    private CharSequence nextArg(TokenizerState state) throws ArgumentParseException {
         if (state.hasMore()) {
             int codePoint = state.peek();
             if (this.handleQuotedStrings && (codePoint == CHAR_DOUBLE_QUOTE || codePoint == CHAR_SINGLE_QUOTE)) {
                 // quoted string
-                parseQuotedString(state, codePoint, argBuilder);
+                return parseQuotedString(state, codePoint);
             } else {
-                parseUnquotedString(state, argBuilder);
+                return parseUnquotedString(state);
             }
         }
-        return argBuilder.toString();
+        return "";
     }
 
-    private void parseQuotedString(TokenizerState state, int startQuotation, StringBuilder builder) throws ArgumentParseException {
+    private CharSequence parseQuotedString(TokenizerState state, int startQuotation) throws ArgumentParseException {
         // Consume the start quotation character
         int nextCodePoint = state.next();
         if (nextCodePoint != startQuotation) {
@@ -117,36 +120,52 @@ private void parseQuotedString(TokenizerState state, int startQuotation, StringB
                     nextCodePoint, startQuotation)));
         }
 
+        final int start = state.getIndex() + 1;
+        StringBuilder builder = null;
         while (true) {
             if (!state.hasMore()) {
                 if (state.isLenient() || this.forceLenient) {
-                    return;
+                    return builder == null ? state.slice(start, state.getIndex() + 1) : builder.toString();
                 }
                 throw state.createException(Text.of("Unterminated quoted string found"));
             }
             nextCodePoint = state.peek();
             if (nextCodePoint == startQuotation) {
+                CharSequence arg = builder == null ? state.slice(start, state.getIndex() + 1) : builder.toString();
                 state.next();
-                return;
+                return arg;
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = new StringBuilder().append(state.slice(start, state.getIndex() + 1));
+                }
                 parseEscape(state, builder);
-            } else {
+            } else if (builder != null) {
                 builder.appendCodePoint(state.next());
+            } else {
+                state.next();
             }
         }
     }
 
-    private void parseUnquotedString(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
+    private CharSequence parseUnquotedString(TokenizerState state) throws ArgumentParseException {
+        final int start = state.getIndex() + 1;
+        StringBuilder builder = null;
         while (state.hasMore()) {
             int nextCodePoint = state.peek();
             if (Character.isWhitespace(nextCodePoint)) {
-                return;
+                break;
             } else if (nextCodePoint == CHAR_BACKSLASH) {
+                if (builder == null) {
+                    builder = new StringBuilder().append(state.slice(start, state.getIndex() + 1));
+                }
                 parseEscape(state, builder);
-            } else {
+            } else if (builder != null) {
                 builder.appendCodePoint(state.next());
+            } else {
+                state.next();
             }
         }
+        return builder == null ? state.slice(start, state.getIndex() + 1) : builder.toString();
     }
 
     private void parseEscape(TokenizerState state, StringBuilder builder) throws ArgumentParseException {
@@ -27,12 +27,18 @@
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 
+import javax.annotation.Nullable;
+
 /**
  * This represents a single argument with its start and end indexes
  * in the associated raw input string.
+ *
+ * <p>The value of an argument may be a view of the raw input, in which case
+ * it is only copied into a string once {@link #getValue()} is called.</p>
  */
 public final class SingleArg {
-    private final String value;
+    private final CharSequence sequence;
+    @Nullable private String value;
     private final int startIdx;
     private final int endIdx;
 
@@ -44,18 +50,49 @@ public final class SingleArg {
      * @param endIdx The ending index of {@code value} in an input string
      */
     public SingleArg(String value, int startIdx, int endIdx) {
+        this.sequence = value;
         this.value = value;
         this.startIdx = startIdx;
         this.endIdx = endIdx;
     }
 
+    /**
+     * Create a new argument from a sequence of characters, which is not
+     * copied into a string until it is needed.
+     *
+     * <p>The sequence must not be modified afterwards.</p>
+     *
+     * @param value The argument characters
+     * @param startIdx The starting index of {@code value} in an input string
+     * @param endIdx The ending index of {@code value} in an input string
+     */
+    public SingleArg(CharSequence value, int startIdx, int endIdx) {
+        this.sequence = value;
+        this.startIdx = startIdx;
+        this.endIdx = endIdx;
+    }
+
     /**
      * Gets the string used.
      *
      * @return The string used
      */
     public String getValue() {
-        return this.value;
+        String value = this.value;
+        if (value == null) {
+            value = this.value = this.sequence.toString();
+        }
+        return value;
+    }
+
+    /**
+     * Gets the characters used, without copying them into a string if that
+     * did not happen yet.
+     *
+     * @return The characters used
+     */
+    public CharSequence getCharSequence() {
+        return this.value != null ? this.value : this.sequence;
     }
 
     /**
@@ -87,18 +124,18 @@ public boolean equals(Object o) {
         SingleArg singleArg = (SingleArg) o;
         return this.startIdx == singleArg.startIdx
                && this.endIdx == singleArg.endIdx
-               && Objects.equal(this.value, singleArg.value);
+               && Objects.equal(getValue(), singleArg.getValue());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.value, this.startIdx, this.endIdx);
+        return Objects.hashCode(getValue(), this.startIdx, this.endIdx);
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("value", this.value)
+                .add("value", getValue())
                 .add("startIdx", this.startIdx)
                 .add("endIdx", this.endIdx)
                 .toString();
@@ -29,34 +29,35 @@
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 class SpaceSplitInputTokenizer implements InputTokenizer {
     public static final SpaceSplitInputTokenizer INSTANCE = new SpaceSplitInputTokenizer();
-    private static final Pattern SPACE_REGEX = Pattern.compile("^[ ]*$");
 
     private SpaceSplitInputTokenizer() {}
 
     @Override
     public List<SingleArg> tokenize(String arguments, boolean lenient) throws ArgumentParseException {
-        if (SPACE_REGEX.matcher(arguments).matches()) {
+        final int length = arguments.length();
+        int startIdx = 0;
+        while (startIdx < length && arguments.charAt(startIdx) == ' ') {
+            startIdx++;
+        }
+        if (startIdx == length) {
             return ImmutableList.of();
         }
 
+        // The arguments are views of the input, so no string is copied here
         List<SingleArg> ret = new ArrayList<>();
-        int lastIndex = 0;
-        int spaceIndex;
-        while ((spaceIndex = arguments.indexOf(" ")) != -1) {
-            if (spaceIndex != 0) {
-                ret.add(new SingleArg(arguments.substring(0, spaceIndex), lastIndex, lastIndex + spaceIndex));
-                arguments = arguments.substring(spaceIndex);
-            } else {
-                arguments = arguments.substring(1);
+        for (int i = startIdx; i < length; i++) {
+            if (arguments.charAt(i) == ' ') {
+                if (i != startIdx) {
+                    ret.add(new SingleArg(new InputSlice(arguments, startIdx, i), startIdx, i));
+                }
+                startIdx = i + 1;
             }
-            lastIndex += spaceIndex + 1;
         }
 
-        ret.add(new SingleArg(arguments, lastIndex, lastIndex + arguments.length()));
+        ret.add(new SingleArg(new InputSlice(arguments, startIdx, length), startIdx, length));
         return ret;
     }
 }
@@ -56,6 +56,10 @@ public int next() throws ArgumentParseException {
         return this.buffer.codePointAt(++this.index);
     }
 
+    public CharSequence slice(int start, int end) {
+        return new InputSlice(this.buffer, start, end);
+    }
+
     public ArgumentParseException createException(Text message) {
         return new ArgumentParseException(message, this.buffer, this.index);
     }
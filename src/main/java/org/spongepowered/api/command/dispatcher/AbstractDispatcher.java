@@ -0,0 +1,201 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.spongepowered.api.command.CommandMessageFormatting.SPACE_TEXT;
+import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandMessageFormatting;
+import org.spongepowered.api.command.CommandNotFoundException;
+import org.spongepowered.api.command.CommandResult;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.action.TextActions;
+import org.spongepowered.api.text.format.TextColors;
+import org.spongepowered.api.text.format.TextStyles;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+/**
+ * The behaviour shared by the {@link Dispatcher} implementations, which only
+ * differ in how they store their commands.
+ */
+abstract class AbstractDispatcher implements Dispatcher {
+
+    @Override
+    public abstract Optional<CommandMapping> get(String alias, @Nullable CommandSource source);
+
+    /**
+     * Gets the number of registered aliases.
+     *
+     * @return The number of aliases
+     */
+    public abstract int size();
+
+    /**
+     * Gets the aliases which have a command the given source has permission
+     * to use.
+     *
+     * @param src The source
+     * @return The aliases
+     */
+    abstract Set<String> filterCommands(CommandSource src);
+
+    /**
+     * Gets the aliases starting with the given string which have a command
+     * the given source has permission to use.
+     *
+     * @param src The source
+     * @param start The start of the aliases, in any case
+     * @return The aliases
+     */
+    abstract Set<String> filterCommands(CommandSource src, String start);
+
+    @Override
+    public Optional<CommandMapping> get(String alias) {
+        return get(alias, null);
+    }
+
+    @Override
+    public CommandResult process(CommandSource source, String commandLine) throws CommandException {
+        final String[] argSplit = commandLine.split(" ", 2);
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], source);
+        if (!cmdOptional.isPresent()) {
+            throw new CommandNotFoundException(t("commands.generic.notFound"), argSplit[0]); // TODO: Fix properly to use a SpongeTranslation??
+        }
+        final String arguments = argSplit.length > 1 ? argSplit[1] : "";
+        CommandMapping mapping = cmdOptional.get();
+        Optional<PluginContainer> pluginOwner = Sponge.getCommandManager().getOwner(mapping);
+        pluginOwner.ifPresent(pluginContainer -> Sponge.getCauseStackManager().pushCause(pluginContainer));
+        final CommandCallable spec = mapping.getCallable();
+        Sponge.getCauseStackManager().pushCause(spec);
+        try {
+            return spec.process(source, arguments);
+        } catch (CommandNotFoundException e) {
+            throw new CommandException(t("No such child command: %s", e.getCommand()));
+        } finally {
+            if (pluginOwner.isPresent()) {
+                Sponge.getCauseStackManager().popCause();
+            }
+
+            Sponge.getCauseStackManager().popCause();
+        }
+    }
+
+    @Override
+    public List<String> getSuggestions(CommandSource src, final String arguments, @Nullable Location<World> targetPosition) throws CommandException {
+        final String[] argSplit = arguments.split(" ", 2);
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
+        if (argSplit.length == 1) {
+            return filterCommands(src, argSplit[0]).stream().collect(ImmutableList.toImmutableList());
+        } else if (!cmdOptional.isPresent()) {
+            return ImmutableList.of();
+        }
+        return cmdOptional.get().getCallable().getSuggestions(src, argSplit[1], targetPosition);
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getSuggestionsAsync(CommandSource src, final String arguments,
+            @Nullable Location<World> targetPosition, Executor executor) {
+        final String[] argSplit = arguments.split(" ", 2);
+        if (argSplit.length == 1) {
+            return CompletableFuture.completedFuture(filterCommands(src, argSplit[0]).stream().collect(ImmutableList.toImmutableList()));
+        }
+        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
+        if (!cmdOptional.isPresent()) {
+            return CompletableFuture.completedFuture(ImmutableList.of());
+        }
+        return cmdOptional.get().getCallable().getSuggestionsAsync(src, argSplit[1], targetPosition, executor);
+    }
+
+    @Override
+    public Optional<Text> getShortDescription(CommandSource source) {
+        return Optional.empty();
+    }
+
+    @Override
+    public Optional<Text> getHelp(CommandSource source) {
+        if (size() == 0) {
+            return Optional.empty();
+        }
+        Text.Builder build = t("Available commands:\n").toBuilder();
+        for (Iterator<String> it = filterCommands(source).iterator(); it.hasNext();) {
+            final Optional<CommandMapping> mappingOpt = get(it.next(), source);
+            if (!mappingOpt.isPresent()) {
+                continue;
+            }
+            CommandMapping mapping = mappingOpt.get();
+            final Optional<Text> description = mapping.getCallable().getShortDescription(source);
+            build.append(Text.builder(mapping.getPrimaryAlias())
+                    .color(TextColors.GREEN)
+                    .style(TextStyles.UNDERLINE)
+                    .onClick(TextActions.suggestCommand("/" + mapping.getPrimaryAlias())).build(),
+                    SPACE_TEXT, description.orElse(mapping.getCallable().getUsage(source)));
+            if (it.hasNext()) {
+                build.append(Text.NEW_LINE);
+            }
+        }
+        return Optional.of(build.build());
+    }
+
+    @Override
+    public Text getUsage(final CommandSource source) {
+        final Text.Builder build = Text.builder();
+        Iterable<String> filteredCommands = filterCommands(source).stream()
+            .filter(input -> {
+                if (input == null) {
+                    return false;
+                }
+                final Optional<CommandMapping> ret = get(input, source);
+                return ret.isPresent() && ret.get().getPrimaryAlias().equals(input);
+            })
+            .collect(Collectors.toList());
+
+        for (Iterator<String> it = filteredCommands.iterator(); it.hasNext();) {
+            build.append(Text.of(it.next()));
+            if (it.hasNext()) {
+                build.append(CommandMessageFormatting.PIPE_TEXT);
+            }
+        }
+        return build.build();
+    }
+
+}
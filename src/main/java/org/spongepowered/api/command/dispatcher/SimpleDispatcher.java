@@ -25,8 +25,6 @@
 package org.spongepowered.api.command.dispatcher;
 
 import static com.google.common.base.Preconditions.checkNotNull;
-import static org.spongepowered.api.command.CommandMessageFormatting.SPACE_TEXT;
-import static org.spongepowered.api.util.SpongeApiTranslationHelper.t;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableList;
@@ -35,22 +33,10 @@
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Multimaps;
-import org.spongepowered.api.Sponge;
 import org.spongepowered.api.command.CommandCallable;
-import org.spongepowered.api.command.CommandException;
 import org.spongepowered.api.command.CommandMapping;
-import org.spongepowered.api.command.CommandMessageFormatting;
-import org.spongepowered.api.command.CommandNotFoundException;
-import org.spongepowered.api.command.CommandResult;
 import org.spongepowered.api.command.CommandSource;
 import org.spongepowered.api.command.ImmutableCommandMapping;
-import org.spongepowered.api.plugin.PluginContainer;
-import org.spongepowered.api.text.Text;
-import org.spongepowered.api.text.action.TextActions;
-import org.spongepowered.api.text.format.TextColors;
-import org.spongepowered.api.text.format.TextStyles;
-import org.spongepowered.api.world.Location;
-import org.spongepowered.api.world.World;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -61,14 +47,13 @@
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 /**
  * A simple implementation of a {@link Dispatcher}.
  */
-public final class SimpleDispatcher implements Dispatcher {
+public final class SimpleDispatcher extends AbstractDispatcher {
 
     /**
      * This is a disambiguator function that returns the first matching command.
@@ -288,11 +273,6 @@ public synchronized Set<String> getAliases() {
         return Collections.unmodifiableSet(aliases);
     }
 
-    @Override
-    public Optional<CommandMapping> get(String alias) {
-        return get(alias, null);
-    }
-
     @Override
     public synchronized Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
         List<CommandMapping> results = this.commands.get(alias.toLowerCase());
@@ -326,44 +306,6 @@ public boolean containsMapping(CommandMapping mapping) {
         return false;
     }
 
-    @Override
-    public CommandResult process(CommandSource source, String commandLine) throws CommandException {
-        final String[] argSplit = commandLine.split(" ", 2);
-        Optional<CommandMapping> cmdOptional = get(argSplit[0], source);
-        if (!cmdOptional.isPresent()) {
-            throw new CommandNotFoundException(t("commands.generic.notFound"), argSplit[0]); // TODO: Fix properly to use a SpongeTranslation??
-        }
-        final String arguments = argSplit.length > 1 ? argSplit[1] : "";
-        CommandMapping mapping = cmdOptional.get();
-        Optional<PluginContainer> pluginOwner = Sponge.getCommandManager().getOwner(mapping);
-        pluginOwner.ifPresent(pluginContainer -> Sponge.getCauseStackManager().pushCause(pluginContainer));
-        final CommandCallable spec = mapping.getCallable();
-        Sponge.getCauseStackManager().pushCause(spec);
-        try {
-            return spec.process(source, arguments);
-        } catch (CommandNotFoundException e) {
-            throw new CommandException(t("No such child command: %s", e.getCommand()));
-        } finally {
-            if (pluginOwner.isPresent()) {
-                Sponge.getCauseStackManager().popCause();
-            }
-
-            Sponge.getCauseStackManager().popCause();
-        }
-    }
-
-    @Override
-    public List<String> getSuggestions(CommandSource src, final String arguments, @Nullable Location<World> targetPosition) throws CommandException {
-        final String[] argSplit = arguments.split(" ", 2);
-        Optional<CommandMapping> cmdOptional = get(argSplit[0], src);
-        if (argSplit.length == 1) {
-            return filterCommands(src, argSplit[0]).stream().collect(ImmutableList.toImmutableList());
-        } else if (!cmdOptional.isPresent()) {
-            return ImmutableList.of();
-        }
-        return cmdOptional.get().getCallable().getSuggestions(src, argSplit[1], targetPosition);
-    }
-
     @Override
     public boolean testPermission(CommandSource source) {
         for (CommandMapping mapping : this.commands.values()) {
@@ -375,77 +317,23 @@ public boolean testPermission(CommandSource source) {
     }
 
     @Override
-    public Optional<Text> getShortDescription(CommandSource source) {
-        return Optional.empty();
-    }
-
-    @Override
-    public Optional<Text> getHelp(CommandSource source) {
-        if (this.commands.isEmpty()) {
-            return Optional.empty();
-        }
-        Text.Builder build = t("Available commands:\n").toBuilder();
-        for (Iterator<String> it = filterCommands(source).iterator(); it.hasNext();) {
-            final Optional<CommandMapping> mappingOpt = get(it.next(), source);
-            if (!mappingOpt.isPresent()) {
-                continue;
-            }
-            CommandMapping mapping = mappingOpt.get();
-            final Optional<Text> description = mapping.getCallable().getShortDescription(source);
-            build.append(Text.builder(mapping.getPrimaryAlias())
-                    .color(TextColors.GREEN)
-                    .style(TextStyles.UNDERLINE)
-                    .onClick(TextActions.suggestCommand("/" + mapping.getPrimaryAlias())).build(),
-                    SPACE_TEXT, description.orElse(mapping.getCallable().getUsage(source)));
-            if (it.hasNext()) {
-                build.append(Text.NEW_LINE);
-            }
-        }
-        return Optional.of(build.build());
-    }
-
-    private Set<String> filterCommands(final CommandSource src) {
+    Set<String> filterCommands(final CommandSource src) {
         return Multimaps.filterValues(this.commands, input -> input.getCallable().testPermission(src)).keys().elementSet();
     }
 
     // Filter out commands by String first
-    private Set<String> filterCommands(final CommandSource src, String start) {
+    @Override
+    Set<String> filterCommands(final CommandSource src, String start) {
         ListMultimap<String, CommandMapping> map = Multimaps.filterKeys(this.commands,
             input -> input != null && input.toLowerCase().startsWith(start.toLowerCase()));
         return Multimaps.filterValues(map, input -> input.getCallable().testPermission(src)).keys().elementSet();
     }
 
-    /**
-     * Gets the number of registered aliases.
-     *
-     * @return The number of aliases
-     */
+    @Override
     public synchronized int size() {
         return this.commands.size();
     }
 
-    @Override
-    public Text getUsage(final CommandSource source) {
-        final Text.Builder build = Text.builder();
-        Iterable<String> filteredCommands = filterCommands(source).stream()
-            .filter(input -> {
-                if (input == null) {
-                    return false;
-                }
-                final Optional<CommandMapping> ret = get(input, source);
-                return ret.isPresent() && ret.get().getPrimaryAlias().equals(input);
-            })
-            .collect(Collectors.toList());
-
-        for (Iterator<String> it = filteredCommands.iterator(); it.hasNext();) {
-            build.append(Text.of(it.next()));
-            if (it.hasNext()) {
-                build.append(CommandMessageFormatting.PIPE_TEXT);
-            }
-        }
-        return build.build();
-    }
-
     @Override
     public synchronized Set<CommandMapping> getAll(String alias) {
         return ImmutableSet.copyOf(this.commands.get(alias));
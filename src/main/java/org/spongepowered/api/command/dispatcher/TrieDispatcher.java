@@ -0,0 +1,449 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multimap;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandSource;
+import org.spongepowered.api.command.ImmutableCommandMapping;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link Dispatcher} storing its aliases in a prefix trie.
+ *
+ * <p>Resolving an alias and completing a prefix only walks the characters of
+ * the alias, no matter how many commands are registered. The trie is
+ * immutable and replaced as a whole on every change, so lookups never lock
+ * and are never blocked by registrations. This makes it a better fit than
+ * {@link SimpleDispatcher} for dispatchers with many aliases which are
+ * looked up and completed far more often than they change.</p>
+ *
+ * <p>Commands sharing an alias are kept in the order they were registered
+ * and passed to the {@link Disambiguator} like {@link SimpleDispatcher}
+ * does.</p>
+ */
+public final class TrieDispatcher extends AbstractDispatcher {
+
+    private final Disambiguator disambiguatorFunc;
+    private volatile Node root = Node.EMPTY;
+
+    /**
+     * Creates a basic new dispatcher.
+     */
+    public TrieDispatcher() {
+        this(SimpleDispatcher.FIRST_DISAMBIGUATOR);
+    }
+
+    /**
+     * Creates a new dispatcher with a specific disambiguator.
+     *
+     * @param disambiguatorFunc Function that returns the preferred command if
+     *     multiple exist for a given alias
+     */
+    public TrieDispatcher(Disambiguator disambiguatorFunc) {
+        this.disambiguatorFunc = checkNotNull(disambiguatorFunc, "disambiguatorFunc");
+    }
+
+    /**
+     * Register a given command using the given list of aliases.
+     *
+     * @param callable The command
+     * @param alias An array of aliases
+     * @return The registered command mapping, unless no aliases could be
+     *     registered
+     * @see SimpleDispatcher#register(CommandCallable, String...)
+     */
+    public Optional<CommandMapping> register(CommandCallable callable, String... alias) {
+        checkNotNull(alias, "alias");
+        return register(callable, Arrays.asList(alias));
+    }
+
+    /**
+     * Register a given command using the given list of aliases.
+     *
+     * @param callable The command
+     * @param aliases A list of aliases
+     * @return The registered command mapping, unless no aliases could be
+     *     registered
+     * @see SimpleDispatcher#register(CommandCallable, List)
+     */
+    public Optional<CommandMapping> register(CommandCallable callable, List<String> aliases) {
+        return register(callable, aliases, Function.identity());
+    }
+
+    /**
+     * Register a given command using a given list of aliases.
+     *
+     * @param callable The command
+     * @param aliases A list of aliases
+     * @param callback The callback
+     * @return The registered command mapping, unless no aliases could
+     *     be registered
+     * @see SimpleDispatcher#register(CommandCallable, List, Function)
+     */
+    public synchronized Optional<CommandMapping> register(CommandCallable callable, List<String> aliases,
+            Function<List<String>, List<String>> callback) {
+        checkNotNull(aliases, "aliases");
+        checkNotNull(callable, "callable");
+        checkNotNull(callback, "callback");
+
+        aliases = ImmutableList.copyOf(callback.apply(aliases));
+        if (aliases.isEmpty()) {
+            return Optional.empty();
+        }
+        String primary = aliases.get(0);
+        List<String> secondary = aliases.subList(1, aliases.size());
+        CommandMapping mapping = new ImmutableCommandMapping(callable, primary, secondary);
+
+        Node root = this.root;
+        for (String alias : aliases) {
+            root = root.update(alias.toLowerCase(), 0, mappings -> ImmutableList.<CommandMapping>builder()
+                    .addAll(mappings)
+                    .add(mapping)
+                    .build());
+        }
+        this.root = root;
+
+        return Optional.of(mapping);
+    }
+
+    /**
+     * Remove a mapping identified by the given alias.
+     *
+     * @param alias The alias
+     * @return The previous mapping associated with the alias, if one was found
+     */
+    public synchronized Collection<CommandMapping> remove(String alias) {
+        final String key = alias.toLowerCase();
+        final Node node = this.root.find(key);
+        if (node == null || node.mappings.isEmpty()) {
+            return ImmutableList.of();
+        }
+        this.root = this.root.update(key, 0, mappings -> ImmutableList.of());
+        return node.mappings;
+    }
+
+    /**
+     * Remove all mappings identified by the given aliases.
+     *
+     * @param aliases A collection of aliases
+     * @return Whether any were found
+     */
+    public synchronized boolean removeAll(Collection<?> aliases) {
+        checkNotNull(aliases, "aliases");
+
+        boolean found = false;
+
+        for (Object alias : aliases) {
+            if (!remove(alias.toString()).isEmpty()) {
+                found = true;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Remove a command identified by the given mapping.
+     *
+     * @param mapping The mapping
+     * @return The previous mapping associated with the alias, if one was found
+     */
+    public synchronized Optional<CommandMapping> removeMapping(CommandMapping mapping) {
+        checkNotNull(mapping, "mapping");
+
+        final Node root = this.root;
+        Node newRoot = root;
+        for (String alias : mapping.getAllAliases()) {
+            newRoot = newRoot.update(alias.toLowerCase(), 0, mappings -> remove(mappings, mapping));
+        }
+        this.root = newRoot;
+
+        return newRoot == root ? Optional.empty() : Optional.of(mapping);
+    }
+
+    private static ImmutableList<CommandMapping> remove(ImmutableList<CommandMapping> mappings, CommandMapping mapping) {
+        if (!mappings.contains(mapping)) {
+            return mappings;
+        }
+        final ImmutableList.Builder<CommandMapping> builder = ImmutableList.builder();
+        for (CommandMapping current : mappings) {
+            if (!current.equals(mapping)) {
+                builder.add(current);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Remove all mappings contained with the given collection.
+     *
+     * @param mappings The collection
+     * @return Whether the at least one command was removed
+     */
+    public synchronized boolean removeMappings(Collection<?> mappings) {
+        checkNotNull(mappings, "mappings");
+
+        boolean found = false;
+
+        for (Object mapping : mappings) {
+            if (mapping instanceof CommandMapping && removeMapping((CommandMapping) mapping).isPresent()) {
+                found = true;
+            }
+        }
+
+        return found;
+    }
+
+    @Override
+    public Set<CommandMapping> getCommands() {
+        final ImmutableSet.Builder<CommandMapping> commands = ImmutableSet.builder();
+        this.root.forEach(new StringBuilder(), (alias, mappings) -> commands.addAll(mappings));
+        return commands.build();
+    }
+
+    @Override
+    public Set<String> getPrimaryAliases() {
+        final ImmutableSet.Builder<String> aliases = ImmutableSet.builder();
+        this.root.forEach(new StringBuilder(), (alias, mappings) -> mappings.forEach(mapping -> aliases.add(mapping.getPrimaryAlias())));
+        return aliases.build();
+    }
+
+    @Override
+    public Set<String> getAliases() {
+        final ImmutableSet.Builder<String> aliases = ImmutableSet.builder();
+        this.root.forEach(new StringBuilder(), (alias, mappings) -> mappings.forEach(mapping -> aliases.addAll(mapping.getAllAliases())));
+        return aliases.build();
+    }
+
+    @Override
+    public Optional<CommandMapping> get(String alias, @Nullable CommandSource source) {
+        final Node node = this.root.find(alias.toLowerCase());
+        final List<CommandMapping> results = node == null ? ImmutableList.of() : node.mappings;
+        Optional<CommandMapping> result = Optional.empty();
+        if (results.size() == 1) {
+            result = Optional.of(results.get(0));
+        } else if (results.size() > 1) {
+            result = this.disambiguatorFunc.disambiguate(source, alias, results);
+        }
+        if (source != null) {
+            result = result.filter(m -> m.getCallable().testPermission(source));
+        }
+        return result;
+    }
+
+    @Override
+    public boolean containsAlias(String alias) {
+        final Node node = this.root.find(alias.toLowerCase());
+        return node != null && !node.mappings.isEmpty();
+    }
+
+    @Override
+    public boolean containsMapping(CommandMapping mapping) {
+        checkNotNull(mapping, "mapping");
+
+        final Node root = this.root;
+        for (String alias : mapping.getAllAliases()) {
+            final Node node = root.find(alias.toLowerCase());
+            if (node != null && node.mappings.contains(mapping)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public boolean testPermission(CommandSource source) {
+        for (CommandMapping mapping : getCommands()) {
+            if (mapping.getCallable().testPermission(source)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    Set<String> filterCommands(CommandSource src) {
+        return filterCommands(this.root, new StringBuilder(), src);
+    }
+
+    @Override
+    Set<String> filterCommands(CommandSource src, String start) {
+        final String prefix = start.toLowerCase();
+        final Node node = this.root.find(prefix);
+        if (node == null) {
+            return ImmutableSet.of();
+        }
+        return filterCommands(node, new StringBuilder(prefix), src);
+    }
+
+    private static Set<String> filterCommands(Node node, StringBuilder prefix, CommandSource src) {
+        final ImmutableSet.Builder<String> aliases = ImmutableSet.builder();
+        node.forEach(prefix, (alias, mappings) -> {
+            for (CommandMapping mapping : mappings) {
+                if (mapping.getCallable().testPermission(src)) {
+                    aliases.add(alias);
+                    return;
+                }
+            }
+        });
+        return aliases.build();
+    }
+
+    @Override
+    public int size() {
+        return this.root.size;
+    }
+
+    @Override
+    public Set<CommandMapping> getAll(String alias) {
+        final Node node = this.root.find(alias.toLowerCase());
+        return node == null ? ImmutableSet.of() : ImmutableSet.copyOf(node.mappings);
+    }
+
+    @Override
+    public Multimap<String, CommandMapping> getAll() {
+        final ImmutableListMultimap.Builder<String, CommandMapping> commands = ImmutableListMultimap.builder();
+        this.root.forEach(new StringBuilder(), commands::putAll);
+        return commands.build();
+    }
+
+    /**
+     * An immutable node of the trie, holding the commands of the alias
+     * ending at this node and the children for the next characters of longer
+     * aliases, sorted by their character.
+     */
+    private static final class Node {
+
+        static final Node EMPTY = new Node(new char[0], new Node[0], ImmutableList.of());
+
+        final char[] keys;
+        final Node[] children;
+        final ImmutableList<CommandMapping> mappings;
+        // The number of alias and command pairs in this subtree
+        final int size;
+
+        Node(char[] keys, Node[] children, ImmutableList<CommandMapping> mappings) {
+            this.keys = keys;
+            this.children = children;
+            this.mappings = mappings;
+            int size = mappings.size();
+            for (Node child : children) {
+                size += child.size;
+            }
+            this.size = size;
+        }
+
+        @Nullable
+        Node find(String alias) {
+            Node node = this;
+            for (int i = 0; i < alias.length() && node != null; i++) {
+                final int index = Arrays.binarySearch(node.keys, alias.charAt(i));
+                node = index < 0 ? null : node.children[index];
+            }
+            return node;
+        }
+
+        /**
+         * Returns a copy of this node with the commands of the given alias
+         * replaced, sharing all nodes which are not on the path to the alias.
+         */
+        Node update(String alias, int depth, UnaryOperator<ImmutableList<CommandMapping>> function) {
+            if (depth == alias.length()) {
+                final ImmutableList<CommandMapping> mappings = function.apply(this.mappings);
+                return mappings == this.mappings ? this : new Node(this.keys, this.children, mappings);
+            }
+            final char key = alias.charAt(depth);
+            final int index = Arrays.binarySearch(this.keys, key);
+            final Node child = index < 0 ? EMPTY : this.children[index];
+            final Node newChild = child.update(alias, depth + 1, function);
+            if (newChild == child) {
+                return this;
+            }
+            final boolean remove = newChild.size == 0;
+            if (index >= 0) {
+                if (!remove) {
+                    final Node[] children = this.children.clone();
+                    children[index] = newChild;
+                    return new Node(this.keys, children, this.mappings);
+                }
+                final char[] keys = new char[this.keys.length - 1];
+                final Node[] children = new Node[this.children.length - 1];
+                System.arraycopy(this.keys, 0, keys, 0, index);
+                System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+                System.arraycopy(this.children, 0, children, 0, index);
+                System.arraycopy(this.children, index + 1, children, index, children.length - index);
+                return new Node(keys, children, this.mappings);
+            }
+            if (remove) {
+                return this;
+            }
+            final int insert = -index - 1;
+            final char[] keys = new char[this.keys.length + 1];
+            final Node[] children = new Node[this.children.length + 1];
+            System.arraycopy(this.keys, 0, keys, 0, insert);
+            System.arraycopy(this.keys, insert, keys, insert + 1, this.keys.length - insert);
+            System.arraycopy(this.children, 0, children, 0, insert);
+            System.arraycopy(this.children, insert, children, insert + 1, this.children.length - insert);
+            keys[insert] = key;
+            children[insert] = newChild;
+            return new Node(keys, children, this.mappings);
+        }
+
+        /**
+         * Calls the consumer for every alias with commands in this subtree,
+         * in alphabetical order.
+         */
+        void forEach(StringBuilder prefix, BiConsumer<String, List<CommandMapping>> consumer) {
+            if (!this.mappings.isEmpty()) {
+                consumer.accept(prefix.toString(), this.mappings);
+            }
+            for (int i = 0; i < this.keys.length; i++) {
+                prefix.append(this.keys[i]);
+                this.children[i].forEach(prefix, consumer);
+                prefix.setLength(prefix.length() - 1);
+            }
+        }
+
+    }
+
+}
@@ -51,6 +51,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import javax.annotation.Nullable;
 
@@ -337,7 +339,10 @@ public void checkPermission(CommandSource source) throws CommandException {
      * @throws ArgumentParseException if an invalid argument is provided
      */
     public void populateContext(CommandSource source, CommandArgs args, CommandContext context) throws ArgumentParseException {
-        this.args.parse(source, args, context);
+        ArgumentParseException error = this.args.tryParse(source, args, context);
+        if (error != null) {
+            throw error;
+        }
         if (args.hasNext()) {
             args.next();
             throw args.createError(t("Too many arguments!"));
@@ -360,6 +365,24 @@ public List<String> complete(CommandSource source, CommandArgs args, CommandCont
         return ret == null ? ImmutableList.<String>of() : ImmutableList.copyOf(ret);
     }
 
+    /**
+     * Return tab completion results using the existing parsed arguments and
+     * context, running lookups which may take a while on the given executor.
+     *
+     * @param source The source to parse arguments for
+     * @param args The arguments object
+     * @param context The context object
+     * @param executor The executor to run slow lookups on
+     * @return A future completed with the possible completions
+     * @see #complete(CommandSource, CommandArgs, CommandContext)
+     */
+    public CompletableFuture<List<String>> completeAsync(CommandSource source, CommandArgs args, CommandContext context, Executor executor) {
+        checkNotNull(source, "source");
+        checkNotNull(executor, "executor");
+        return this.args.completeAsync(source, args, context, executor)
+                .thenApply(ret -> ret == null ? ImmutableList.<String>of() : ImmutableList.copyOf(ret));
+    }
+
     /**
      * Gets the active executor for this command. Generally not a good idea to
      * call this directly, unless you are handling arg parsing specially
@@ -391,12 +414,30 @@ public CommandResult process(CommandSource source, String arguments) throws Comm
     @Override
     public List<String> getSuggestions(CommandSource source, String arguments, @Nullable Location<World> targetPos) throws CommandException {
         CommandArgs args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
+        return complete(source, args, createCompletionContext(targetPos));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getSuggestionsAsync(CommandSource source, String arguments, @Nullable Location<World> targetPos,
+            Executor executor) {
+        final CommandArgs args;
+        try {
+            args = new CommandArgs(arguments, getInputTokenizer().tokenize(arguments, true));
+        } catch (ArgumentParseException e) {
+            final CompletableFuture<List<String>> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+        return completeAsync(source, args, createCompletionContext(targetPos), executor);
+    }
+
+    private static CommandContext createCompletionContext(@Nullable Location<World> targetPos) {
         CommandContext ctx = new CommandContext();
         if (targetPos != null) {
             ctx.putArg(CommandContext.TARGET_BLOCK_ARG, targetPos);
         }
         ctx.putArg(CommandContext.TAB_COMPLETION, true);
-        return complete(source, args, ctx);
+        return ctx;
     }
 
     @Override
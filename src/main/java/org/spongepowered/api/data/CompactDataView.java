@@ -0,0 +1,678 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Objects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.persistence.DataTranslator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataView} storing its entries in flat, parallel arrays instead of
+ * a map of boxed values.
+ *
+ * <p>Keys are interned and kept in insertion order, numbers and booleans are
+ * stored unboxed in a primitive slot and nested views are held directly by
+ * their parent. Lookups of small views are a linear scan over the cached
+ * key hashes, larger views additionally maintain an open addressing index.
+ * </p>
+ *
+ * <p>Apart from the memory layout this behaves exactly like a
+ * {@link MemoryDataView}.</p>
+ */
+class CompactDataView extends AbstractDataView {
+
+    /**
+     * The pool keys are interned into, views of the same shape will share
+     * their key instances.
+     */
+    static final Interner<String> KEYS = Interners.newWeakInterner();
+
+    private static final byte OBJECT = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte BYTE = 2;
+    private static final byte SHORT = 3;
+    private static final byte CHAR = 4;
+    private static final byte INT = 5;
+    private static final byte LONG = 6;
+    private static final byte FLOAT = 7;
+    private static final byte DOUBLE = 8;
+
+    private static final int INITIAL_CAPACITY = 4;
+    private static final int INDEX_THRESHOLD = 8;
+
+    private final DataContainer container;
+    @Nullable private final DataView parent;
+    private final DataQuery path;
+    private final DataView.SafetyMode safety;
+
+    private String[] keys = new String[INITIAL_CAPACITY];
+    private int[] hashes = new int[INITIAL_CAPACITY];
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private long[] primitives = new long[INITIAL_CAPACITY];
+    private Object[] objects = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    // Slot numbers offset by one, only present once the view outgrows a
+    // linear scan
+    @Nullable private int[] index;
+
+    CompactDataView(DataView.SafetyMode safety) {
+        checkArgument(this instanceof DataContainer, "Cannot construct a root CompactDataView without a container!");
+        this.path = of();
+        this.parent = null;
+        this.container = (DataContainer) this;
+        this.safety = checkNotNull(safety, "Safety mode");
+    }
+
+    private CompactDataView(CompactDataView parent, String key) {
+        this.parent = parent;
+        this.container = parent.container;
+        this.path = parent.path.then(key);
+        this.safety = parent.safety;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.ofNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (int i = 0; i < this.size; i++) {
+            builder.add(of(this.keys[i]));
+        }
+        if (deep) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.objects[i] instanceof CompactDataView) {
+                    final DataQuery key = of(this.keys[i]);
+                    for (DataQuery query : ((CompactDataView) this.objects[i]).getKeys(true)) {
+                        builder.add(key.then(query));
+                    }
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Passes every entry of this view to the consumer, in insertion order.
+     *
+     * @param consumer The consumer of keys and values
+     */
+    void forEachLocal(BiConsumer<String, Object> consumer) {
+        for (int i = 0; i < this.size; i++) {
+            final Object object = valueAt(i);
+            consumer.accept(this.keys[i], this.safety == SafetyMode.ALL_DATA_CLONED && object.getClass().isArray() ? cloneArray(object) : object);
+        }
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        final CompactDataView holder = holderOf(parts);
+        return holder != null && holder.find(parts.get(parts.size() - 1)) >= 0;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final CompactDataView holder = holderOf(parts);
+        if (holder == null) {
+            return Optional.empty();
+        }
+        final int slot = holder.find(parts.get(parts.size() - 1));
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        final Object object = holder.valueAt(slot);
+        if (this.safety == SafetyMode.ALL_DATA_CLONED && object.getClass().isArray()) {
+            return Optional.of(cloneArray(object));
+        }
+        return Optional.of(object);
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        CompactDataView view = this;
+        final int last = parts.size() - 1;
+        for (int i = 0; i < last; i++) {
+            view = view.getOrCreateChild(parts.get(i));
+        }
+        view.setLocal(parts.get(last), value);
+        return this;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void setLocal(String key, Object value) {
+        // Fast path for the values serializers write most, none of these
+        // can have a translator registered
+        if (setPrimitive(key, value)) {
+            return;
+        } else if (value instanceof String) {
+            setObject(key, value);
+            return;
+        }
+        if (value instanceof DataView) {
+            checkArgument(value != this, "Cannot set a DataView to itself.");
+            // always have to copy a data view to avoid overwriting existing
+            // views and to set the interior path correctly.
+            copyDataView(key, (DataView) value);
+            return;
+        } else if (value instanceof DataSerializable) {
+            DataContainer valueContainer = ((DataSerializable) value).toContainer();
+            checkArgument(!valueContainer.equals(this), "Cannot insert self-referencing DataSerializable");
+            // see above for why this is copied
+            copyDataView(key, valueContainer);
+            return;
+        } else if (value instanceof CatalogType) {
+            setObject(key, ((CatalogType) value).getId());
+            return;
+        }
+        @Nullable final DataManager manager = getDataManager();
+        if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            DataTranslator serializer = manager.getTranslator(value.getClass()).get();
+            final DataContainer container = serializer.translate(value);
+            checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+            // see above for why this is copied
+            copyDataView(key, container);
+        } else if (value instanceof Collection) {
+            setObject(key, serializeCollection((Collection) value, manager));
+        } else if (value instanceof Map) {
+            final CompactDataView view = createChild(key);
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                view.setLocal(entry.getKey().toString(), entry.getValue());
+            }
+        } else if (value.getClass().isArray()) {
+            if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
+                setObject(key, cloneArray(value));
+            } else {
+                setObject(key, value);
+            }
+        } else {
+            setObject(key, value);
+        }
+    }
+
+    private boolean setPrimitive(String key, Object value) {
+        final byte type;
+        final long bits;
+        if (value instanceof Integer) {
+            type = INT;
+            bits = (Integer) value;
+        } else if (value instanceof Double) {
+            type = DOUBLE;
+            bits = Double.doubleToRawLongBits((Double) value);
+        } else if (value instanceof Byte) {
+            type = BYTE;
+            bits = (Byte) value;
+        } else if (value instanceof Boolean) {
+            type = BOOLEAN;
+            bits = (Boolean) value ? 1 : 0;
+        } else if (value instanceof Long) {
+            type = LONG;
+            bits = (Long) value;
+        } else if (value instanceof Float) {
+            type = FLOAT;
+            bits = Float.floatToRawIntBits((Float) value);
+        } else if (value instanceof Short) {
+            type = SHORT;
+            bits = (Short) value;
+        } else if (value instanceof Character) {
+            type = CHAR;
+            bits = (Character) value;
+        } else {
+            return false;
+        }
+        final int slot = slotFor(key);
+        this.types[slot] = type;
+        this.primitives[slot] = bits;
+        this.objects[slot] = null;
+        return true;
+    }
+
+    private void setObject(String key, Object value) {
+        final int slot = slotFor(key);
+        this.types[slot] = OBJECT;
+        this.primitives[slot] = 0;
+        this.objects[slot] = value;
+    }
+
+    private void copyDataView(String key, DataView value) {
+        if (value.isEmpty()) {
+            // Mirrors MemoryDataView, which copies key by key and therefore
+            // never creates a view for an empty one
+            return;
+        }
+        final CompactDataView view = getOrCreateChild(key);
+        if (value instanceof CompactDataView) {
+            view.copyEntries((CompactDataView) value);
+            return;
+        }
+        for (DataQuery query : value.getKeys(false)) {
+            view.set(query, value.get(query).get());
+        }
+    }
+
+    /**
+     * Copies all entries of the given view into this one. Primitive slots and
+     * nested views are copied directly, everything else goes through the
+     * regular set logic so safety modes are respected.
+     *
+     * @param from The view to copy from
+     */
+    private void copyEntries(CompactDataView from) {
+        for (int i = 0; i < from.size; i++) {
+            final String key = from.keys[i];
+            final byte type = from.types[i];
+            if (type != OBJECT) {
+                final int slot = slotFor(key);
+                this.types[slot] = type;
+                this.primitives[slot] = from.primitives[i];
+                this.objects[slot] = null;
+            } else if (from.objects[i] instanceof CompactDataView) {
+                copyDataView(key, (CompactDataView) from.objects[i]);
+            } else {
+                Object object = from.objects[i];
+                if (from.safety == SafetyMode.ALL_DATA_CLONED && object.getClass().isArray()) {
+                    object = cloneArray(object);
+                }
+                setLocal(key, object);
+            }
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private ImmutableList<Object> serializeCollection(Collection<?> value, @Nullable DataManager manager) {
+        ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (Object object : value) {
+            if (object instanceof DataSerializable) {
+                builder.add(((DataSerializable) object).toContainer());
+            } else if (object instanceof DataView) {
+                if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
+                    CompactDataContainer view = new CompactDataContainer(this.safety);
+                    DataView internalView = (DataView) object;
+                    for (Map.Entry<DataQuery, Object> entry : internalView.getValues(false).entrySet()) {
+                        view.set(entry.getKey(), entry.getValue());
+                    }
+                    builder.add(view);
+                } else {
+                    builder.add(object);
+                }
+            } else if (object instanceof CatalogType) {
+                builder.add(((CatalogType) object).getId());
+            } else if (object instanceof Map) {
+                builder.add(ensureSerialization((Map) object));
+            } else if (object instanceof Collection) {
+                builder.add(ensureSerialization((Collection) object));
+            } else if (manager != null) {
+                final Optional<? extends DataTranslator<?>> translatorOptional = manager.getTranslator(object.getClass());
+                if (translatorOptional.isPresent()) {
+                    DataTranslator translator = translatorOptional.get();
+                    final DataContainer container = translator.translate(object);
+                    checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
+                    builder.add(container);
+                } else {
+                    builder.add(object);
+                }
+            } else {
+                builder.add(object);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        final CompactDataView holder = holderOf(parts);
+        if (holder != null) {
+            final int slot = holder.find(parts.get(parts.size() - 1));
+            if (slot >= 0) {
+                holder.removeSlot(slot);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        CompactDataView view = this;
+        final int last = parts.size() - 1;
+        for (int i = 0; i < last; i++) {
+            view = view.getOrCreateChild(parts.get(i));
+        }
+        return view.createChild(parts.get(last));
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        final CompactDataView holder = holderOf(parts);
+        if (holder != null) {
+            final int slot = holder.find(parts.get(parts.size() - 1));
+            if (slot >= 0 && holder.types[slot] == BOOLEAN) {
+                return Optional.of(holder.primitives[slot] != 0);
+            }
+        }
+        return super.getBoolean(path);
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        final CompactDataView holder = holderOf(parts);
+        if (holder != null) {
+            final int slot = holder.find(parts.get(parts.size() - 1));
+            if (slot >= 0 && holder.types[slot] == INT) {
+                return Optional.of((int) holder.primitives[slot]);
+            }
+        }
+        return super.getInt(path);
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        final CompactDataView holder = holderOf(parts);
+        if (holder != null) {
+            final int slot = holder.find(parts.get(parts.size() - 1));
+            if (slot >= 0 && holder.types[slot] == LONG) {
+                return Optional.of(holder.primitives[slot]);
+            }
+        }
+        return super.getLong(path);
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        final CompactDataView holder = holderOf(parts);
+        if (holder != null) {
+            final int slot = holder.find(parts.get(parts.size() - 1));
+            if (slot >= 0 && holder.types[slot] == DOUBLE) {
+                return Optional.of(Double.longBitsToDouble(holder.primitives[slot]));
+            }
+        }
+        return super.getDouble(path);
+    }
+
+    @Override
+    public DataContainer copy() {
+        return copy(this.safety);
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        final CompactDataContainer container = new CompactDataContainer(safety);
+        ((CompactDataView) container).copyEntries(this);
+        return container;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return this.safety;
+    }
+
+    /**
+     * Walks all but the last part of the given query, returning the view
+     * which would hold the last part.
+     *
+     * @param parts The parts of the query
+     * @return The holding view, or null if the query is empty or a part does
+     *     not resolve to a view
+     */
+    @Nullable
+    private CompactDataView holderOf(List<String> parts) {
+        final int last = parts.size() - 1;
+        if (last < 0) {
+            return null;
+        }
+        CompactDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final int slot = view.find(parts.get(i));
+            if (slot < 0 || !(view.objects[slot] instanceof CompactDataView)) {
+                return null;
+            }
+            view = (CompactDataView) view.objects[slot];
+        }
+        return view;
+    }
+
+    private CompactDataView getOrCreateChild(String key) {
+        final int slot = find(key);
+        if (slot >= 0 && this.objects[slot] instanceof CompactDataView) {
+            return (CompactDataView) this.objects[slot];
+        }
+        return createChild(key);
+    }
+
+    private CompactDataView createChild(String key) {
+        final CompactDataView view = new CompactDataView(this, key);
+        setObject(key, view);
+        return view;
+    }
+
+    private Object valueAt(int slot) {
+        final long bits = this.primitives[slot];
+        switch (this.types[slot]) {
+            case BOOLEAN:
+                return bits != 0;
+            case BYTE:
+                return (byte) bits;
+            case SHORT:
+                return (short) bits;
+            case CHAR:
+                return (char) bits;
+            case INT:
+                return (int) bits;
+            case LONG:
+                return bits;
+            case FLOAT:
+                return Float.intBitsToFloat((int) bits);
+            case DOUBLE:
+                return Double.longBitsToDouble(bits);
+            default:
+                return this.objects[slot];
+        }
+    }
+
+    private int find(String key) {
+        final int hash = key.hashCode();
+        if (this.index != null) {
+            final int mask = this.index.length - 1;
+            for (int i = spread(hash) & mask; ; i = (i + 1) & mask) {
+                final int slot = this.index[i] - 1;
+                if (slot < 0) {
+                    return -1;
+                }
+                if (this.hashes[slot] == hash && key.equals(this.keys[slot])) {
+                    return slot;
+                }
+            }
+        }
+        for (int i = 0; i < this.size; i++) {
+            if (this.hashes[i] == hash && key.equals(this.keys[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int slotFor(String key) {
+        final int existing = find(key);
+        if (existing >= 0) {
+            return existing;
+        }
+        if (this.size == this.keys.length) {
+            final int capacity = this.size << 1;
+            this.keys = Arrays.copyOf(this.keys, capacity);
+            this.hashes = Arrays.copyOf(this.hashes, capacity);
+            this.types = Arrays.copyOf(this.types, capacity);
+            this.primitives = Arrays.copyOf(this.primitives, capacity);
+            this.objects = Arrays.copyOf(this.objects, capacity);
+        }
+        final int slot = this.size++;
+        this.keys[slot] = KEYS.intern(key);
+        this.hashes[slot] = key.hashCode();
+        if (this.size > INDEX_THRESHOLD) {
+            if (this.index == null || this.size * 2 > this.index.length) {
+                rebuildIndex();
+            } else {
+                insertIndex(slot);
+            }
+        }
+        return slot;
+    }
+
+    private void removeSlot(int slot) {
+        final int moved = this.size - slot - 1;
+        if (moved > 0) {
+            System.arraycopy(this.keys, slot + 1, this.keys, slot, moved);
+            System.arraycopy(this.hashes, slot + 1, this.hashes, slot, moved);
+            System.arraycopy(this.types, slot + 1, this.types, slot, moved);
+            System.arraycopy(this.primitives, slot + 1, this.primitives, slot, moved);
+            System.arraycopy(this.objects, slot + 1, this.objects, slot, moved);
+        }
+        this.size--;
+        this.keys[this.size] = null;
+        this.objects[this.size] = null;
+        if (this.size > INDEX_THRESHOLD) {
+            rebuildIndex();
+        } else {
+            this.index = null;
+        }
+    }
+
+    private void rebuildIndex() {
+        this.index = new int[Integer.highestOneBit(this.keys.length) << 2];
+        for (int i = 0; i < this.size; i++) {
+            insertIndex(i);
+        }
+    }
+
+    private void insertIndex(int slot) {
+        final int[] index = this.index;
+        final int mask = index.length - 1;
+        int i = spread(this.hashes[slot]) & mask;
+        while (index[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        index[i] = slot + 1;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as the hash of an equivalent map of entries
+        int mapHash = 0;
+        for (int i = 0; i < this.size; i++) {
+            mapHash += this.keys[i].hashCode() ^ valueAt(i).hashCode();
+        }
+        return 31 * (31 + mapHash) + this.path.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final CompactDataView other = (CompactDataView) obj;
+        if (this.size != other.size || !Objects.equal(this.path, other.path)) {
+            return false;
+        }
+        for (int i = 0; i < this.size; i++) {
+            final int slot = other.find(this.keys[i]);
+            if (slot < 0 || !valueAt(i).equals(other.valueAt(slot))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        final Map<String, Object> map = Maps.newLinkedHashMap();
+        for (int i = 0; i < this.size; i++) {
+            map.put(this.keys[i], valueAt(i));
+        }
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        helper.add("safety", this.safety.name());
+        return helper.add("map", map).toString();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import ninja.leaping.configurate.ConfigurationNode;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.Optional;
+
+/**
+ * A {@link DataContainer} that is a live view of a {@link ConfigurationNode}.
+ *
+ * <p>Unlike translating the node with a
+ * {@link org.spongepowered.api.data.persistence.DataTranslator}, nothing is
+ * copied: every read goes straight to the node, and every write replaces the
+ * value of the node at the given path. As a consequence, setting a view
+ * replaces the view at that path instead of merging into it. Use
+ * {@link #copy()} to obtain a detached container.</p>
+ */
+public final class ConfigurationNodeDataContainer extends ConfigurationNodeDataView implements DataContainer {
+
+    /**
+     * Creates a new {@link ConfigurationNodeDataContainer} viewing the given
+     * {@link ConfigurationNode}.
+     *
+     * @param node The node to view
+     * @return The new container
+     */
+    public static ConfigurationNodeDataContainer of(ConfigurationNode node) {
+        return new ConfigurationNodeDataContainer(node);
+    }
+
+    ConfigurationNodeDataContainer(ConfigurationNode node) {
+        super(node);
+    }
+
+    /**
+     * Gets the {@link ConfigurationNode} viewed by this container.
+     *
+     * @return The node
+     */
+    public ConfigurationNode getNode() {
+        return this.node;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        super.set(path, value);
+        return this;
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "key").getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        super.remove(path);
+        return this;
+    }
+
+}
@@ -0,0 +1,313 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import ninja.leaping.configurate.ConfigurationNode;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.persistence.DataTranslator;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A live {@link DataView} of a {@link ConfigurationNode}.
+ *
+ * <p>Nothing is copied out of the node: values are read from the node when
+ * they are requested and written to it when they are set.</p>
+ */
+class ConfigurationNodeDataView extends AbstractDataView {
+
+    private final ConfigurationNodeDataContainer container;
+    private final DataQuery path;
+    final ConfigurationNode node;
+
+    ConfigurationNodeDataView(ConfigurationNode node) {
+        checkState(this instanceof ConfigurationNodeDataContainer, "Cannot construct a root ConfigurationNodeDataView without a container!");
+        this.container = (ConfigurationNodeDataContainer) this;
+        this.path = of();
+        this.node = checkNotNull(node, "node");
+    }
+
+    private ConfigurationNodeDataView(ConfigurationNodeDataContainer container, DataQuery path, ConfigurationNode node) {
+        this.container = container;
+        this.path = path;
+        this.node = node;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        if (this.path.getParts().size() <= 1) {
+            return Optional.of(this.container);
+        }
+        return this.container.getView(this.path.pop());
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        collectKeys(this.node, of(), deep, builder);
+        return builder.build();
+    }
+
+    private static void collectKeys(ConfigurationNode node, DataQuery prefix, boolean deep, ImmutableSet.Builder<DataQuery> builder) {
+        for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+            final DataQuery query = prefix.then(entry.getKey().toString());
+            builder.add(query);
+            if (deep && entry.getValue().isMap()) {
+                collectKeys(entry.getValue(), query, true, builder);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        return !parts.isEmpty() && !this.node.getNode(parts.toArray()).isVirtual();
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final ConfigurationNode node = this.node.getNode(parts.toArray());
+        if (node.isVirtual()) {
+            return Optional.empty();
+        }
+        if (node.isMap()) {
+            return Optional.of(new ConfigurationNodeDataView(this.container, this.path.then(path), node));
+        }
+        return Optional.ofNullable(read(node));
+    }
+
+    @Nullable
+    private static Object read(ConfigurationNode node) {
+        if (node.isMap()) {
+            // Elements of lists don't have a path, so they are viewed as
+            // containers of their own
+            return new ConfigurationNodeDataContainer(node);
+        } else if (node.isList()) {
+            ImmutableList.Builder<Object> builder = ImmutableList.builder();
+            for (ConfigurationNode element : node.getChildrenList()) {
+                final Object value = read(element);
+                if (value != null) {
+                    builder.add(value);
+                }
+            }
+            return builder.build();
+        }
+        return node.getValue();
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        if (value instanceof ConfigurationNodeDataView) {
+            // The view may be backed by the node about to be replaced
+            value = ((DataView) value).copy();
+        }
+        write(this.node.getNode(path.getParts().toArray()), value);
+        return this;
+    }
+
+    /**
+     * Writes the given value to the node, replacing its current value.
+     *
+     * @param node The node to write to
+     * @param value The value to write
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    static void write(ConfigurationNode node, Object value) {
+        if (value instanceof DataView) {
+            writeView(node, (DataView) value);
+            return;
+        } else if (value instanceof DataSerializable) {
+            writeView(node, ((DataSerializable) value).toContainer());
+            return;
+        } else if (value instanceof CatalogType) {
+            node.setValue(((CatalogType) value).getId());
+            return;
+        } else if (value instanceof Map) {
+            node.setValue(Collections.emptyMap());
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                write(node.getNode(entry.getKey().toString()), entry.getValue());
+            }
+            return;
+        } else if (value instanceof Collection) {
+            node.setValue(Collections.emptyList());
+            for (Object element : (Collection<?>) value) {
+                write(node.appendListNode(), element);
+            }
+            return;
+        } else if (value.getClass().isArray()) {
+            node.setValue(Collections.emptyList());
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                write(node.appendListNode(), Array.get(value, i));
+            }
+            return;
+        }
+        if (!(value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character)) {
+            @Nullable final DataManager manager = getDataManager();
+            if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+                final DataTranslator translator = manager.getTranslator(value.getClass()).get();
+                writeView(node, translator.translate(value));
+                return;
+            }
+        }
+        node.setValue(value);
+    }
+
+    private static void writeView(ConfigurationNode node, DataView view) {
+        node.setValue(Collections.emptyMap());
+        for (DataQuery query : view.getKeys(false)) {
+            write(node.getNode(query.getParts().get(0)), view.get(query).get());
+        }
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        if (!parts.isEmpty()) {
+            this.node.getNode(parts.toArray()).setValue(null);
+        }
+        return this;
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        final ConfigurationNode node = this.node.getNode(path.getParts().toArray());
+        node.setValue(Collections.emptyMap());
+        return new ConfigurationNodeDataView(this.container, this.path.then(path), node);
+    }
+
+    @Override
+    public DataContainer copy() {
+        return copy(SafetyMode.ALL_DATA_CLONED);
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        final DataContainer container = DataContainer.createNew(safety);
+        copyInto(this.node, container);
+        return container;
+    }
+
+    private static void copyInto(ConfigurationNode node, DataView view) {
+        for (Map.Entry<Object, ? extends ConfigurationNode> entry : node.getChildrenMap().entrySet()) {
+            final DataQuery key = of(entry.getKey().toString());
+            final ConfigurationNode child = entry.getValue();
+            if (child.isMap()) {
+                copyInto(child, view.createView(key));
+            } else if (child.isList()) {
+                view.set(key, copyList(child));
+            } else if (child.getValue() != null) {
+                view.set(key, child.getValue());
+            }
+        }
+    }
+
+    private static List<Object> copyList(ConfigurationNode node) {
+        ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (ConfigurationNode element : node.getChildrenList()) {
+            if (element.isMap()) {
+                final DataContainer container = DataContainer.createNew();
+                copyInto(element, container);
+                builder.add(container);
+            } else if (element.isList()) {
+                builder.add(copyList(element));
+            } else if (element.getValue() != null) {
+                builder.add(element.getValue());
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.node.getChildrenMap().isEmpty();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return SafetyMode.NO_DATA_CLONED;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + this.node.hashCode()) + this.path.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final ConfigurationNodeDataView other = (ConfigurationNodeDataView) obj;
+        return this.path.equals(other.path) && this.node.equals(other.node);
+    }
+
+    @Override
+    public String toString() {
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        return helper.add("node", this.node).toString();
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.data;
 
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.value.BaseValue;
 
@@ -58,6 +60,38 @@ static DataContainer createNew(SafetyMode safety) {
         return new MemoryDataContainer(safety);
     }
 
+    /**
+     * Creates a new {@link DataContainer} with the provided {@link Layout}
+     * and a default {@link org.spongepowered.api.data.DataView.SafetyMode} of
+     * {@link org.spongepowered.api.data.DataView.SafetyMode#ALL_DATA_CLONED}.
+     *
+     * @param layout The layout to use
+     * @return A new data container with the provided layout
+     */
+    static DataContainer createNew(Layout layout) {
+        return createNew(SafetyMode.ALL_DATA_CLONED, layout);
+    }
+
+    /**
+     * Creates a new {@link DataContainer} with the provided
+     * {@link org.spongepowered.api.data.DataView.SafetyMode} and
+     * {@link Layout}.
+     *
+     * @param safety The safety mode to use
+     * @param layout The layout to use
+     * @return A new data container with the provided safety mode and layout
+     */
+    static DataContainer createNew(SafetyMode safety, Layout layout) {
+        checkNotNull(safety, "safety");
+        switch (checkNotNull(layout, "layout")) {
+            case COMPACT:
+                return new CompactDataContainer(safety);
+            case LINKED_MAP:
+            default:
+                return new MemoryDataContainer(safety);
+        }
+    }
+
     @Override
     DataContainer set(DataQuery path, Object value);
 
@@ -66,4 +100,34 @@ static DataContainer createNew(SafetyMode safety) {
 
     @Override
     DataContainer remove(DataQuery path);
+
+    /**
+     * Gets an immutable {@link PersistentDataContainer} with the contents of
+     * this container. Later changes to this container are not reflected in
+     * the returned one.
+     *
+     * @return The persistent container
+     */
+    default PersistentDataContainer asImmutable() {
+        return PersistentDataContainer.of(this);
+    }
+
+    /**
+     * The in memory layout of a newly created {@link DataContainer}. All
+     * layouts behave the same, they only differ in footprint.
+     */
+    enum Layout {
+
+        /**
+         * Every view is backed by a linked hash map of boxed values.
+         */
+        LINKED_MAP,
+        /**
+         * Every view stores its entries in flat arrays with interned keys,
+         * keeping numbers and booleans unboxed. Best suited for large
+         * amounts of short lived, serialization heavy data.
+         */
+        COMPACT
+
+    }
 }
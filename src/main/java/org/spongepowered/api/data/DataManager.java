@@ -28,8 +28,10 @@
 import org.spongepowered.api.data.manipulator.DataManipulatorBuilder;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulator;
 import org.spongepowered.api.data.manipulator.ImmutableDataManipulatorBuilder;
+import org.spongepowered.api.data.persistence.BatchDataContentUpdater;
 import org.spongepowered.api.data.persistence.DataBuilder;
 import org.spongepowered.api.data.persistence.DataContentUpdater;
+import org.spongepowered.api.data.persistence.DataContentUpdaterRegistry;
 import org.spongepowered.api.data.persistence.DataTranslator;
 import org.spongepowered.api.plugin.PluginContainer;
 
@@ -81,6 +83,10 @@ public interface DataManager {
      * great or a {@link DataContentUpdater} has not been registered to cover
      * the complete jump, {@link Optional#empty()} may be returned.
      *
+     * <p>The returned updater is composed once per class and version jump
+     * and cached, see {@link DataContentUpdaterRegistry}. To update many
+     * views at once, use a {@link BatchDataContentUpdater}.</p>
+     *
      * @param clazz The data serializable class
      * @param fromVersion The version converting from
      * @param toVersion The version converting to
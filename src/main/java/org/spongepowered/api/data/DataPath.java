@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import java.util.Arrays;
+
+/**
+ * A mutable path into a {@link DataView}, updated in place while the view
+ * is walked by a {@link DataVisitor}.
+ *
+ * <p>No {@link DataQuery} is created unless {@link #toQuery()} is
+ * called.</p>
+ */
+public final class DataPath {
+
+    private String[] parts = new String[8];
+    private int depth;
+
+    DataPath() {
+    }
+
+    void push(String key) {
+        if (this.depth == this.parts.length) {
+            this.parts = Arrays.copyOf(this.parts, this.depth << 1);
+        }
+        this.parts[this.depth++] = key;
+    }
+
+    void pop() {
+        this.parts[--this.depth] = null;
+    }
+
+    /**
+     * Gets the number of parts in this path.
+     *
+     * @return The depth
+     */
+    public int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * Gets the part of this path at the given index.
+     *
+     * @param index The index, from zero up to the depth
+     * @return The part
+     */
+    public String getPart(int index) {
+        checkElementIndex(index, this.depth);
+        return this.parts[index];
+    }
+
+    /**
+     * Gets the last part of this path, the key of the current entry within
+     * its parent view.
+     *
+     * @return The key
+     */
+    public String getKey() {
+        return getPart(this.depth - 1);
+    }
+
+    /**
+     * Creates a {@link DataQuery} of the current path.
+     *
+     * @return The query
+     */
+    public DataQuery toQuery() {
+        return DataQuery.of(Arrays.asList(this.parts).subList(0, this.depth));
+    }
+
+    @Override
+    public String toString() {
+        return String.join(".", Arrays.asList(this.parts).subList(0, this.depth));
+    }
+
+}
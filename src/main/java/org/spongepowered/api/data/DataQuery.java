@@ -24,26 +24,49 @@
  */
 package org.spongepowered.api.data;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries parsed through {@link #of(char, String)} are canonical, parsing
+ * the same path again returns the same instance. Any other query can be
+ * made canonical through {@link #intern()}, so queries that are kept as
+ * constants compare by identity with parsed ones.</p>
  */
 public final class DataQuery {
 
     private static final DataQuery EMPTY = new DataQuery();
 
+    /**
+     * The maximum amount of parsed paths that are cached per separator.
+     */
+    private static final int PARSED_CACHE_SIZE = 4096;
+
+    private static final Interner<DataQuery> POOL = Interners.newWeakInterner();
+    private static final ConcurrentMap<Character, LoadingCache<String, DataQuery>> PARSED = new ConcurrentHashMap<>();
+
     /**
      * The parts that make up this query.
      */
     private final ImmutableList<String> parts;
 
+    /**
+     * The cached hash code of the parts.
+     */
+    private final int hash;
+
     private ImmutableList<DataQuery> queryParts; //lazy loaded
 
     /**
@@ -57,7 +80,7 @@ public final class DataQuery {
      * @param path The path
      */
     private DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
+        this(split(separator, path));
     }
 
     /**
@@ -66,7 +89,7 @@ private DataQuery(char separator, String path) {
      * @param parts The parts
      */
     private DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
     }
 
     /**
@@ -75,7 +98,45 @@ private DataQuery(String... parts) {
      * @param parts The parts
      */
     private DataQuery(List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
+    }
+
+    /**
+     * Constructs a query using the given parts, without copying them.
+     *
+     * @param parts The parts
+     */
+    private DataQuery(ImmutableList<String> parts) {
+        this.parts = parts;
+        this.hash = parts.hashCode();
+    }
+
+    /**
+     * Splits the path at every occurrence of the separator. Trailing empty
+     * parts are dropped, the same way {@link String#split(String)} does.
+     *
+     * @param separator The separator
+     * @param path The path
+     * @return The parts of the path
+     */
+    private static ImmutableList<String> split(char separator, String path) {
+        int end = path.indexOf(separator);
+        if (end < 0) {
+            return ImmutableList.of(path);
+        }
+        final List<String> parts = new ArrayList<>();
+        int start = 0;
+        while (end >= 0) {
+            parts.add(path.substring(start, end));
+            start = end + 1;
+            end = path.indexOf(separator, start);
+        }
+        parts.add(path.substring(start));
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return ImmutableList.copyOf(parts.subList(0, size));
     }
 
     /**
@@ -96,12 +157,20 @@ public static DataQuery of() {
      * {@code new DataQuery('.', "a.b.c")} represent the same path but are
      * constructed using different separators.</p>
      *
+     * <p>The returned query is canonical, see {@link #intern()}.</p>
+     *
      * @param separator The separator
      * @param path The path
-     * @return The newly constructed {@link DataQuery}
+     * @return The canonical {@link DataQuery} of the path
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        LoadingCache<String, DataQuery> parsed = PARSED.get(separator);
+        if (parsed == null) {
+            parsed = PARSED.computeIfAbsent(separator, key -> Caffeine.newBuilder()
+                    .maximumSize(PARSED_CACHE_SIZE)
+                    .build(toParse -> new DataQuery(key, toParse).intern()));
+        }
+        return parsed.get(path);
     }
 
     /**
@@ -147,6 +216,9 @@ public List<String> getParts() {
      * @return The constructed query
      */
     public DataQuery then(DataQuery that) {
+        if (this.parts.isEmpty()) {
+            return that;
+        }
         ImmutableList.Builder<String> builder =
             new ImmutableList.Builder<>();
 
@@ -201,11 +273,7 @@ public DataQuery pop() {
         if (this.parts.size() <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return new DataQuery(this.parts.subList(0, this.parts.size() - 1));
     }
 
     /**
@@ -219,11 +287,7 @@ public DataQuery popFirst() {
         if (this.parts.size() <= 1) {
             return of();
         }
-        ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
-        }
-        return new DataQuery(builder.build());
+        return new DataQuery(this.parts.subList(1, this.parts.size()));
     }
 
     /**
@@ -239,6 +303,20 @@ public DataQuery last() {
         return new DataQuery(this.parts.get(this.parts.size() - 1));
     }
 
+    /**
+     * Gets the canonical instance of this query. Two equal queries that have
+     * both been interned are the same instance, which makes comparing them
+     * an identity check.
+     *
+     * @return The canonical instance of this query
+     */
+    public DataQuery intern() {
+        if (this.parts.isEmpty()) {
+            return EMPTY;
+        }
+        return POOL.intern(this);
+    }
+
     /**
      * Gets this query as a string separated by the given separator.
      *
@@ -266,7 +344,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -278,6 +356,6 @@ public boolean equals(Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        return this.hash == other.hash && this.parts.equals(other.parts);
     }
 }
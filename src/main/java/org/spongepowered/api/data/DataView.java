@@ -37,6 +37,10 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents an object of data represented by a map.
@@ -115,11 +119,45 @@ public interface DataView {
      * <p>If deep is set to false, then this will contain only the keys and
      * values of any direct children, and not their own children.</p>
      *
+     * <p>This copies the contents of the view, callers only iterating over
+     * them once should use {@link #visit(DataVisitor)} or {@link #walk()}
+     * instead.</p>
+     *
      * @param deep Whether or not to get a deep list of all children or not
      * @return Map of keys and values of this container
      */
     Map<DataQuery, Object> getValues(boolean deep);
 
+    /**
+     * Visits all keys and values of this {@link DataView} depth first,
+     * including those of any child {@link DataView}s.
+     *
+     * <p>Unlike {@link #getValues(boolean)}, this doesn't build any
+     * collections or {@link DataQuery}s, the {@link DataPath} given to the
+     * visitor is updated in place as the walk goes on.</p>
+     *
+     * @param visitor The visitor
+     */
+    default void visit(DataVisitor visitor) {
+        DataWalker.visit(this, checkNotNull(visitor, "visitor"));
+    }
+
+    /**
+     * Gets a lazy depth first {@link Stream} of all keys and values of this
+     * {@link DataView}, covering the same keys as
+     * {@link #getKeys(boolean) getKeys(true)}.
+     *
+     * <p>Child {@link DataView}s are included as values and followed by
+     * their own contents. The {@link DataQuery} of an entry is only created
+     * once its key is asked for.</p>
+     *
+     * @return The stream of entries
+     */
+    default Stream<Map.Entry<DataQuery, Object>> walk() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(DataWalker.iterator(this),
+                Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     /**
      * Returns whether this {@link DataView} contains the given path.
      *
@@ -0,0 +1,69 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+/**
+ * Receives the contents of a {@link DataView} depth first, as walked by
+ * {@link DataView#visit(DataVisitor)}.
+ *
+ * <p>The {@link DataPath} passed to each callback is reused for the whole
+ * walk and only valid for the duration of the call. Use
+ * {@link DataPath#toQuery()} to keep a path.</p>
+ */
+@FunctionalInterface
+public interface DataVisitor {
+
+    /**
+     * Called when a child {@link DataView} is reached, before any of its
+     * contents are visited.
+     *
+     * @param path The path of the view, relative to the visited view
+     * @param view The child view
+     * @return True to visit the contents of the view, false to skip them
+     */
+    default boolean visitView(DataPath path, DataView view) {
+        return true;
+    }
+
+    /**
+     * Called once all of the contents of a child {@link DataView} have been
+     * visited. Not called for views skipped by
+     * {@link #visitView(DataPath, DataView)}.
+     *
+     * @param path The path of the view, relative to the visited view
+     * @param view The child view
+     */
+    default void endView(DataPath path, DataView view) {
+    }
+
+    /**
+     * Called for every value that isn't a {@link DataView}.
+     *
+     * @param path The path of the value, relative to the visited view
+     * @param value The value
+     */
+    void visitValue(DataPath path, Object value);
+
+}
@@ -0,0 +1,252 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * Walks the contents of {@link DataView}s depth first for
+ * {@link DataView#visit(DataVisitor)} and {@link DataView#walk()}.
+ *
+ * <p>{@link MemoryDataView}s and {@link CompactDataView}s are walked through
+ * their backing storage directly, any other view through its shallow
+ * keys.</p>
+ */
+final class DataWalker {
+
+    static void visit(DataView view, DataVisitor visitor) {
+        visitContents(view, visitor, new DataPath());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void visitContents(DataView view, DataVisitor visitor, DataPath path) {
+        if (view instanceof MemoryDataView) {
+            final MemoryDataView memoryView = (MemoryDataView) view;
+            final boolean clone = memoryView.getSafetyMode() == DataView.SafetyMode.ALL_DATA_CLONED;
+            for (Map.Entry<String, Object> entry : memoryView.map.entrySet()) {
+                final Object value = entry.getValue();
+                visitEntry(entry.getKey(), clone && value.getClass().isArray() ? AbstractDataView.cloneArray(value) : value, visitor, path);
+            }
+        } else if (view instanceof CompactDataView) {
+            ((CompactDataView) view).forEachLocal((key, value) -> visitEntry(key, value, visitor, path));
+        } else {
+            for (DataQuery key : view.getKeys(false)) {
+                view.get(key).ifPresent(value -> visitEntry(lastPart(key), value, visitor, path));
+            }
+        }
+    }
+
+    private static void visitEntry(String key, Object value, DataVisitor visitor, DataPath path) {
+        path.push(key);
+        if (value instanceof DataView) {
+            final DataView child = (DataView) value;
+            if (visitor.visitView(path, child)) {
+                visitContents(child, visitor, path);
+                visitor.endView(path, child);
+            }
+        } else {
+            visitor.visitValue(path, value);
+        }
+        path.pop();
+    }
+
+    private static String lastPart(DataQuery query) {
+        final List<String> parts = query.getParts();
+        return parts.get(parts.size() - 1);
+    }
+
+    static Iterator<Map.Entry<DataQuery, Object>> iterator(DataView view) {
+        return new WalkIterator(view);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static Iterator<Map.Entry<String, Object>> contents(DataView view) {
+        if (view instanceof MemoryDataView) {
+            final MemoryDataView memoryView = (MemoryDataView) view;
+            final Iterator<Map.Entry<String, Object>> it = memoryView.map.entrySet().iterator();
+            if (memoryView.getSafetyMode() != DataView.SafetyMode.ALL_DATA_CLONED) {
+                return it;
+            }
+            return new Iterator<Map.Entry<String, Object>>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Map.Entry<String, Object> next() {
+                    final Map.Entry<String, Object> entry = it.next();
+                    final Object value = entry.getValue();
+                    return value.getClass().isArray() ? new AbstractMap.SimpleImmutableEntry<>(entry.getKey(),
+                            AbstractDataView.cloneArray(value)) : entry;
+                }
+            };
+        }
+        if (view instanceof CompactDataView) {
+            final List<Map.Entry<String, Object>> entries = new ArrayList<>();
+            ((CompactDataView) view).forEachLocal((key, value) -> entries.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+            return entries.iterator();
+        }
+        final Iterator<DataQuery> keys = view.getKeys(false).iterator();
+        return new Iterator<Map.Entry<String, Object>>() {
+            @Override
+            public boolean hasNext() {
+                return keys.hasNext();
+            }
+
+            @Override
+            public Map.Entry<String, Object> next() {
+                final DataQuery key = keys.next();
+                return new AbstractMap.SimpleImmutableEntry<>(lastPart(key), view.get(key).orElse(null));
+            }
+        };
+    }
+
+    private static final class WalkIterator implements Iterator<Map.Entry<DataQuery, Object>> {
+
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        @Nullable private Entry next;
+
+        WalkIterator(DataView view) {
+            this.frames.push(new Frame(null, contents(view)));
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.next == null && !this.frames.isEmpty()) {
+                final Frame frame = this.frames.peek();
+                if (!frame.contents.hasNext()) {
+                    this.frames.pop();
+                    continue;
+                }
+                final Map.Entry<String, Object> content = frame.contents.next();
+                if (content.getValue() == null) {
+                    continue;
+                }
+                this.next = new Entry(frame.parent, content.getKey(), content.getValue());
+                if (content.getValue() instanceof DataView) {
+                    this.frames.push(new Frame(this.next, contents((DataView) content.getValue())));
+                }
+            }
+            return this.next != null;
+        }
+
+        @Override
+        public Map.Entry<DataQuery, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Entry next = this.next;
+            this.next = null;
+            return next;
+        }
+
+    }
+
+    private static final class Frame {
+
+        @Nullable final Entry parent;
+        final Iterator<Map.Entry<String, Object>> contents;
+
+        Frame(@Nullable Entry parent, Iterator<Map.Entry<String, Object>> contents) {
+            this.parent = parent;
+            this.contents = contents;
+        }
+
+    }
+
+    /**
+     * An entry linked to the entry of its parent view, only building its
+     * {@link DataQuery} once asked for.
+     */
+    private static final class Entry implements Map.Entry<DataQuery, Object> {
+
+        @Nullable private final Entry parent;
+        private final String key;
+        private final Object value;
+        private final int depth;
+        @Nullable private DataQuery query;
+
+        Entry(@Nullable Entry parent, String key, Object value) {
+            this.parent = parent;
+            this.key = key;
+            this.value = value;
+            this.depth = parent == null ? 1 : parent.depth + 1;
+        }
+
+        @Override
+        public DataQuery getKey() {
+            if (this.query == null) {
+                final String[] parts = new String[this.depth];
+                for (Entry entry = this; entry != null; entry = entry.parent) {
+                    parts[entry.depth - 1] = entry.key;
+                }
+                this.query = DataQuery.of(Arrays.asList(parts));
+            }
+            return this.query;
+        }
+
+        @Override
+        public Object getValue() {
+            return this.value;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int hashCode() {
+            return getKey().hashCode() ^ this.value.hashCode();
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (!(obj instanceof Map.Entry)) {
+                return false;
+            }
+            final Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+            return getKey().equals(other.getKey()) && this.value.equals(other.getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + this.value;
+        }
+
+    }
+
+}
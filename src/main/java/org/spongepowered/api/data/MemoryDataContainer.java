@@ -29,6 +29,7 @@
 import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.value.BaseValue;
 
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -68,6 +69,19 @@ public MemoryDataContainer(DataView.SafetyMode safety) {
         super(safety);
     }
 
+    /**
+     * Creates a new {@link MemoryDataContainer} with the provided
+     * {@link org.spongepowered.api.data.DataView.SafetyMode}, backed by the
+     * given map.
+     *
+     * @param safety The safety mode to use
+     * @param map The map holding the contents of this container
+     * @see MemoryDataView#MemoryDataView(DataView.SafetyMode, Map)
+     */
+    protected MemoryDataContainer(DataView.SafetyMode safety, Map<String, Object> map) {
+        super(safety, map);
+    }
+
     @Override
     public Optional<DataView> getParent() {
         return Optional.empty();
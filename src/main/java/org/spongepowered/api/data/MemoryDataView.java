@@ -65,14 +65,29 @@
 @Deprecated
 public class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = Maps.newLinkedHashMap();
+    protected final Map<String, Object> map;
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
     private final DataView.SafetyMode safety;
 
     protected MemoryDataView(DataView.SafetyMode safety) {
+        this(safety, Maps.newLinkedHashMap());
+    }
+
+    /**
+     * Creates a new root {@link MemoryDataView} backed by the given map.
+     *
+     * <p>The map is used as is, which allows its contents to be provided
+     * lazily. Nested views must be stored as {@link MemoryDataView}s whose
+     * parent is this view.</p>
+     *
+     * @param safety The safety mode to use
+     * @param map The map holding the contents of this view
+     */
+    protected MemoryDataView(DataView.SafetyMode safety, Map<String, Object> map) {
         checkState(this instanceof DataContainer, "Cannot construct a root MemoryDataView without a container!");
+        this.map = checkNotNull(map, "map");
         this.path = of();
         this.parent = this;
         this.container = (DataContainer) this;
@@ -80,7 +95,21 @@ protected MemoryDataView(DataView.SafetyMode safety) {
     }
 
     protected MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety) {
+        this(parent, path, safety, Maps.newLinkedHashMap());
+    }
+
+    /**
+     * Creates a new {@link MemoryDataView} backed by the given map.
+     *
+     * @param parent The parent view
+     * @param path The path of this view relative to its parent
+     * @param safety The safety mode to use
+     * @param map The map holding the contents of this view
+     * @see #MemoryDataView(SafetyMode, Map)
+     */
+    protected MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safety, Map<String, Object> map) {
         checkArgument(path.getParts().size() >= 1, "Path must have at least one part");
+        this.map = checkNotNull(map, "map");
         this.parent = parent;
         this.container = parent.getContainer();
         this.path = parent.getCurrentPath().then(path);
@@ -146,12 +175,19 @@ public final boolean contains(DataQuery path) {
         checkNotNull(path, "path");
         List<String> queryParts = path.getParts();
 
-        String key = queryParts.get(0);
-        if (queryParts.size() == 1) {
-            return this.map.containsKey(key);
+        final int last = queryParts.size() - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return ((DataView) object).contains(of(queryParts.subList(i + 1, queryParts.size())));
+            } else {
+                return false;
+            }
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        return subViewOptional.isPresent() && subViewOptional.get().contains(path.popFirst());
+        return view.map.containsKey(queryParts.get(last));
     }
 
     @Override
@@ -185,93 +221,96 @@ public Optional<Object> get(DataQuery path) {
             return Optional.<Object>of(this);
         }
 
-        String key = queryParts.get(0);
-        if (sz == 1) {
-            final Object object = this.map.get(key);
-            if (object == null) {
+        // Walk the query in place instead of popping a sub query per level
+        MemoryDataView view = this;
+        for (int i = 0; i < sz - 1; i++) {
+            final Object object = view.map.get(queryParts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                return ((DataView) object).get(of(queryParts.subList(i + 1, sz)));
+            } else {
                 return Optional.empty();
             }
-            if (this.safety == SafetyMode.ALL_DATA_CLONED) {
-                if (object.getClass().isArray()) {
-                    if (object instanceof byte[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
-                    } else if (object instanceof short[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((short[]) object));
-                    } else if (object instanceof int[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((int[]) object));
-                    } else if (object instanceof long[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((long[]) object));
-                    } else if (object instanceof float[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((float[]) object));
-                    } else if (object instanceof double[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((double[]) object));
-                    } else if (object instanceof boolean[]) {
-                        return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
-                    } else {
-                        return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
-                    }
-                }
-            }
-            return Optional.of(object);
         }
-        Optional<DataView> subViewOptional = this.getUnsafeView(key);
-        if (!subViewOptional.isPresent()) {
+        return view.getLocal(queryParts.get(sz - 1));
+    }
+
+    private Optional<Object> getLocal(String key) {
+        final Object object = this.map.get(key);
+        if (object == null) {
             return Optional.empty();
         }
-        DataView subView = subViewOptional.get();
-        return subView.get(path.popFirst());
-
+        if (this.safety == SafetyMode.ALL_DATA_CLONED) {
+            if (object.getClass().isArray()) {
+                if (object instanceof byte[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((byte[]) object));
+                } else if (object instanceof short[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((short[]) object));
+                } else if (object instanceof int[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((int[]) object));
+                } else if (object instanceof long[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((long[]) object));
+                } else if (object instanceof float[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((float[]) object));
+                } else if (object instanceof double[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((double[]) object));
+                } else if (object instanceof boolean[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((boolean[]) object));
+                } else if (object instanceof char[]) {
+                    return Optional.<Object>of(ArrayUtils.clone((char[]) object));
+                } else {
+                    return Optional.<Object>of(ArrayUtils.clone((Object[]) object));
+                }
+            }
+        }
+        return Optional.of(object);
     }
 
     @Override
-    @SuppressWarnings({"rawtypes", "unchecked"})
     public DataView set(DataQuery path, Object value) {
         checkNotNull(path, "path");
         checkNotNull(value, "value");
         checkState(this.container != null);
 
-        @Nullable DataManager manager;
-
-        // TODO: this call to getDataManager each set can be cleaned up
-        try {
-            manager = Sponge.getDataManager();
-        } catch (Exception e) {
-            manager = null;
-        }
+        set(path.getParts(), 0, value);
+        return this;
+    }
 
-        List<String> parts = path.getParts();
-        String key = parts.get(0);
-        if (parts.size() > 1) {
-            DataQuery subQuery = of(key);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                this.createView(subQuery);
-                subView = (DataView) this.map.get(key);
-            } else {
-                subView = subViewOptional.get();
-            }
-            subView.set(path.popFirst(), value);
-            return this;
-        }
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void setLocal(String key, Object value) {
         if (value instanceof DataView) {
             checkArgument(value != this, "Cannot set a DataView to itself.");
             // always have to copy a data view to avoid overwriting existing
             // views and to set the interior path correctly.
-            copyDataView(path, (DataView) value);
+            copyDataView(of(key), (DataView) value);
+            return;
         } else if (value instanceof DataSerializable) {
             DataContainer valueContainer = ((DataSerializable) value).toContainer();
             checkArgument(!(valueContainer).equals(this), "Cannot insert self-referencing DataSerializable");
             // see above for why this is copied
-            copyDataView(path, valueContainer);
+            copyDataView(of(key), valueContainer);
+            return;
         } else if (value instanceof CatalogType) {
-            return set(path, ((CatalogType) value).getId());
-        } else if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            setLocal(key, ((CatalogType) value).getId());
+            return;
+        }
+
+        @Nullable DataManager manager;
+
+        // TODO: this call to getDataManager each set can be cleaned up
+        try {
+            manager = Sponge.getDataManager();
+        } catch (Exception e) {
+            manager = null;
+        }
+
+        if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
             DataTranslator serializer = manager.getTranslator(value.getClass()).get();
             final DataContainer container = serializer.translate(value);
             checkArgument(!container.equals(this), "Cannot insert self-referencing Objects!");
             // see above for why this is copied
-            copyDataView(path, container);
+            copyDataView(of(key), container);
         } else if (value instanceof Collection) {
             setCollection(key, (Collection) value);
         } else if (value instanceof Map) {
@@ -292,6 +331,8 @@ public DataView set(DataQuery path, Object value) {
                     this.map.put(key, ArrayUtils.clone((double[]) value));
                 } else if (value instanceof boolean[]) {
                     this.map.put(key, ArrayUtils.clone((boolean[]) value));
+                } else if (value instanceof char[]) {
+                    this.map.put(key, ArrayUtils.clone((char[]) value));
                 } else {
                     this.map.put(key, ArrayUtils.clone((Object[]) value));
                 }
@@ -301,7 +342,6 @@ public DataView set(DataQuery path, Object value) {
         } else {
             this.map.put(key, value);
         }
-        return this;
     }
 
     @Override
@@ -309,6 +349,32 @@ public <E> DataView set(Key<? extends BaseValue<E>> key, E value) {
         return set(checkNotNull(key, "Key was null!").getQuery(), value);
     }
 
+    /**
+     * Sets the value at the remaining parts of a query, starting at the
+     * given offset, without creating a sub query for every level.
+     *
+     * @param parts The parts of the full query
+     * @param offset The index of the first part relative to this view
+     * @param value The value to set
+     */
+    private void set(List<String> parts, int offset, Object value) {
+        MemoryDataView view = this;
+        final int last = parts.size() - 1;
+        for (int i = offset; i < last; i++) {
+            final String key = parts.get(i);
+            final Object object = view.map.get(key);
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else if (object instanceof DataView) {
+                ((DataView) object).set(of(parts.subList(i + 1, parts.size())), value);
+                return;
+            } else {
+                view = (MemoryDataView) view.createView(of(key));
+            }
+        }
+        view.setLocal(parts.get(last), value);
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void setCollection(String key, Collection<?> value) {
         ImmutableList.Builder<Object> builder = ImmutableList.builder();
@@ -411,18 +477,20 @@ private void copyDataView(DataQuery path, DataView value) {
     public DataView remove(DataQuery path) {
         checkNotNull(path, "path");
         List<String> parts = path.getParts();
-        if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
+        final int last = parts.size() - 1;
+        MemoryDataView view = this;
+        for (int i = 0; i < last; i++) {
+            final Object object = view.map.get(parts.get(i));
+            if (object instanceof MemoryDataView) {
+                view = (MemoryDataView) object;
+            } else {
+                if (object instanceof DataView) {
+                    ((DataView) object).remove(of(parts.subList(i + 1, parts.size())));
+                }
                 return this;
             }
-            DataView subView = subViewOptional.get();
-            subView.remove(path.popFirst());
-        } else {
-            this.map.remove(parts.get(0));
         }
+        view.map.remove(parts.get(last));
         return this;
     }
 
@@ -518,14 +586,6 @@ private Optional<DataView> getUnsafeView(DataQuery path) {
         return get(path).filter(obj -> obj instanceof DataView).map(obj -> (DataView) obj);
     }
 
-    private Optional<DataView> getUnsafeView(String path) {
-        final Object object = this.map.get(path);
-        if (!(object instanceof DataView)) {
-            return Optional.empty();
-        }
-        return Optional.of((DataView) object);
-    }
-
 
     @Override
     public Optional<Boolean> getBoolean(DataQuery path) {
@@ -0,0 +1,179 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+
+import java.util.Optional;
+
+/**
+ * An immutable, persistent {@link DataContainer}.
+ *
+ * <p>Views are stored in hash array mapped tries. Instead of modifying this
+ * container, {@link #with(DataQuery, Object)} and {@link #without(DataQuery)}
+ * return a new container that shares every untouched view and value with
+ * this one. Both copying a persistent container and updating a single path
+ * are therefore cheap, no matter how much data the container holds. Setting
+ * a persistent view into another persistent container shares it instead of
+ * copying it.</p>
+ *
+ * <p>The modifying methods of {@link DataView}, such as
+ * {@link #set(DataQuery, Object)}, {@link #remove(DataQuery)} and
+ * {@link #createView(DataQuery)}, throw an
+ * {@link UnsupportedOperationException} for this container and all of its
+ * views, so writes can't be lost silently. Use {@link #asMutable()} to get a
+ * container which can be modified in place.</p>
+ *
+ * <p>Unlike a {@link MemoryDataContainer}, setting a view at a path that
+ * already holds a view replaces it rather than merging both views, and keys
+ * are not kept in insertion order.</p>
+ */
+public final class PersistentDataContainer extends PersistentDataView implements DataContainer {
+
+    private static final PersistentDataContainer EMPTY = new PersistentDataContainer(PersistentDataMap.EMPTY);
+
+    /**
+     * Gets the empty {@link PersistentDataContainer}.
+     *
+     * @return The empty container
+     */
+    public static PersistentDataContainer empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets a {@link PersistentDataContainer} with the contents of the given
+     * {@link DataView}. Persistent views are shared, any other view is
+     * copied once.
+     *
+     * @param view The view to get the contents from
+     * @return The persistent container
+     */
+    public static PersistentDataContainer of(DataView view) {
+        checkNotNull(view, "view");
+        if (view instanceof PersistentDataContainer) {
+            return (PersistentDataContainer) view;
+        }
+        final PersistentDataMap map = toMap(view);
+        return map.isEmpty() ? EMPTY : new PersistentDataContainer(map);
+    }
+
+    PersistentDataContainer(PersistentDataMap map) {
+        super(map);
+    }
+
+    PersistentDataContainer withMap(PersistentDataMap map) {
+        return map == this.map ? this : new PersistentDataContainer(map);
+    }
+
+    /**
+     * Copies the contents of this container into a new, mutable
+     * {@link DataContainer}.
+     *
+     * @return The mutable container
+     */
+    public DataContainer asMutable() {
+        final DataContainer container = DataContainer.createNew();
+        for (DataQuery query : getKeys(false)) {
+            container.set(query, get(query).get());
+        }
+        return container;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.empty();
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this;
+    }
+
+    /**
+     * Gets a container with the given value set at the given path, which
+     * shares everything else with this container. This container is left
+     * untouched. Views and maps are stored as views.
+     *
+     * @param path The path of the value to set
+     * @param value The value
+     * @return The new container
+     */
+    @Override
+    public PersistentDataContainer with(DataQuery path, Object value) {
+        return (PersistentDataContainer) super.with(path, value);
+    }
+
+    /**
+     * Gets a container with the given {@link Key}ed value set at the query of
+     * the key, which shares everything else with this container. This
+     * container is left untouched.
+     *
+     * @param key The key of the value to set
+     * @param value The value
+     * @param <E> The type of value
+     * @return The new container
+     */
+    public <E> PersistentDataContainer with(Key<? extends BaseValue<E>> key, E value) {
+        return with(checkNotNull(key, "key").getQuery(), value);
+    }
+
+    /**
+     * Gets a container without the data at the given path, which shares
+     * everything else with this container. This container is left untouched.
+     *
+     * @param path The path of the data to remove
+     * @return The new container, or this container if there was no data at
+     *     the path
+     */
+    @Override
+    public PersistentDataContainer without(DataQuery path) {
+        return (PersistentDataContainer) super.without(path);
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        return (DataContainer) super.set(path, value);
+    }
+
+    @Override
+    public <E> DataContainer set(Key<? extends BaseValue<E>> key, E value) {
+        return set(checkNotNull(key, "key").getQuery(), value);
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        return (DataContainer) super.remove(path);
+    }
+
+    @Override
+    public PersistentDataContainer copy() {
+        return this;
+    }
+
+}
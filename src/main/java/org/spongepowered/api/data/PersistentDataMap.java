@@ -0,0 +1,332 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable hash array mapped trie from keys to the values of a
+ * {@link PersistentDataView}.
+ *
+ * <p>Every update returns a new map sharing all untouched nodes with the
+ * original, so updating a single key only copies the nodes on the path to
+ * that key. Values are never null.</p>
+ */
+final class PersistentDataMap {
+
+    static final PersistentDataMap EMPTY = new PersistentDataMap(BitmapNode.EMPTY, 0);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final Node root;
+    private final int size;
+
+    private PersistentDataMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Nullable
+    Object get(String key) {
+        return this.root.get(key, key.hashCode(), 0);
+    }
+
+    PersistentDataMap put(String key, Object value) {
+        final int hash = key.hashCode();
+        final Object existing = this.root.get(key, hash, 0);
+        if (existing == value) {
+            return this;
+        }
+        return new PersistentDataMap(this.root.put(key, hash, value, 0), existing == null ? this.size + 1 : this.size);
+    }
+
+    PersistentDataMap remove(String key) {
+        final Node root = this.root.remove(key, key.hashCode(), 0);
+        if (root == this.root) {
+            return this;
+        }
+        return root == null ? EMPTY : new PersistentDataMap(root, this.size - 1);
+    }
+
+    void forEach(BiConsumer<String, Object> consumer) {
+        this.root.forEach(consumer);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as the hash of an equivalent map
+        final int[] hash = new int[1];
+        forEach((key, value) -> hash[0] += key.hashCode() ^ value.hashCode());
+        return hash[0];
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PersistentDataMap)) {
+            return false;
+        }
+        final PersistentDataMap other = (PersistentDataMap) obj;
+        if (this.size != other.size) {
+            return false;
+        }
+        final boolean[] equal = {true};
+        forEach((key, value) -> {
+            if (equal[0] && !value.equals(other.get(key))) {
+                equal[0] = false;
+            }
+        });
+        return equal[0];
+    }
+
+    private abstract static class Node {
+
+        @Nullable
+        abstract Object get(String key, int hash, int shift);
+
+        abstract Node put(String key, int hash, Object value, int shift);
+
+        /**
+         * Removes the key from this node.
+         *
+         * @return The same node if the key is absent, null if the node
+         *     became empty
+         */
+        @Nullable
+        abstract Node remove(String key, int hash, int shift);
+
+        abstract void forEach(BiConsumer<String, Object> consumer);
+
+    }
+
+    /**
+     * A node storing up to 32 entries, indexed by five bits of the key hash.
+     * Each present bit maps to a pair in the array, either a key and its
+     * value or null and a child node.
+     */
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int indexOf(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1)) << 1;
+        }
+
+        @Nullable
+        @Override
+        Object get(String key, int hash, int shift) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.bitmap & bit) == 0) {
+                return null;
+            }
+            final int index = indexOf(bit);
+            final Object storedKey = this.array[index];
+            if (storedKey == null) {
+                return ((Node) this.array[index + 1]).get(key, hash, shift + BITS);
+            }
+            return key.equals(storedKey) ? this.array[index + 1] : null;
+        }
+
+        @Override
+        Node put(String key, int hash, Object value, int shift) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            final int index = indexOf(bit);
+            if ((this.bitmap & bit) == 0) {
+                final Object[] array = new Object[this.array.length + 2];
+                System.arraycopy(this.array, 0, array, 0, index);
+                array[index] = key;
+                array[index + 1] = value;
+                System.arraycopy(this.array, index, array, index + 2, this.array.length - index);
+                return new BitmapNode(this.bitmap | bit, array);
+            }
+            final Object storedKey = this.array[index];
+            final Object[] array = this.array.clone();
+            if (storedKey == null) {
+                array[index + 1] = ((Node) this.array[index + 1]).put(key, hash, value, shift + BITS);
+            } else if (key.equals(storedKey)) {
+                array[index + 1] = value;
+            } else {
+                final String other = (String) storedKey;
+                array[index] = null;
+                array[index + 1] = merge(other, other.hashCode(), this.array[index + 1], key, hash, value, shift + BITS);
+            }
+            return new BitmapNode(this.bitmap, array);
+        }
+
+        @Nullable
+        @Override
+        Node remove(String key, int hash, int shift) {
+            final int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.bitmap & bit) == 0) {
+                return this;
+            }
+            final int index = indexOf(bit);
+            final Object storedKey = this.array[index];
+            if (storedKey == null) {
+                final Node child = (Node) this.array[index + 1];
+                final Node newChild = child.remove(key, hash, shift + BITS);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    final Object[] array = this.array.clone();
+                    array[index + 1] = newChild;
+                    return new BitmapNode(this.bitmap, array);
+                }
+            } else if (!key.equals(storedKey)) {
+                return this;
+            }
+            if (this.bitmap == bit) {
+                return null;
+            }
+            final Object[] array = new Object[this.array.length - 2];
+            System.arraycopy(this.array, 0, array, 0, index);
+            System.arraycopy(this.array, index + 2, array, index, this.array.length - index - 2);
+            return new BitmapNode(this.bitmap ^ bit, array);
+        }
+
+        @Override
+        void forEach(BiConsumer<String, Object> consumer) {
+            for (int i = 0; i < this.array.length; i += 2) {
+                if (this.array[i] == null) {
+                    ((Node) this.array[i + 1]).forEach(consumer);
+                } else {
+                    consumer.accept((String) this.array[i], this.array[i + 1]);
+                }
+            }
+        }
+
+        private static Node merge(String key1, int hash1, Object value1, String key2, int hash2, Object value2, int shift) {
+            if (shift >= Integer.SIZE) {
+                return new CollisionNode(new String[] {key1, key2}, new Object[] {value1, value2});
+            }
+            final int index1 = (hash1 >>> shift) & MASK;
+            final int index2 = (hash2 >>> shift) & MASK;
+            if (index1 == index2) {
+                return new BitmapNode(1 << index1, new Object[] {null, merge(key1, hash1, value1, key2, hash2, value2, shift + BITS)});
+            }
+            if (index1 < index2) {
+                return new BitmapNode((1 << index1) | (1 << index2), new Object[] {key1, value1, key2, value2});
+            }
+            return new BitmapNode((1 << index1) | (1 << index2), new Object[] {key2, value2, key1, value1});
+        }
+
+    }
+
+    /**
+     * A node holding keys whose full hashes collide.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final String[] keys;
+        private final Object[] values;
+
+        CollisionNode(String[] keys, Object[] values) {
+            this.keys = keys;
+            this.values = values;
+        }
+
+        private int indexOf(String key) {
+            for (int i = 0; i < this.keys.length; i++) {
+                if (key.equals(this.keys[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Nullable
+        @Override
+        Object get(String key, int hash, int shift) {
+            final int index = indexOf(key);
+            return index < 0 ? null : this.values[index];
+        }
+
+        @Override
+        Node put(String key, int hash, Object value, int shift) {
+            final int index = indexOf(key);
+            if (index >= 0) {
+                final Object[] values = this.values.clone();
+                values[index] = value;
+                return new CollisionNode(this.keys, values);
+            }
+            final String[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+            final Object[] values = Arrays.copyOf(this.values, this.values.length + 1);
+            keys[this.keys.length] = key;
+            values[this.values.length] = value;
+            return new CollisionNode(keys, values);
+        }
+
+        @Nullable
+        @Override
+        Node remove(String key, int hash, int shift) {
+            final int index = indexOf(key);
+            if (index < 0) {
+                return this;
+            }
+            if (this.keys.length == 1) {
+                return null;
+            }
+            final String[] keys = new String[this.keys.length - 1];
+            final Object[] values = new Object[this.values.length - 1];
+            System.arraycopy(this.keys, 0, keys, 0, index);
+            System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+            System.arraycopy(this.values, 0, values, 0, index);
+            System.arraycopy(this.values, index + 1, values, index, values.length - index);
+            return new CollisionNode(keys, values);
+        }
+
+        @Override
+        void forEach(BiConsumer<String, Object> consumer) {
+            for (int i = 0; i < this.keys.length; i++) {
+                consumer.accept(this.keys[i], this.values[i]);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,400 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.persistence.DataTranslator;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable {@link DataView} of a {@link PersistentDataContainer}.
+ *
+ * <p>The modifying methods of {@link DataView} throw an
+ * {@link UnsupportedOperationException}. Instead,
+ * {@link #with(DataQuery, Object)} and {@link #without(DataQuery)} leave
+ * this view untouched and return the view at the same path within a new
+ * container that has the modification applied. The new container shares
+ * every unmodified view and value with this one.</p>
+ */
+class PersistentDataView extends AbstractDataView {
+
+    private final PersistentDataContainer container;
+    private final DataQuery path;
+    final PersistentDataMap map;
+
+    PersistentDataView(PersistentDataMap map) {
+        checkState(this instanceof PersistentDataContainer, "Cannot construct a root PersistentDataView without a container!");
+        this.container = (PersistentDataContainer) this;
+        this.path = of();
+        this.map = map;
+    }
+
+    private PersistentDataView(PersistentDataContainer container, DataQuery path, PersistentDataMap map) {
+        this.container = container;
+        this.path = path;
+        this.map = map;
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        if (this.path.getParts().size() <= 1) {
+            return Optional.of(this.container);
+        }
+        return this.container.getView(this.path.pop());
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        collectKeys(this.map, of(), deep, builder);
+        return builder.build();
+    }
+
+    private static void collectKeys(PersistentDataMap map, DataQuery prefix, boolean deep, ImmutableSet.Builder<DataQuery> builder) {
+        map.forEach((key, value) -> {
+            final DataQuery query = prefix.then(key);
+            builder.add(query);
+            if (deep && value instanceof PersistentDataMap) {
+                collectKeys((PersistentDataMap) value, query, true, builder);
+            }
+        });
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        return !parts.isEmpty() && lookup(this.map, parts) != null;
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        if (parts.isEmpty()) {
+            return Optional.of(this);
+        }
+        final Object object = lookup(this.map, parts);
+        if (object == null) {
+            return Optional.empty();
+        }
+        if (object instanceof PersistentDataMap) {
+            return Optional.of(new PersistentDataView(this.container, this.path.then(path), (PersistentDataMap) object));
+        }
+        if (object.getClass().isArray()) {
+            return Optional.of(cloneArray(object));
+        }
+        return Optional.of(object);
+    }
+
+    /**
+     * Always throws, as persistent data can't be modified.
+     *
+     * @throws UnsupportedOperationException Always
+     * @see #with(DataQuery, Object)
+     */
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        throw immutable();
+    }
+
+    /**
+     * Always throws, as persistent data can't be modified.
+     *
+     * @throws UnsupportedOperationException Always
+     * @see #without(DataQuery)
+     */
+    @Override
+    public DataView remove(DataQuery path) {
+        throw immutable();
+    }
+
+    /**
+     * Always throws, as persistent data can't be modified.
+     *
+     * @throws UnsupportedOperationException Always
+     * @see #with(DataQuery, Object)
+     */
+    @Override
+    public DataView createView(DataQuery path) {
+        throw immutable();
+    }
+
+    /**
+     * Always throws, as persistent data can't be modified.
+     *
+     * @throws UnsupportedOperationException Always
+     * @see #with(DataQuery, Object)
+     */
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Persistent data is immutable, use PersistentDataContainer#with or #without instead");
+    }
+
+    /**
+     * Sets the given value at the given path relative to this view, within a
+     * new container. Views and maps are stored as views.
+     *
+     * @param path The path of the value to set
+     * @param value The value
+     * @return The view at the path of this view within the new container
+     */
+    PersistentDataView with(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        checkArgument(!path.getParts().isEmpty(), "The size of the query must be at least 1");
+        final Object stored = toStored(value);
+        final List<String> parts = this.path.then(path).getParts();
+        return this.container.withMap(setIn(this.container.map, parts, 0, stored)).viewAt(this.path);
+    }
+
+    /**
+     * Removes the data at the given path relative to this view, within a new
+     * container.
+     *
+     * @param path The path of the data to remove
+     * @return The view at the path of this view within the new container, or
+     *     this view if there was no data at the path
+     */
+    PersistentDataView without(DataQuery path) {
+        List<String> parts = checkNotNull(path, "path").getParts();
+        if (parts.isEmpty()) {
+            return this;
+        }
+        final PersistentDataMap map = removeIn(this.container.map, this.path.then(path).getParts(), 0);
+        if (map == this.container.map) {
+            return this;
+        }
+        return this.container.withMap(map).viewAt(this.path);
+    }
+
+    @Override
+    public DataContainer copy() {
+        return new PersistentDataContainer(this.map);
+    }
+
+    @Override
+    public DataContainer copy(SafetyMode safety) {
+        // Nothing in a persistent container can be modified, so every
+        // safety mode is already satisfied
+        return copy();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.map.isEmpty();
+    }
+
+    @Override
+    public SafetyMode getSafetyMode() {
+        return SafetyMode.ALL_DATA_CLONED;
+    }
+
+    /**
+     * Gets the view at the given path of this container.
+     *
+     * @param path The path, which must point to a view
+     * @return The view
+     */
+    PersistentDataView viewAt(DataQuery path) {
+        if (path.getParts().isEmpty()) {
+            return this;
+        }
+        final Object object = lookup(this.map, path.getParts());
+        checkState(object instanceof PersistentDataMap, "No view at %s", path);
+        return new PersistentDataView(this.container, this.path.then(path), (PersistentDataMap) object);
+    }
+
+    @Nullable
+    private static Object lookup(PersistentDataMap map, List<String> parts) {
+        PersistentDataMap current = map;
+        final int last = parts.size() - 1;
+        for (int i = 0; i < last; i++) {
+            final Object object = current.get(parts.get(i));
+            if (!(object instanceof PersistentDataMap)) {
+                return null;
+            }
+            current = (PersistentDataMap) object;
+        }
+        return current.get(parts.get(last));
+    }
+
+    private static PersistentDataMap setIn(PersistentDataMap map, List<String> parts, int index, Object value) {
+        final String key = parts.get(index);
+        if (index == parts.size() - 1) {
+            return map.put(key, value);
+        }
+        final Object child = map.get(key);
+        final PersistentDataMap childMap = child instanceof PersistentDataMap ? (PersistentDataMap) child : PersistentDataMap.EMPTY;
+        return map.put(key, setIn(childMap, parts, index + 1, value));
+    }
+
+    private static PersistentDataMap removeIn(PersistentDataMap map, List<String> parts, int index) {
+        final String key = parts.get(index);
+        if (index == parts.size() - 1) {
+            return map.remove(key);
+        }
+        final Object child = map.get(key);
+        if (!(child instanceof PersistentDataMap)) {
+            return map;
+        }
+        final PersistentDataMap newChild = removeIn((PersistentDataMap) child, parts, index + 1);
+        return newChild == child ? map : map.put(key, newChild);
+    }
+
+    /**
+     * Converts a view into its persistent map. Views which are already
+     * persistent are shared instead of copied.
+     *
+     * @param view The view to convert
+     * @return The persistent map
+     */
+    static PersistentDataMap toMap(DataView view) {
+        if (view instanceof PersistentDataView) {
+            return ((PersistentDataView) view).map;
+        }
+        PersistentDataMap map = PersistentDataMap.EMPTY;
+        for (DataQuery key : view.getKeys(false)) {
+            map = map.put(key.getParts().get(0), toStored(view.get(key).get()));
+        }
+        return map;
+    }
+
+    /**
+     * Converts a value into the immutable form it is stored as.
+     *
+     * @param value The value
+     * @return The stored value
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static Object toStored(Object value) {
+        if (value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return value;
+        } else if (value instanceof DataView) {
+            return toMap((DataView) value);
+        } else if (value instanceof DataSerializable) {
+            return toMap(((DataSerializable) value).toContainer());
+        } else if (value instanceof CatalogType) {
+            return ((CatalogType) value).getId();
+        }
+        @Nullable final DataManager manager = getDataManager();
+        if (manager != null && manager.getTranslator(value.getClass()).isPresent()) {
+            final DataTranslator translator = manager.getTranslator(value.getClass()).get();
+            return toMap(translator.translate(value));
+        } else if (value instanceof Collection) {
+            return toList((Collection<?>) value, manager);
+        } else if (value instanceof Map) {
+            PersistentDataMap map = PersistentDataMap.EMPTY;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                map = map.put(entry.getKey().toString(), toStored(entry.getValue()));
+            }
+            return map;
+        } else if (value.getClass().isArray()) {
+            return cloneArray(value);
+        }
+        return value;
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static ImmutableList<Object> toList(Collection<?> value, @Nullable DataManager manager) {
+        ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (Object object : value) {
+            if (object instanceof DataSerializable) {
+                builder.add(PersistentDataContainer.of(((DataSerializable) object).toContainer()));
+            } else if (object instanceof DataView) {
+                builder.add(PersistentDataContainer.of((DataView) object));
+            } else if (object instanceof CatalogType) {
+                builder.add(((CatalogType) object).getId());
+            } else if (object instanceof Map) {
+                builder.add(ensureSerialization((Map) object));
+            } else if (object instanceof Collection) {
+                builder.add(ensureSerialization((Collection) object));
+            } else if (manager != null && manager.getTranslator(object.getClass()).isPresent()) {
+                final DataTranslator translator = manager.getTranslator(object.getClass()).get();
+                builder.add(PersistentDataContainer.of(translator.translate(object)));
+            } else {
+                builder.add(object);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 + this.map.hashCode()) + this.path.hashCode();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final PersistentDataView other = (PersistentDataView) obj;
+        return this.path.equals(other.path) && this.map.equals(other.map);
+    }
+
+    @Override
+    public String toString() {
+        final Map<String, Object> map = Maps.newLinkedHashMap();
+        this.map.forEach((key, value) -> map.put(key, value instanceof PersistentDataMap ? get(of(key)).get() : value));
+        final MoreObjects.ToStringHelper helper = MoreObjects.toStringHelper(this);
+        if (!this.path.toString().isEmpty()) {
+            helper.add("path", this.path);
+        }
+        return helper.add("map", map).toString();
+    }
+
+}
@@ -24,8 +24,6 @@
  */
 package org.spongepowered.api.data;
 
-import static org.spongepowered.api.data.DataQuery.of;
-
 public final class Queries {
 
     // Content version
@@ -89,6 +87,11 @@ public final class Queries {
     public static final DataQuery UUID_MOST = of("UuidMost");
     public static final DataQuery POSITION = of("Pos");
 
+    private static DataQuery of(String name) {
+        // Interned so parsed queries resolve to these constants by identity
+        return DataQuery.of(name).intern();
+    }
+
     // Suppress default constructor to ensure non-instantiability.
     private Queries() {
         throw new AssertionError("You should not be attempting to instantiate this class.");
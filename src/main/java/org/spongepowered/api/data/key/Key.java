@@ -94,6 +94,18 @@
      */
     DataQuery getQuery();
 
+    /**
+     * Gets the ordinal of this {@link Key}.
+     *
+     * <p>Ordinals are assigned by the registry when a key is built, densely
+     * and in the order the keys are registered, starting at {@code 0}. They
+     * therefore may differ between launches, but are small enough to index
+     * arrays of values and the bits of a {@link KeySet}.</p>
+     *
+     * @return The ordinal
+     */
+    int getOrdinal();
+
     /**
      * Register an event listener which listens to the value the key accesses
      * changing.
@@ -0,0 +1,254 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.value.ValueContainer;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable set of {@link Key}s backed by a bitset over their
+ * {@link Key#getOrdinal() ordinals}.
+ *
+ * <p>Checking whether a key is contained is a single bit test, which makes
+ * this the preferred set to return from {@link ValueContainer#getKeys()} and
+ * to back {@link ValueContainer#supports(Key)} with. Since the sets are
+ * immutable, implementations are encouraged to build one set per type of
+ * container and share it between all instances.</p>
+ */
+public final class KeySet extends AbstractSet<Key<?>> {
+
+    private static final KeySet EMPTY = new KeySet(new long[0], new Key<?>[0], 0);
+
+    /**
+     * Gets the empty {@link KeySet}.
+     *
+     * @return The empty key set
+     */
+    public static KeySet of() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a new {@link KeySet} containing the given {@link Key}s.
+     *
+     * @param keys The keys
+     * @return The new key set
+     */
+    public static KeySet of(Key<?>... keys) {
+        return of(Arrays.asList(checkNotNull(keys, "keys")));
+    }
+
+    /**
+     * Creates a new {@link KeySet} containing the given {@link Key}s.
+     *
+     * @param keys The keys
+     * @return The new key set
+     */
+    public static KeySet of(Iterable<? extends Key<?>> keys) {
+        checkNotNull(keys, "keys");
+        if (keys instanceof KeySet) {
+            return (KeySet) keys;
+        }
+        int max = -1;
+        for (Key<?> key : keys) {
+            final int ordinal = checkNotNull(key, "key").getOrdinal();
+            checkArgument(ordinal >= 0, "The key %s has a negative ordinal", key.getId());
+            max = Math.max(max, ordinal);
+        }
+        if (max < 0) {
+            return EMPTY;
+        }
+        final long[] bits = new long[(max >> 6) + 1];
+        final Key<?>[] byOrdinal = new Key<?>[max + 1];
+        int size = 0;
+        for (Key<?> key : keys) {
+            final int ordinal = key.getOrdinal();
+            if (byOrdinal[ordinal] == null) {
+                size++;
+            }
+            bits[ordinal >> 6] |= 1L << ordinal;
+            byOrdinal[ordinal] = key;
+        }
+        return new KeySet(bits, byOrdinal, size);
+    }
+
+    private final long[] bits;
+    private final Key<?>[] byOrdinal;
+    private final int size;
+
+    private KeySet(long[] bits, Key<?>[] byOrdinal, int size) {
+        this.bits = bits;
+        this.byOrdinal = byOrdinal;
+        this.size = size;
+    }
+
+    /**
+     * Gets whether the given {@link Key} is contained in this set.
+     *
+     * @param key The key
+     * @return Whether the key is contained
+     */
+    public boolean contains(Key<?> key) {
+        return containsOrdinal(key.getOrdinal());
+    }
+
+    /**
+     * Gets whether a {@link Key} with the given ordinal is contained in this
+     * set.
+     *
+     * @param ordinal The ordinal of the key
+     * @return Whether the key is contained
+     */
+    public boolean containsOrdinal(int ordinal) {
+        final int word = ordinal >> 6;
+        return ordinal >= 0 && word < this.bits.length && (this.bits[word] & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public boolean contains(@Nullable Object o) {
+        return o instanceof Key && contains((Key<?>) o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        if (!(c instanceof KeySet)) {
+            return super.containsAll(c);
+        }
+        final long[] other = ((KeySet) c).bits;
+        for (int i = 0; i < other.length; i++) {
+            final long word = i < this.bits.length ? this.bits[i] : 0L;
+            if ((other[i] & ~word) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Creates a new {@link KeySet} containing the keys of both this and the
+     * given set.
+     *
+     * @param other The other set
+     * @return The union of both sets
+     */
+    public KeySet union(KeySet other) {
+        checkNotNull(other, "other");
+        if (containsAll(other)) {
+            return this;
+        } else if (other.containsAll(this)) {
+            return other;
+        }
+        final KeySet larger = this.byOrdinal.length >= other.byOrdinal.length ? this : other;
+        final KeySet smaller = larger == this ? other : this;
+        final long[] bits = larger.bits.clone();
+        final Key<?>[] byOrdinal = larger.byOrdinal.clone();
+        for (int i = 0; i < smaller.bits.length; i++) {
+            bits[i] |= smaller.bits[i];
+        }
+        for (int i = 0; i < smaller.byOrdinal.length; i++) {
+            if (byOrdinal[i] == null) {
+                byOrdinal[i] = smaller.byOrdinal[i];
+            }
+        }
+        int size = 0;
+        for (long word : bits) {
+            size += Long.bitCount(word);
+        }
+        return new KeySet(bits, byOrdinal, size);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public Iterator<Key<?>> iterator() {
+        return new Iterator<Key<?>>() {
+
+            private int next = nextOrdinal(0);
+
+            @Override
+            public boolean hasNext() {
+                return this.next >= 0;
+            }
+
+            @Override
+            public Key<?> next() {
+                if (this.next < 0) {
+                    throw new NoSuchElementException();
+                }
+                final Key<?> key = KeySet.this.byOrdinal[this.next];
+                this.next = nextOrdinal(this.next + 1);
+                return key;
+            }
+        };
+    }
+
+    private int nextOrdinal(int from) {
+        int word = from >> 6;
+        if (word >= this.bits.length) {
+            return -1;
+        }
+        long bits = this.bits[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == this.bits.length) {
+                return -1;
+            }
+            bits = this.bits[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (o instanceof KeySet) {
+            final KeySet other = (KeySet) o;
+            return this.size == other.size && containsAll(other);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+}
@@ -0,0 +1,388 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.util.ResettableBuilder;
+import org.spongepowered.api.world.storage.ChunkDataStream;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Applies a {@link DataContentUpdater} to a large number of
+ * {@link DataView}s in parallel.
+ *
+ * <p>Views are pulled from their source on the calling thread and updated on
+ * worker threads. At most {@link Builder#maxPending(int)} views are held
+ * between being pulled and being handed to the consumer, so sources that read
+ * their views lazily, such as a {@link ChunkDataStream}, are never loaded
+ * into memory as a whole.</p>
+ */
+public final class BatchDataContentUpdater {
+
+    /**
+     * Creates a new {@link Builder} to build a {@link BatchDataContentUpdater}.
+     *
+     * @return The new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    final DataContentUpdater updater;
+    final int parallelism;
+    final int maxPending;
+    @Nullable final Executor executor;
+    @Nullable final ProgressListener listener;
+    final int progressInterval;
+
+    BatchDataContentUpdater(Builder builder) {
+        this.updater = builder.updater;
+        this.parallelism = builder.parallelism;
+        this.maxPending = builder.maxPending;
+        this.executor = builder.executor;
+        this.listener = builder.listener;
+        this.progressInterval = builder.progressInterval;
+    }
+
+    /**
+     * Updates all views of the given {@link ChunkDataStream}, handing each
+     * updated view to the consumer. The consumer is called from the worker
+     * threads and must therefore be thread safe.
+     *
+     * @param stream The stream of views to update
+     * @param consumer The consumer of the updated views
+     * @return The final progress of the update
+     * @throws InterruptedException If the calling thread was interrupted while
+     *     waiting for the updates to complete
+     * @throws InvalidDataException If a view could not be updated
+     */
+    public Progress update(ChunkDataStream stream, Consumer<? super DataView> consumer) throws InterruptedException {
+        checkNotNull(stream, "stream");
+        return update(() -> new Iterator<DataView>() {
+
+            @Nullable private DataContainer next;
+
+            @Override
+            public boolean hasNext() {
+                while (this.next == null && stream.hasNext()) {
+                    this.next = stream.next();
+                }
+                return this.next != null;
+            }
+
+            @Override
+            public DataView next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final DataView next = this.next;
+                this.next = null;
+                return next;
+            }
+        }, consumer);
+    }
+
+    /**
+     * Updates all given views, handing each updated view to the consumer. The
+     * consumer is called from the worker threads and must therefore be
+     * thread safe.
+     *
+     * @param views The views to update
+     * @param consumer The consumer of the updated views
+     * @return The final progress of the update
+     * @throws InterruptedException If the calling thread was interrupted while
+     *     waiting for the updates to complete
+     * @throws InvalidDataException If a view could not be updated
+     */
+    public Progress update(Iterable<? extends DataView> views, Consumer<? super DataView> consumer) throws InterruptedException {
+        checkNotNull(views, "views");
+        checkNotNull(consumer, "consumer");
+        final Semaphore pending = new Semaphore(this.maxPending);
+        final AtomicLong processed = new AtomicLong();
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final long start = System.nanoTime();
+        @Nullable ExecutorService ownExecutor = null;
+        Executor executor = this.executor;
+        if (executor == null) {
+            executor = ownExecutor = Executors.newFixedThreadPool(this.parallelism, new ThreadFactoryBuilder()
+                    .setNameFormat("DataContentUpdater-%d")
+                    .setDaemon(true)
+                    .build());
+        }
+        try {
+            for (DataView view : views) {
+                if (failure.get() != null) {
+                    break;
+                }
+                pending.acquire();
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (failure.get() == null) {
+                                consumer.accept(this.updater.update(view));
+                                final long count = processed.incrementAndGet();
+                                if (this.listener != null && count % this.progressInterval == 0) {
+                                    this.listener.onProgress(new Progress(count, System.nanoTime() - start));
+                                }
+                            }
+                        } catch (Throwable t) {
+                            failure.compareAndSet(null, t);
+                        } finally {
+                            pending.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    pending.release();
+                    throw e;
+                }
+            }
+            // Wait for all views in flight to be updated
+            pending.acquire(this.maxPending);
+            pending.release(this.maxPending);
+        } finally {
+            if (ownExecutor != null) {
+                ownExecutor.shutdown();
+            }
+        }
+        final Throwable throwable = failure.get();
+        if (throwable != null) {
+            throw new InvalidDataException("Could not update the content of a data view", throwable);
+        }
+        final Progress progress = new Progress(processed.get(), System.nanoTime() - start);
+        if (this.listener != null && progress.getProcessed() % this.progressInterval != 0) {
+            this.listener.onProgress(progress);
+        }
+        return progress;
+    }
+
+    /**
+     * A listener notified about the progress of a batch update.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * Called every time the interval given to
+         * {@link Builder#progress(ProgressListener, int)} of views were
+         * updated, and once the update has completed. This may be called from
+         * any of the worker threads.
+         *
+         * @param progress The current progress
+         */
+        void onProgress(Progress progress);
+
+    }
+
+    /**
+     * The progress of a batch update.
+     */
+    public static final class Progress {
+
+        private final long processed;
+        private final long elapsedNanos;
+
+        Progress(long processed, long elapsedNanos) {
+            this.processed = processed;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        /**
+         * Gets the number of views that have been updated.
+         *
+         * @return The number of updated views
+         */
+        public long getProcessed() {
+            return this.processed;
+        }
+
+        /**
+         * Gets the time elapsed since the update started.
+         *
+         * @return The elapsed time
+         */
+        public Duration getElapsed() {
+            return Duration.ofNanos(this.elapsedNanos);
+        }
+
+        /**
+         * Gets the average number of views updated per second.
+         *
+         * @return The throughput in views per second
+         */
+        public double getThroughput() {
+            return this.elapsedNanos == 0 ? 0 : this.processed * 1e9 / this.elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return MoreObjects.toStringHelper(this)
+                    .add("processed", this.processed)
+                    .add("elapsed", getElapsed())
+                    .add("throughput", getThroughput())
+                    .toString();
+        }
+
+    }
+
+    /**
+     * Builder class to assist in creation of a new
+     * {@link BatchDataContentUpdater}.
+     */
+    public static final class Builder implements ResettableBuilder<BatchDataContentUpdater, Builder> {
+
+        @Nullable DataContentUpdater updater;
+        int parallelism;
+        int maxPending;
+        @Nullable Executor executor;
+        @Nullable ProgressListener listener;
+        int progressInterval;
+
+        Builder() {
+            reset();
+        }
+
+        /**
+         * Sets the {@link DataContentUpdater} to apply, for example the one
+         * returned by
+         * {@link org.spongepowered.api.data.DataManager#getWrappedContentUpdater(Class, int, int)}.
+         *
+         * @param updater The updater
+         * @return This builder
+         */
+        public Builder updater(DataContentUpdater updater) {
+            this.updater = checkNotNull(updater, "updater");
+            return this;
+        }
+
+        /**
+         * Sets the number of worker threads, which defaults to the number of
+         * available processors. This is ignored if an
+         * {@link #executor(Executor)} is set.
+         *
+         * @param parallelism The number of worker threads
+         * @return This builder
+         */
+        public Builder parallelism(int parallelism) {
+            checkArgument(parallelism > 0, "The parallelism must be positive");
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of views that may be pulled from the source
+         * without having been handed to the consumer yet, which bounds the
+         * memory used by the update.
+         *
+         * @param maxPending The maximum number of pending views
+         * @return This builder
+         */
+        public Builder maxPending(int maxPending) {
+            checkArgument(maxPending > 0, "The maximum number of pending views must be positive");
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} to update the views on. By default, a new
+         * thread pool is created for each update.
+         *
+         * @param executor The executor
+         * @return This builder
+         */
+        public Builder executor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ProgressListener} to notify about the progress of
+         * updates.
+         *
+         * @param listener The listener
+         * @param interval The number of updated views between notifications
+         * @return This builder
+         */
+        public Builder progress(@Nullable ProgressListener listener, int interval) {
+            checkArgument(interval > 0, "The progress interval must be positive");
+            this.listener = listener;
+            this.progressInterval = interval;
+            return this;
+        }
+
+        @Override
+        public Builder from(BatchDataContentUpdater value) {
+            this.updater = value.updater;
+            this.parallelism = value.parallelism;
+            this.maxPending = value.maxPending;
+            this.executor = value.executor;
+            this.listener = value.listener;
+            this.progressInterval = value.progressInterval;
+            return this;
+        }
+
+        @Override
+        public Builder reset() {
+            this.updater = null;
+            this.parallelism = Runtime.getRuntime().availableProcessors();
+            this.maxPending = 1024;
+            this.executor = null;
+            this.listener = null;
+            this.progressInterval = 10000;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link BatchDataContentUpdater}.
+         *
+         * @return The batch updater
+         */
+        public BatchDataContentUpdater build() {
+            checkState(this.updater != null, "The updater must be set");
+            return new BatchDataContentUpdater(this);
+        }
+
+    }
+
+}
@@ -0,0 +1,366 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.io.ByteStreams;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A compact binary {@link DataFormat} which is read without copying from a
+ * {@link ByteBuffer}, for example a memory mapped file.
+ *
+ * <p>Every view is prefixed with its length, so reading data only decodes
+ * the entries of the root view. Nested views are decoded once they are first
+ * accessed, which leaves untouched parts of large data sets in the buffer
+ * instead of the heap. The buffer must therefore not be modified while any
+ * container read from it is in use.</p>
+ */
+public final class BinaryDataFormat implements DataFormat {
+
+    /**
+     * The singleton instance of the binary data format.
+     */
+    public static final BinaryDataFormat INSTANCE = new BinaryDataFormat();
+
+    static final int MAGIC = 0x53504442;
+    static final byte VERSION = 1;
+
+    static final byte BYTE = 1;
+    static final byte SHORT = 2;
+    static final byte INT = 3;
+    static final byte LONG = 4;
+    static final byte FLOAT = 5;
+    static final byte DOUBLE = 6;
+    static final byte BOOLEAN = 7;
+    static final byte CHAR = 8;
+    static final byte STRING = 9;
+    static final byte VIEW = 10;
+    static final byte LIST = 11;
+    static final byte BYTE_ARRAY = 12;
+    static final byte SHORT_ARRAY = 13;
+    static final byte INT_ARRAY = 14;
+    static final byte LONG_ARRAY = 15;
+    static final byte FLOAT_ARRAY = 16;
+    static final byte DOUBLE_ARRAY = 17;
+    static final byte BOOLEAN_ARRAY = 18;
+    static final byte CHAR_ARRAY = 19;
+
+    private BinaryDataFormat() {
+    }
+
+    @Override
+    public String getId() {
+        return "sponge:binary";
+    }
+
+    @Override
+    public String getName() {
+        return "Binary";
+    }
+
+    @Override
+    public DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException {
+        return read(ByteBuffer.wrap(ByteStreams.toByteArray(input)));
+    }
+
+    /**
+     * Creates a new {@link DataContainer} from the contents of the given
+     * {@link ByteBuffer}, starting at its current position. Only the entries
+     * of the root view are decoded immediately.
+     *
+     * @param buffer The buffer to read from
+     * @return A data container representing the contents of the buffer
+     * @throws InvalidDataFormatException If the data in the buffer was not
+     *         in the binary format
+     */
+    public DataContainer read(ByteBuffer buffer) throws InvalidDataFormatException {
+        checkNotNull(buffer, "buffer");
+        final ByteBuffer data = buffer.duplicate();
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new InvalidDataFormatException("The data is not in the binary format");
+            }
+            final byte version = data.get();
+            if (version != VERSION) {
+                throw new InvalidDataFormatException("Unsupported binary format version " + version);
+            }
+            final int length = data.getInt();
+            final DataContainer container = new LazyDataMap.LazyDataContainer(new LazyDataMap(data, data.position(), length));
+            // Decode the root view right away, so malformed data is reported
+            // before it is returned
+            container.isEmpty();
+            return container;
+        } catch (BufferUnderflowException e) {
+            throw new InvalidDataFormatException("Malformed binary data", e);
+        }
+    }
+
+    /**
+     * Creates a new {@link DataContainer} from the contents of the file at the
+     * given {@link Path}, which is mapped into memory.
+     *
+     * @param path The path of the file to read from
+     * @return A data container representing the contents of the file
+     * @throws InvalidDataFormatException If the data in the file was not in
+     *         the binary format
+     * @throws IOException If there was an error mapping the file
+     */
+    public DataContainer read(Path path) throws InvalidDataFormatException, IOException {
+        try (FileChannel channel = FileChannel.open(checkNotNull(path, "path"), StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    @Override
+    public void writeTo(OutputStream output, DataView data) throws IOException {
+        final Encoder encoder = encode(data);
+        output.write(encoder.bytes, 0, encoder.position);
+    }
+
+    /**
+     * Writes the given {@link DataView} to a new {@link ByteBuffer} using the
+     * binary format.
+     *
+     * @param data The DataView to write
+     * @return The buffer holding the written data
+     */
+    public ByteBuffer write(DataView data) {
+        final Encoder encoder = encode(data);
+        return ByteBuffer.wrap(encoder.bytes, 0, encoder.position).slice();
+    }
+
+    private static Encoder encode(DataView data) {
+        checkNotNull(data, "data");
+        final Encoder encoder = new Encoder();
+        encoder.putInt(MAGIC);
+        encoder.put(VERSION);
+        encoder.putView(data);
+        return encoder;
+    }
+
+    /**
+     * A growable buffer holding the encoded data.
+     */
+    private static final class Encoder {
+
+        byte[] bytes = new byte[256];
+        int position;
+
+        private void ensure(int count) {
+            if (this.position + count > this.bytes.length) {
+                this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length << 1, this.position + count));
+            }
+        }
+
+        void put(byte value) {
+            ensure(1);
+            this.bytes[this.position++] = value;
+        }
+
+        void putShort(int value) {
+            ensure(2);
+            this.bytes[this.position++] = (byte) (value >>> 8);
+            this.bytes[this.position++] = (byte) value;
+        }
+
+        void putInt(int value) {
+            ensure(4);
+            setInt(this.position, value);
+            this.position += 4;
+        }
+
+        void setInt(int index, int value) {
+            this.bytes[index] = (byte) (value >>> 24);
+            this.bytes[index + 1] = (byte) (value >>> 16);
+            this.bytes[index + 2] = (byte) (value >>> 8);
+            this.bytes[index + 3] = (byte) value;
+        }
+
+        void putLong(long value) {
+            putInt((int) (value >>> 32));
+            putInt((int) value);
+        }
+
+        void putString(String value) {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, this.bytes, this.position, bytes.length);
+            this.position += bytes.length;
+        }
+
+        void putView(DataView view) {
+            // The length is only known once the view has been written
+            final int start = this.position;
+            putInt(0);
+            putInt(0);
+            int count = 0;
+            for (DataQuery query : view.getKeys(false)) {
+                putString(query.getParts().get(0));
+                putValue(view.get(query).get());
+                count++;
+            }
+            setInt(start, this.position - start - 4);
+            setInt(start + 4, count);
+        }
+
+        void putMap(Map<?, ?> map) {
+            final int start = this.position;
+            putInt(0);
+            putInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                putString(entry.getKey().toString());
+                putValue(entry.getValue());
+            }
+            setInt(start, this.position - start - 4);
+        }
+
+        void putValue(Object value) {
+            if (value instanceof String) {
+                put(STRING);
+                putString((String) value);
+            } else if (value instanceof Integer) {
+                put(INT);
+                putInt((Integer) value);
+            } else if (value instanceof Long) {
+                put(LONG);
+                putLong((Long) value);
+            } else if (value instanceof Double) {
+                put(DOUBLE);
+                putLong(Double.doubleToRawLongBits((Double) value));
+            } else if (value instanceof Boolean) {
+                put(BOOLEAN);
+                put((byte) ((Boolean) value ? 1 : 0));
+            } else if (value instanceof Byte) {
+                put(BYTE);
+                put((Byte) value);
+            } else if (value instanceof Short) {
+                put(SHORT);
+                putShort((Short) value);
+            } else if (value instanceof Float) {
+                put(FLOAT);
+                putInt(Float.floatToRawIntBits((Float) value));
+            } else if (value instanceof Character) {
+                put(CHAR);
+                putShort((Character) value);
+            } else if (value instanceof DataView) {
+                put(VIEW);
+                putView((DataView) value);
+            } else if (value instanceof Map) {
+                put(VIEW);
+                putMap((Map<?, ?>) value);
+            } else if (value instanceof Collection) {
+                put(LIST);
+                putInt(((Collection<?>) value).size());
+                for (Object object : (Collection<?>) value) {
+                    putValue(object);
+                }
+            } else if (value instanceof Object[]) {
+                put(LIST);
+                putInt(((Object[]) value).length);
+                for (Object object : (Object[]) value) {
+                    putValue(object);
+                }
+            } else if (value instanceof byte[]) {
+                final byte[] array = (byte[]) value;
+                put(BYTE_ARRAY);
+                putInt(array.length);
+                ensure(array.length);
+                System.arraycopy(array, 0, this.bytes, this.position, array.length);
+                this.position += array.length;
+            } else if (value instanceof short[]) {
+                final short[] array = (short[]) value;
+                put(SHORT_ARRAY);
+                putInt(array.length);
+                for (short element : array) {
+                    putShort(element);
+                }
+            } else if (value instanceof int[]) {
+                final int[] array = (int[]) value;
+                put(INT_ARRAY);
+                putInt(array.length);
+                for (int element : array) {
+                    putInt(element);
+                }
+            } else if (value instanceof long[]) {
+                final long[] array = (long[]) value;
+                put(LONG_ARRAY);
+                putInt(array.length);
+                for (long element : array) {
+                    putLong(element);
+                }
+            } else if (value instanceof float[]) {
+                final float[] array = (float[]) value;
+                put(FLOAT_ARRAY);
+                putInt(array.length);
+                for (float element : array) {
+                    putInt(Float.floatToRawIntBits(element));
+                }
+            } else if (value instanceof double[]) {
+                final double[] array = (double[]) value;
+                put(DOUBLE_ARRAY);
+                putInt(array.length);
+                for (double element : array) {
+                    putLong(Double.doubleToRawLongBits(element));
+                }
+            } else if (value instanceof boolean[]) {
+                final boolean[] array = (boolean[]) value;
+                put(BOOLEAN_ARRAY);
+                putInt(array.length);
+                for (boolean element : array) {
+                    put((byte) (element ? 1 : 0));
+                }
+            } else if (value instanceof char[]) {
+                final char[] array = (char[]) value;
+                put(CHAR_ARRAY);
+                putInt(array.length);
+                for (char element : array) {
+                    putShort(element);
+                }
+            } else {
+                throw new IllegalArgumentException("Unsupported value of type " + value.getClass().getName());
+            }
+        }
+
+    }
+
+}
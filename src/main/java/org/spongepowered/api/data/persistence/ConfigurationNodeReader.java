@@ -0,0 +1,153 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import ninja.leaping.configurate.ConfigurationNode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataReader} which walks a {@link ConfigurationNode} directly.
+ */
+final class ConfigurationNodeReader implements DataReader {
+
+    private static final class Frame {
+
+        @Nullable final Iterator<? extends Map.Entry<Object, ? extends ConfigurationNode>> entries;
+        @Nullable final Iterator<? extends ConfigurationNode> elements;
+
+        Frame(@Nullable Iterator<? extends Map.Entry<Object, ? extends ConfigurationNode>> entries,
+                @Nullable Iterator<? extends ConfigurationNode> elements) {
+            this.entries = entries;
+            this.elements = elements;
+        }
+
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    @Nullable private ConfigurationNode next;
+    private boolean root = true;
+
+    ConfigurationNodeReader(ConfigurationNode node) {
+        this.next = node;
+    }
+
+    @Override
+    public Token peek() {
+        if (this.next != null) {
+            // The root is always read as a view, even if the node is empty
+            if (this.root || this.next.isMap()) {
+                return Token.BEGIN_VIEW;
+            }
+            return this.next.isList() ? Token.BEGIN_LIST : Token.VALUE;
+        }
+        final Frame frame = this.frames.peek();
+        if (frame == null) {
+            return Token.END_DOCUMENT;
+        }
+        if (frame.entries != null) {
+            return frame.entries.hasNext() ? Token.KEY : Token.END_VIEW;
+        }
+        if (!frame.elements.hasNext()) {
+            return Token.END_LIST;
+        }
+        this.next = frame.elements.next();
+        return peek();
+    }
+
+    private void expect(Token token) {
+        final Token next = peek();
+        checkState(next == token, "Expected %s but was %s", token, next);
+    }
+
+    @Override
+    public void beginView() {
+        expect(Token.BEGIN_VIEW);
+        this.frames.push(new Frame(this.next.getChildrenMap().entrySet().iterator(), null));
+        this.next = null;
+        this.root = false;
+    }
+
+    @Override
+    public void endView() {
+        expect(Token.END_VIEW);
+        this.frames.pop();
+    }
+
+    @Override
+    public void beginList() {
+        expect(Token.BEGIN_LIST);
+        this.frames.push(new Frame(null, this.next.getChildrenList().iterator()));
+        this.next = null;
+    }
+
+    @Override
+    public void endList() {
+        expect(Token.END_LIST);
+        this.frames.pop();
+    }
+
+    @Override
+    public String nextKey() {
+        expect(Token.KEY);
+        final Map.Entry<Object, ? extends ConfigurationNode> entry = this.frames.peek().entries.next();
+        this.next = entry.getValue();
+        return entry.getKey().toString();
+    }
+
+    @Override
+    public Object nextValue() {
+        expect(Token.VALUE);
+        final Object value = this.next.getValue();
+        this.next = null;
+        return value;
+    }
+
+    @Override
+    public void skipValue() {
+        if (peek() == Token.KEY) {
+            nextKey();
+        }
+        final Token token = peek();
+        checkState(token == Token.BEGIN_VIEW || token == Token.BEGIN_LIST || token == Token.VALUE, "No value to skip");
+        // The node is already in memory, so it can be skipped as a whole
+        this.next = null;
+        this.root = false;
+    }
+
+    @Override
+    public void close() {
+        this.frames.clear();
+        this.next = null;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.reflect.TypeToken;
+import ninja.leaping.configurate.ConfigurationNode;
+import org.spongepowered.api.data.ConfigurationNodeDataContainer;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+/**
+ * A {@link DataTranslator} between {@link ConfigurationNode}s and
+ * {@link DataView}s which walks both structures directly, without building
+ * an intermediate copy of the data on either side.
+ *
+ * <p>To read a node without copying it at all, view it through a
+ * {@link ConfigurationNodeDataContainer}. To pipe a node into another
+ * {@link DataFormat} or the other way around, use {@link #reader} and
+ * {@link #writer} together with {@link DataReader#transferTo(DataWriter)}.
+ * </p>
+ */
+public final class ConfigurationNodeTranslator implements DataTranslator<ConfigurationNode> {
+
+    /**
+     * The singleton instance of the configuration node translator.
+     */
+    public static final ConfigurationNodeTranslator INSTANCE = new ConfigurationNodeTranslator();
+
+    private static final TypeToken<ConfigurationNode> TOKEN = TypeToken.of(ConfigurationNode.class);
+
+    /**
+     * Creates a new {@link DataReader} which reads the given
+     * {@link ConfigurationNode} as a view.
+     *
+     * @param node The node to read
+     * @return The new reader
+     */
+    public static DataReader reader(ConfigurationNode node) {
+        return new ConfigurationNodeReader(checkNotNull(node, "node"));
+    }
+
+    /**
+     * Creates a new {@link DataWriter} which writes a view into the given
+     * {@link ConfigurationNode}, replacing its current value.
+     *
+     * @param node The node to write to
+     * @return The new writer
+     */
+    public static DataWriter writer(ConfigurationNode node) {
+        return new ConfigurationNodeWriter(checkNotNull(node, "node"));
+    }
+
+    private ConfigurationNodeTranslator() {
+    }
+
+    @Override
+    public String getId() {
+        return "sponge:configuration_node";
+    }
+
+    @Override
+    public String getName() {
+        return "ConfigurationNodeTranslator";
+    }
+
+    @Override
+    public TypeToken<ConfigurationNode> getToken() {
+        return TOKEN;
+    }
+
+    @Override
+    public ConfigurationNode translate(DataView view) throws InvalidDataException {
+        final ConfigurationNode node = ConfigurationNode.root();
+        final DataContainer container = ConfigurationNodeDataContainer.of(node);
+        for (DataQuery query : view.getKeys(false)) {
+            container.set(query, view.get(query).get());
+        }
+        return node;
+    }
+
+    @Override
+    public DataContainer translate(ConfigurationNode node) throws InvalidDataException {
+        return ConfigurationNodeDataContainer.of(node).copy();
+    }
+
+    @Override
+    public DataView addTo(ConfigurationNode node, DataView dataView) {
+        final DataContainer container = ConfigurationNodeDataContainer.of(node);
+        for (DataQuery query : container.getKeys(false)) {
+            dataView.set(query, container.get(query).get());
+        }
+        return dataView;
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import ninja.leaping.configurate.ConfigurationNode;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataWriter} which writes straight into a {@link ConfigurationNode}.
+ */
+final class ConfigurationNodeWriter implements DataWriter {
+
+    private static final class Frame {
+
+        final ConfigurationNode node;
+        final boolean view;
+
+        Frame(ConfigurationNode node, boolean view) {
+            this.node = node;
+            this.view = view;
+        }
+
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    private final ConfigurationNode root;
+    @Nullable private String key;
+    private boolean begun;
+
+    ConfigurationNodeWriter(ConfigurationNode root) {
+        this.root = root;
+    }
+
+    @Override
+    public DataWriter beginView() {
+        final ConfigurationNode node;
+        if (!this.begun) {
+            this.begun = true;
+            node = this.root;
+        } else {
+            node = nextNode();
+        }
+        node.setValue(Collections.emptyMap());
+        this.frames.push(new Frame(node, true));
+        return this;
+    }
+
+    @Override
+    public DataWriter endView() {
+        final Frame frame = current();
+        checkState(frame.view && this.key == null, "Not in a view");
+        this.frames.pop();
+        return this;
+    }
+
+    @Override
+    public DataWriter beginList() {
+        final ConfigurationNode node = nextNode();
+        node.setValue(Collections.emptyList());
+        this.frames.push(new Frame(node, false));
+        return this;
+    }
+
+    @Override
+    public DataWriter endList() {
+        checkState(!current().view, "Not in a list");
+        this.frames.pop();
+        return this;
+    }
+
+    @Override
+    public DataWriter key(String key) {
+        checkNotNull(key, "key");
+        checkState(current().view && this.key == null, "Not expecting a key");
+        this.key = key;
+        return this;
+    }
+
+    @Override
+    public DataWriter value(Object value) {
+        checkNotNull(value, "value");
+        final ConfigurationNode node = nextNode();
+        if (value.getClass().isArray()) {
+            node.setValue(Collections.emptyList());
+            for (int i = 0, length = Array.getLength(value); i < length; i++) {
+                node.appendListNode().setValue(Array.get(value, i));
+            }
+        } else {
+            node.setValue(value);
+        }
+        return this;
+    }
+
+    private Frame current() {
+        final Frame frame = this.frames.peek();
+        checkState(frame != null, this.begun ? "The root view has already ended" : "The root view has not begun");
+        return frame;
+    }
+
+    private ConfigurationNode nextNode() {
+        final Frame frame = current();
+        if (!frame.view) {
+            return frame.node.appendListNode();
+        }
+        final String key = this.key;
+        checkState(key != null, "Expected a key");
+        this.key = null;
+        return frame.node.getNode(key);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+        checkState(!this.begun || this.frames.isEmpty(), "The root view has not ended");
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataWriter} which collects the written data into a
+ * {@link DataContainer} and hands it to {@link #complete(DataContainer)}
+ * once the writer is closed.
+ */
+abstract class DataContainerWriter implements DataWriter {
+
+    private static final class Frame {
+
+        final Object target;
+        @Nullable final String key;
+
+        Frame(Object target, @Nullable String key) {
+            this.target = target;
+            this.key = key;
+        }
+
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    @Nullable private DataContainer root;
+    @Nullable private String key;
+    private boolean closed;
+
+    /**
+     * Called with the written data once the writer is closed.
+     *
+     * @param container The written data
+     * @throws IOException If there was an error writing the data
+     */
+    protected abstract void complete(DataContainer container) throws IOException;
+
+    @Override
+    public DataWriter beginView() {
+        if (this.root == null) {
+            checkState(!this.closed, "The writer is closed");
+            this.root = DataContainer.createNew();
+            this.frames.push(new Frame(this.root, null));
+            return this;
+        }
+        final Frame parent = current();
+        if (parent.target instanceof DataView) {
+            this.frames.push(new Frame(((DataView) parent.target).createView(DataQuery.of(takeKey())), null));
+        } else {
+            final DataContainer container = DataContainer.createNew();
+            this.frames.push(new Frame(container, null));
+            add(parent, container);
+        }
+        return this;
+    }
+
+    @Override
+    public DataWriter endView() {
+        checkState(current().target instanceof DataView && this.key == null, "Not in a view");
+        this.frames.pop();
+        return this;
+    }
+
+    @Override
+    public DataWriter beginList() {
+        final Frame parent = current();
+        this.frames.push(new Frame(new ArrayList<>(), parent.target instanceof DataView ? takeKey() : null));
+        return this;
+    }
+
+    @Override
+    public DataWriter endList() {
+        final Frame frame = current();
+        checkState(frame.target instanceof List, "Not in a list");
+        this.frames.pop();
+        final Frame parent = current();
+        if (parent.target instanceof DataView) {
+            ((DataView) parent.target).set(DataQuery.of(frame.key), frame.target);
+        } else {
+            add(parent, frame.target);
+        }
+        return this;
+    }
+
+    @Override
+    public DataWriter key(String key) {
+        checkNotNull(key, "key");
+        checkState(current().target instanceof DataView && this.key == null, "Not expecting a key");
+        this.key = key;
+        return this;
+    }
+
+    @Override
+    public DataWriter value(Object value) {
+        checkNotNull(value, "value");
+        final Frame parent = current();
+        if (parent.target instanceof DataView) {
+            ((DataView) parent.target).set(DataQuery.of(takeKey()), value);
+        } else {
+            add(parent, value);
+        }
+        return this;
+    }
+
+    private Frame current() {
+        final Frame frame = this.frames.peek();
+        checkState(frame != null, this.root == null ? "The root view has not begun" : "The root view has already ended");
+        return frame;
+    }
+
+    private String takeKey() {
+        final String key = this.key;
+        checkState(key != null, "Expected a key");
+        this.key = null;
+        return key;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void add(Frame frame, Object value) {
+        ((List<Object>) frame.target).add(value);
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        checkState(this.root != null && this.frames.isEmpty(), "The root view has not ended");
+        complete(this.root);
+    }
+
+}
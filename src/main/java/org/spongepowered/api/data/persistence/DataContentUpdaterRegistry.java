@@ -0,0 +1,125 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.data.DataManager;
+import org.spongepowered.api.data.DataSerializable;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps track of the {@link DataContentUpdater}s registered for
+ * {@link DataSerializable}s, and composes them into a single fused updater for
+ * each version jump.
+ *
+ * <p>Fused updaters are cached per class and version jump until another
+ * updater is registered for that class, so looking one up for every updated
+ * view is cheap. This is intended to back
+ * {@link DataManager#registerContentUpdater(Class, DataContentUpdater)} and
+ * {@link DataManager#getWrappedContentUpdater(Class, int, int)}.</p>
+ */
+public final class DataContentUpdaterRegistry {
+
+    private final Map<Class<?>, List<DataContentUpdater>> updaters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<Long, Optional<DataContentUpdater>>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a {@link DataContentUpdater} for the desired
+     * {@link DataSerializable}.
+     *
+     * @param clazz The data serializable class
+     * @param updater The updater
+     */
+    public void register(Class<? extends DataSerializable> clazz, DataContentUpdater updater) {
+        checkNotNull(clazz, "clazz");
+        checkNotNull(updater, "updater");
+        checkArgument(updater.getInputVersion() < updater.getOutputVersion(), "The updater must increase the content version");
+        this.updaters.computeIfAbsent(clazz, key -> new CopyOnWriteArrayList<>()).add(updater);
+        this.cache.remove(clazz);
+    }
+
+    /**
+     * Gets a fused {@link DataContentUpdater} that applies the shortest chain
+     * of registered updaters to translate versioned data from the desired
+     * {@code fromVersion} to the {@code toVersion}, if the registered updaters
+     * cover the complete jump.
+     *
+     * @param clazz The data serializable class
+     * @param fromVersion The version converting from
+     * @param toVersion The version converting to
+     * @return The content updater, if available
+     */
+    public Optional<DataContentUpdater> get(Class<? extends DataSerializable> clazz, int fromVersion, int toVersion) {
+        checkNotNull(clazz, "clazz");
+        final long key = ((long) fromVersion << 32) | (toVersion & 0xFFFFFFFFL);
+        return this.cache.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> compose(this.updaters.get(clazz), fromVersion, toVersion));
+    }
+
+    private static Optional<DataContentUpdater> compose(List<DataContentUpdater> updaters, int fromVersion, int toVersion) {
+        if (updaters == null || fromVersion >= toVersion) {
+            return Optional.empty();
+        }
+        // Breadth first search for the shortest chain of updaters
+        final Map<Integer, DataContentUpdater> reachedBy = new HashMap<>();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(fromVersion);
+        while (!queue.isEmpty() && !reachedBy.containsKey(toVersion)) {
+            final int version = queue.poll();
+            for (DataContentUpdater updater : updaters) {
+                final int output = updater.getOutputVersion();
+                if (updater.getInputVersion() == version && output <= toVersion && output != fromVersion && !reachedBy.containsKey(output)) {
+                    reachedBy.put(output, updater);
+                    queue.add(output);
+                }
+            }
+        }
+        if (!reachedBy.containsKey(toVersion)) {
+            return Optional.empty();
+        }
+        final List<DataContentUpdater> chain = Lists.newArrayList();
+        for (int version = toVersion; version != fromVersion; ) {
+            final DataContentUpdater updater = reachedBy.get(version);
+            chain.add(updater);
+            version = updater.getInputVersion();
+        }
+        if (chain.size() == 1) {
+            return Optional.of(chain.get(0));
+        }
+        return Optional.of(new FusedDataContentUpdater(Lists.reverse(chain)));
+    }
+
+}
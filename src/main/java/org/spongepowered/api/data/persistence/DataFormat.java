@@ -62,4 +62,50 @@ public interface DataFormat extends CatalogType {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Creates a new {@link DataReader} which reads the contents of the given
+     * {@link InputStream} one token at a time. Closing the reader closes the
+     * stream.
+     *
+     * <p>The default implementation reads the whole stream using
+     * {@link #readFrom(InputStream)} before returning, implementations are
+     * expected to read the stream lazily instead.</p>
+     *
+     * @param input The input stream
+     * @return A reader of the contents of the input stream
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    default DataReader createReader(InputStream input) throws InvalidDataFormatException, IOException {
+        return new DataViewReader(readFrom(input), input);
+    }
+
+    /**
+     * Creates a new {@link DataWriter} which writes to the given
+     * {@link OutputStream} using the format specified by this
+     * {@link DataFormat}. Closing the writer closes the stream.
+     *
+     * <p>The default implementation collects all written data and writes it
+     * using {@link #writeTo(OutputStream, DataView)} once the writer is
+     * closed, implementations are expected to write the data as it arrives
+     * instead.</p>
+     *
+     * @param output The output stream to write the data to
+     * @return A writer to the output stream
+     * @throws IOException If there was an error writing to the stream
+     */
+    default DataWriter createWriter(OutputStream output) throws IOException {
+        return new DataContainerWriter() {
+            @Override
+            protected void complete(DataContainer container) throws IOException {
+                try {
+                    writeTo(output, container);
+                } finally {
+                    output.close();
+                }
+            }
+        };
+    }
+
 }
@@ -0,0 +1,331 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * A pull-style reader of the data serialized by a {@link DataFormat}.
+ *
+ * <p>Instead of materializing a whole {@link DataContainer}, the data is
+ * exposed as a sequence of {@link Token}s, which are consumed one at a time.
+ * Subtrees that aren't needed can be skipped with {@link #skipValue()}, a few
+ * values can be picked out with {@link #readQueries(Collection)} and the
+ * data can be piped into any {@link DataWriter} with
+ * {@link #transferTo(DataWriter)}.</p>
+ *
+ * <p>A new reader is positioned before the root view, so the first token is
+ * always {@link Token#BEGIN_VIEW}.</p>
+ */
+public interface DataReader extends Closeable {
+
+    /**
+     * Creates a new {@link DataReader} over the contents of the given
+     * {@link DataView}.
+     *
+     * @param view The view to read
+     * @return The new reader
+     */
+    static DataReader of(DataView view) {
+        return new DataViewReader(checkNotNull(view, "view"), null);
+    }
+
+    /**
+     * Gets the type of the next token without consuming it.
+     *
+     * @return The type of the next token
+     * @throws IOException If there was an error reading from the stream
+     */
+    Token peek() throws IOException;
+
+    /**
+     * Consumes the next token, which must be a {@link Token#BEGIN_VIEW}.
+     *
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is of a different type
+     */
+    void beginView() throws IOException;
+
+    /**
+     * Consumes the next token, which must be a {@link Token#END_VIEW}.
+     *
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is of a different type
+     */
+    void endView() throws IOException;
+
+    /**
+     * Consumes the next token, which must be a {@link Token#BEGIN_LIST}.
+     *
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is of a different type
+     */
+    void beginList() throws IOException;
+
+    /**
+     * Consumes the next token, which must be a {@link Token#END_LIST}.
+     *
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is of a different type
+     */
+    void endList() throws IOException;
+
+    /**
+     * Consumes the next token, which must be a {@link Token#KEY}, and gets
+     * the key.
+     *
+     * @return The key
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is of a different type
+     */
+    String nextKey() throws IOException;
+
+    /**
+     * Consumes the next token, which must be a {@link Token#VALUE}, and gets
+     * the value. Values are strings, boxed primitives or primitive arrays.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is of a different type
+     */
+    Object nextValue() throws IOException;
+
+    /**
+     * Skips the next value, including all of its contents if it is a view or
+     * a list. If the next token is a {@link Token#KEY}, both the key and its
+     * value are skipped.
+     *
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token doesn't start a value
+     */
+    default void skipValue() throws IOException {
+        int depth = 0;
+        boolean key;
+        do {
+            key = false;
+            switch (peek()) {
+                case BEGIN_VIEW:
+                    beginView();
+                    depth++;
+                    break;
+                case BEGIN_LIST:
+                    beginList();
+                    depth++;
+                    break;
+                case END_VIEW:
+                    checkState(depth > 0, "No value to skip");
+                    endView();
+                    depth--;
+                    break;
+                case END_LIST:
+                    checkState(depth > 0, "No value to skip");
+                    endList();
+                    depth--;
+                    break;
+                case KEY:
+                    nextKey();
+                    // Skip the value of the key as well
+                    key = true;
+                    break;
+                case VALUE:
+                    nextValue();
+                    break;
+                default:
+                    throw new IllegalStateException("No value to skip");
+            }
+        } while (depth > 0 || key);
+    }
+
+    /**
+     * Reads the next value, which must be a view, into a new
+     * {@link DataContainer}.
+     *
+     * @return The container
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is not a
+     *     {@link Token#BEGIN_VIEW}
+     */
+    default DataContainer readView() throws IOException {
+        final DataContainer container = DataContainer.createNew();
+        beginView();
+        while (peek() != Token.END_VIEW) {
+            final String key = nextKey();
+            container.set(DataQuery.of(key), readValue());
+        }
+        endView();
+        return container;
+    }
+
+    /**
+     * Reads the next value. Views are read into a {@link DataContainer} and
+     * lists into a {@link List}.
+     *
+     * @return The value
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token doesn't start a value
+     */
+    default Object readValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_VIEW:
+                return readView();
+            case BEGIN_LIST:
+                final List<Object> list = new ArrayList<>();
+                beginList();
+                while (peek() != Token.END_LIST) {
+                    list.add(readValue());
+                }
+                endList();
+                return list;
+            case VALUE:
+                return nextValue();
+            default:
+                throw new IllegalStateException("Expected a value but was " + peek());
+        }
+    }
+
+    /**
+     * Reads only the given {@link DataQuery}s of the next value, which must
+     * be a view, into a new {@link DataContainer}. Every other part of the
+     * view is skipped without being materialized.
+     *
+     * @param queries The queries to read, relative to the next view
+     * @return The container holding the values found for the queries
+     * @throws IOException If there was an error reading from the stream
+     * @throws IllegalStateException If the next token is not a
+     *     {@link Token#BEGIN_VIEW}
+     */
+    default DataContainer readQueries(Collection<DataQuery> queries) throws IOException {
+        final DataContainer container = DataContainer.createNew();
+        DataViewReader.readQueries(this, ImmutableList.copyOf(queries), DataQuery.of(), container);
+        return container;
+    }
+
+    /**
+     * Reads the next value and writes it to the given {@link DataWriter},
+     * without materializing it.
+     *
+     * @param writer The writer to write the value to
+     * @throws IOException If there was an error reading from or writing to
+     *     a stream
+     * @throws IllegalStateException If the next token doesn't start a value
+     */
+    default void transferTo(DataWriter writer) throws IOException {
+        checkNotNull(writer, "writer");
+        int depth = 0;
+        boolean key;
+        do {
+            key = false;
+            switch (peek()) {
+                case BEGIN_VIEW:
+                    beginView();
+                    writer.beginView();
+                    depth++;
+                    break;
+                case BEGIN_LIST:
+                    beginList();
+                    writer.beginList();
+                    depth++;
+                    break;
+                case END_VIEW:
+                    checkState(depth > 0, "No value to transfer");
+                    endView();
+                    writer.endView();
+                    depth--;
+                    break;
+                case END_LIST:
+                    checkState(depth > 0, "No value to transfer");
+                    endList();
+                    writer.endList();
+                    depth--;
+                    break;
+                case KEY:
+                    writer.key(nextKey());
+                    // Transfer the value of the key as well
+                    key = true;
+                    break;
+                case VALUE:
+                    writer.value(nextValue());
+                    break;
+                default:
+                    throw new IllegalStateException("No value to transfer");
+            }
+        } while (depth > 0 || key);
+    }
+
+    /**
+     * The types of tokens read by a {@link DataReader}.
+     */
+    enum Token {
+
+        /**
+         * The start of a view.
+         */
+        BEGIN_VIEW,
+
+        /**
+         * The end of a view.
+         */
+        END_VIEW,
+
+        /**
+         * The start of a list.
+         */
+        BEGIN_LIST,
+
+        /**
+         * The end of a list.
+         */
+        END_LIST,
+
+        /**
+         * The key of an entry of a view, which is followed by its value.
+         */
+        KEY,
+
+        /**
+         * A value which is neither a view nor a list.
+         */
+        VALUE,
+
+        /**
+         * The end of the data.
+         */
+        END_DOCUMENT
+
+    }
+
+}
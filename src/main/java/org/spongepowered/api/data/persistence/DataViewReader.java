@@ -0,0 +1,200 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataReader} over a {@link DataView} that is already in memory.
+ */
+final class DataViewReader implements DataReader {
+
+    private static final class Frame {
+
+        final Iterator<?> iterator;
+        final boolean view;
+
+        Frame(Iterator<?> iterator, boolean view) {
+            this.iterator = iterator;
+            this.view = view;
+        }
+
+    }
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+    @Nullable private final Closeable source;
+    @Nullable private Object next;
+
+    DataViewReader(DataView view, @Nullable Closeable source) {
+        this.next = view;
+        this.source = source;
+    }
+
+    @Override
+    public Token peek() {
+        if (this.next != null) {
+            return tokenOf(this.next);
+        }
+        final Frame frame = this.frames.peek();
+        if (frame == null) {
+            return Token.END_DOCUMENT;
+        }
+        if (frame.view) {
+            return frame.iterator.hasNext() ? Token.KEY : Token.END_VIEW;
+        }
+        if (!frame.iterator.hasNext()) {
+            return Token.END_LIST;
+        }
+        this.next = frame.iterator.next();
+        return tokenOf(this.next);
+    }
+
+    private static Token tokenOf(Object value) {
+        if (value instanceof DataView || value instanceof Map) {
+            return Token.BEGIN_VIEW;
+        } else if (value instanceof Collection) {
+            return Token.BEGIN_LIST;
+        }
+        return Token.VALUE;
+    }
+
+    private void expect(Token token) {
+        final Token next = peek();
+        checkState(next == token, "Expected %s but was %s", token, next);
+    }
+
+    @Override
+    public void beginView() {
+        expect(Token.BEGIN_VIEW);
+        final Object value = this.next;
+        this.next = null;
+        if (value instanceof DataView) {
+            final DataView view = (DataView) value;
+            this.frames.push(new Frame(Iterators.transform(view.getKeys(false).iterator(),
+                    query -> Maps.immutableEntry(query.getParts().get(0), view.get(query).get())), true));
+        } else {
+            this.frames.push(new Frame(((Map<?, ?>) value).entrySet().iterator(), true));
+        }
+    }
+
+    @Override
+    public void endView() {
+        expect(Token.END_VIEW);
+        this.frames.pop();
+    }
+
+    @Override
+    public void beginList() {
+        expect(Token.BEGIN_LIST);
+        this.frames.push(new Frame(((Collection<?>) this.next).iterator(), false));
+        this.next = null;
+    }
+
+    @Override
+    public void endList() {
+        expect(Token.END_LIST);
+        this.frames.pop();
+    }
+
+    @Override
+    public String nextKey() {
+        expect(Token.KEY);
+        final Map.Entry<?, ?> entry = (Map.Entry<?, ?>) this.frames.peek().iterator.next();
+        this.next = entry.getValue();
+        return entry.getKey().toString();
+    }
+
+    @Override
+    public Object nextValue() {
+        expect(Token.VALUE);
+        final Object value = this.next;
+        this.next = null;
+        return value;
+    }
+
+    @Override
+    public void skipValue() {
+        if (peek() == Token.KEY) {
+            nextKey();
+        }
+        final Token token = peek();
+        checkState(token == Token.BEGIN_VIEW || token == Token.BEGIN_LIST || token == Token.VALUE, "No value to skip");
+        // The value is already in memory, so it can be dropped as a whole
+        this.next = null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.frames.clear();
+        this.next = null;
+        if (this.source != null) {
+            this.source.close();
+        }
+    }
+
+    static void readQueries(DataReader reader, List<DataQuery> queries, DataQuery prefix, DataContainer container) throws IOException {
+        reader.beginView();
+        while (reader.peek() == Token.KEY) {
+            final DataQuery query = prefix.then(reader.nextKey());
+            if (queries.contains(query)) {
+                container.set(query, reader.readValue());
+            } else if (reader.peek() == Token.BEGIN_VIEW && isParent(query, queries)) {
+                readQueries(reader, queries, query, container);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endView();
+    }
+
+    private static boolean isParent(DataQuery query, List<DataQuery> queries) {
+        final List<String> parts = query.getParts();
+        for (DataQuery other : queries) {
+            final List<String> otherParts = other.getParts();
+            if (otherParts.size() > parts.size() && otherParts.subList(0, parts.size()).equals(parts)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
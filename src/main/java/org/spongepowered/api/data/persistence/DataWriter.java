@@ -0,0 +1,148 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * A push-style writer of data in the format of a {@link DataFormat}.
+ *
+ * <p>The data is written as a sequence of events instead of a complete
+ * {@link DataView}, so it never needs to be held in memory as a whole. The
+ * first event must begin the root view, and closing the writer once the root
+ * view has ended completes the data.</p>
+ */
+public interface DataWriter extends Closeable, Flushable {
+
+    /**
+     * Begins a new view, either as the root view, as the value of the
+     * previous {@link #key(String)} or as an element of the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter beginView() throws IOException;
+
+    /**
+     * Ends the current view.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter endView() throws IOException;
+
+    /**
+     * Begins a new list, either as the value of the previous
+     * {@link #key(String)} or as an element of the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter beginList() throws IOException;
+
+    /**
+     * Ends the current list.
+     *
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter endList() throws IOException;
+
+    /**
+     * Writes the key of the next entry of the current view.
+     *
+     * @param key The key
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter key(String key) throws IOException;
+
+    /**
+     * Writes a value which is neither a view nor a list, either as the value
+     * of the previous {@link #key(String)} or as an element of the current
+     * list.
+     *
+     * @param value The value
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataWriter value(Object value) throws IOException;
+
+    /**
+     * Writes the whole contents of the given {@link DataView} as a view.
+     *
+     * @param view The view to write
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    default DataWriter write(DataView view) throws IOException {
+        checkNotNull(view, "view");
+        beginView();
+        for (DataQuery query : view.getKeys(false)) {
+            key(query.getParts().get(0));
+            write(view.get(query).get());
+        }
+        return endView();
+    }
+
+    /**
+     * Writes the given value, writing {@link DataView}s and {@link Map}s as
+     * views and {@link Collection}s as lists.
+     *
+     * @param value The value to write
+     * @return This writer, for chaining
+     * @throws IOException If there was an error writing to the stream
+     */
+    default DataWriter write(Object value) throws IOException {
+        checkNotNull(value, "value");
+        if (value instanceof DataView) {
+            return write((DataView) value);
+        } else if (value instanceof Map) {
+            beginView();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                key(entry.getKey().toString());
+                write(entry.getValue());
+            }
+            return endView();
+        } else if (value instanceof Collection) {
+            beginList();
+            for (Object object : (Collection<?>) value) {
+                write(object);
+            }
+            return endList();
+        }
+        return value(value);
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import org.spongepowered.api.data.DataView;
+
+import java.util.List;
+
+/**
+ * A {@link DataContentUpdater} which applies a chain of consecutive updaters
+ * in a single pass.
+ */
+final class FusedDataContentUpdater implements DataContentUpdater {
+
+    private final DataContentUpdater[] updaters;
+
+    FusedDataContentUpdater(List<DataContentUpdater> updaters) {
+        this.updaters = updaters.toArray(new DataContentUpdater[updaters.size()]);
+    }
+
+    @Override
+    public int getInputVersion() {
+        return this.updaters[0].getInputVersion();
+    }
+
+    @Override
+    public int getOutputVersion() {
+        return this.updaters[this.updaters.length - 1].getOutputVersion();
+    }
+
+    @Override
+    public DataView update(DataView content) {
+        DataView view = content;
+        for (DataContentUpdater updater : this.updaters) {
+            view = updater.update(view);
+        }
+        return view;
+    }
+
+}
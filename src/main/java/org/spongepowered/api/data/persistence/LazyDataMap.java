@@ -0,0 +1,258 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BOOLEAN_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.CHAR_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.DOUBLE_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.FLOAT_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.SHORT_ARRAY;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.persistence.BinaryDataFormat.VIEW;
+
+import com.google.common.collect.ForwardingMap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * The contents of a view encoded in the {@link BinaryDataFormat}, which are
+ * decoded the first time the map is accessed.
+ *
+ * <p>Nested views are not decoded along with their parent, they are backed by
+ * lazy maps of their own instead.</p>
+ */
+final class LazyDataMap extends ForwardingMap<String, Object> {
+
+    @Nullable private ByteBuffer buffer;
+    private final int offset;
+    private final int length;
+    @Nullable private DataView owner;
+    @Nullable private volatile Map<String, Object> delegate;
+
+    LazyDataMap(ByteBuffer buffer, int offset, int length) {
+        if (length < 4 || length > buffer.limit() - offset) {
+            throw new InvalidDataFormatException("Malformed binary data, view exceeds the buffer");
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    protected Map<String, Object> delegate() {
+        Map<String, Object> delegate = this.delegate;
+        if (delegate == null) {
+            synchronized (this) {
+                delegate = this.delegate;
+                if (delegate == null) {
+                    delegate = decode();
+                    this.delegate = delegate;
+                    // The contents are decoded, so the buffer is not needed
+                    // anymore
+                    this.buffer = null;
+                }
+            }
+        }
+        return delegate;
+    }
+
+    private Map<String, Object> decode() {
+        final ByteBuffer data = this.buffer.duplicate();
+        data.position(this.offset);
+        try {
+            // Every entry takes at least the length of its key and its type
+            final int count = getLength(data, 5);
+            final Map<String, Object> map = Maps.newLinkedHashMapWithExpectedSize(count);
+            for (int i = 0; i < count; i++) {
+                final String key = getString(data);
+                map.put(key, getValue(data, key));
+            }
+            if (data.position() != this.offset + this.length) {
+                throw new InvalidDataFormatException("Malformed binary data, view length does not match its contents");
+            }
+            return map;
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            throw new InvalidDataFormatException("Malformed binary data", e);
+        }
+    }
+
+    /**
+     * Reads a length or count, which must fit into the remaining data if every
+     * element takes the given number of bytes.
+     */
+    private static int getLength(ByteBuffer data, int elementSize) {
+        final int length = data.getInt();
+        if (length < 0 || length > data.remaining() / elementSize) {
+            throw new InvalidDataFormatException("Malformed binary data, length " + length + " exceeds the remaining data");
+        }
+        return length;
+    }
+
+    private static String getString(ByteBuffer data) {
+        final byte[] bytes = new byte[getLength(data, 1)];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private Object getValue(ByteBuffer data, @Nullable String key) {
+        final byte tag = data.get();
+        switch (tag) {
+            case BYTE:
+                return data.get();
+            case SHORT:
+                return data.getShort();
+            case INT:
+                return data.getInt();
+            case LONG:
+                return data.getLong();
+            case FLOAT:
+                return data.getFloat();
+            case DOUBLE:
+                return data.getDouble();
+            case BOOLEAN:
+                return data.get() != 0;
+            case CHAR:
+                return data.getChar();
+            case STRING:
+                return getString(data);
+            case VIEW: {
+                final int length = getLength(data, 1);
+                final LazyDataMap map = new LazyDataMap(this.buffer, data.position(), length);
+                data.position(data.position() + length);
+                if (key == null) {
+                    return new LazyDataContainer(map);
+                }
+                return new LazyDataView(this.owner, DataQuery.of(key), map);
+            }
+            case LIST: {
+                // Every element takes at least its type
+                final int count = getLength(data, 1);
+                final ImmutableList.Builder<Object> builder = ImmutableList.builder();
+                for (int i = 0; i < count; i++) {
+                    builder.add(getValue(data, null));
+                }
+                return builder.build();
+            }
+            case BYTE_ARRAY: {
+                final byte[] array = new byte[getLength(data, 1)];
+                data.get(array);
+                return array;
+            }
+            case SHORT_ARRAY: {
+                final short[] array = new short[getLength(data, 2)];
+                data.asShortBuffer().get(array);
+                data.position(data.position() + array.length * 2);
+                return array;
+            }
+            case INT_ARRAY: {
+                final int[] array = new int[getLength(data, 4)];
+                data.asIntBuffer().get(array);
+                data.position(data.position() + array.length * 4);
+                return array;
+            }
+            case LONG_ARRAY: {
+                final long[] array = new long[getLength(data, 8)];
+                data.asLongBuffer().get(array);
+                data.position(data.position() + array.length * 8);
+                return array;
+            }
+            case FLOAT_ARRAY: {
+                final float[] array = new float[getLength(data, 4)];
+                data.asFloatBuffer().get(array);
+                data.position(data.position() + array.length * 4);
+                return array;
+            }
+            case DOUBLE_ARRAY: {
+                final double[] array = new double[getLength(data, 8)];
+                data.asDoubleBuffer().get(array);
+                data.position(data.position() + array.length * 8);
+                return array;
+            }
+            case BOOLEAN_ARRAY: {
+                final boolean[] array = new boolean[getLength(data, 1)];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = data.get() != 0;
+                }
+                return array;
+            }
+            case CHAR_ARRAY: {
+                final char[] array = new char[getLength(data, 2)];
+                data.asCharBuffer().get(array);
+                data.position(data.position() + array.length * 2);
+                return array;
+            }
+            default:
+                throw new InvalidDataFormatException("Malformed binary data, unknown value type " + tag);
+        }
+    }
+
+    /**
+     * A root view whose contents are decoded lazily.
+     */
+    @SuppressWarnings("deprecation")
+    static final class LazyDataContainer extends org.spongepowered.api.data.MemoryDataContainer {
+
+        LazyDataContainer(LazyDataMap map) {
+            super(SafetyMode.ALL_DATA_CLONED, map);
+            map.owner = this;
+        }
+
+    }
+
+    /**
+     * A nested view whose contents are decoded lazily.
+     */
+    @SuppressWarnings("deprecation")
+    static final class LazyDataView extends org.spongepowered.api.data.MemoryDataView {
+
+        LazyDataView(DataView parent, DataQuery path, LazyDataMap map) {
+            super(parent, path, parent.getSafetyMode(), map);
+            map.owner = this;
+        }
+
+    }
+
+}
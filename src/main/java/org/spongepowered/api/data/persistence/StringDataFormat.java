@@ -80,4 +80,50 @@ public interface StringDataFormat extends DataFormat {
      */
     void writeTo(Writer output, DataView data) throws IOException;
 
+    /**
+     * Creates a new {@link DataReader} which reads the contents of the given
+     * {@link Reader} one token at a time. Closing the data reader closes the
+     * given reader.
+     *
+     * <p>The default implementation reads the whole input using
+     * {@link #readFrom(Reader)} before returning, implementations are
+     * expected to read the input lazily instead.</p>
+     *
+     * @param input The reader
+     * @return A data reader of the contents of the reader
+     * @throws InvalidDataException If the data in the reader was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the reader
+     */
+    default DataReader createReader(Reader input) throws InvalidDataException, IOException {
+        return new DataViewReader(readFrom(input), input);
+    }
+
+    /**
+     * Creates a new {@link DataWriter} which writes to the given
+     * {@link Writer} using the format specified by this {@link DataFormat}.
+     * Closing the data writer closes the given writer.
+     *
+     * <p>The default implementation collects all written data and writes it
+     * using {@link #writeTo(Writer, DataView)} once the data writer is
+     * closed, implementations are expected to write the data as it arrives
+     * instead.</p>
+     *
+     * @param output The writer to write the data to
+     * @return A data writer to the writer
+     * @throws IOException If there was an error writing to the writer
+     */
+    default DataWriter createWriter(Writer output) throws IOException {
+        return new DataContainerWriter() {
+            @Override
+            protected void complete(DataContainer container) throws IOException {
+                try {
+                    writeTo(output, container);
+                } finally {
+                    output.close();
+                }
+            }
+        };
+    }
+
 }
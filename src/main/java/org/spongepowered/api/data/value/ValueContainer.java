@@ -29,6 +29,7 @@
 import com.google.common.collect.ImmutableSet;
 import org.spongepowered.api.data.DataHolder;
 import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.key.KeySet;
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValueStore;
@@ -169,6 +170,9 @@ default boolean supports(BaseValue<?> baseValue) {
      * nor can the {@link BaseValue}s be changed with the provided
      * {@link ImmutableSet}.
      *
+     * <p>Implementations are encouraged to return a shared {@link KeySet},
+     * which neither allocates nor hashes.</p>
+     *
      * @return An immutable set of known {@link Key}s
      */
     Set<Key<?>> getKeys();
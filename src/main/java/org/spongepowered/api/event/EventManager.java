@@ -25,6 +25,13 @@
 package org.spongepowered.api.event;
 
 import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.event.metric.EventMetrics;
+import org.spongepowered.api.event.metric.ListenerMetrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * Manages the registration of event listeners and the dispatching of events.
@@ -163,6 +170,35 @@ <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, O
      */
     void unregisterPluginListeners(Object plugin);
 
+    /**
+     * Gets whether any listener is registered for the given event class or
+     * any of its supertypes.
+     *
+     * <p>This is cheap enough to be called before every event is constructed,
+     * so events that nobody listens to don't need to be created and posted at
+     * all. Implementations that can't tell return true.</p>
+     *
+     * @param eventClass The event class
+     * @return True if the event may have listeners
+     */
+    default boolean hasListeners(Class<? extends Event> eventClass) {
+        return true;
+    }
+
+    /**
+     * Gets whether any listener is registered for the given event type or
+     * any of its supertypes, taking the generic type of a
+     * {@link GenericEvent} into account.
+     *
+     * @param eventType The event type
+     * @return True if the event may have listeners
+     * @see #hasListeners(Class)
+     */
+    @SuppressWarnings("unchecked")
+    default boolean hasListeners(TypeToken<? extends Event> eventType) {
+        return hasListeners((Class<? extends Event>) eventType.getRawType());
+    }
+
     /**
      * Calls a {@link Event} to all listeners that listen to it.
      *
@@ -171,4 +207,62 @@ <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, O
      */
     boolean post(Event event);
 
+    /**
+     * Calls a {@link Event} to all listeners that listen to it, without
+     * blocking the calling thread.
+     *
+     * <p>Listeners are still called one after another in their {@link Order},
+     * so each one sees the cancellation state left by the ones before it.
+     * Listeners declared {@link Listener#async() async} are called on the
+     * given executor, all others on the main thread. Implementations without
+     * support for this call all listeners on the calling thread before
+     * returning.</p>
+     *
+     * <p>Listeners on the main thread which come before any async listener
+     * are called right away when posting from the main thread. Blocking the
+     * main thread on the returned future, such as with
+     * {@link CompletableFuture#join()}, deadlocks if any listener on the main
+     * thread comes after an async listener, as it waits for the main thread
+     * to call it.</p>
+     *
+     * @param event The event
+     * @param executor The executor to call async listeners on
+     * @return A future completed with true if the event was cancelled, false
+     *     if not
+     */
+    default CompletableFuture<Boolean> postAsync(Event event, Executor executor) {
+        return CompletableFuture.completedFuture(post(event));
+    }
+
+    /**
+     * Gets the invocations and sampled latencies of every registered
+     * listener.
+     *
+     * <p>Implementations only time a fraction of all invocations, so the
+     * metrics can be collected at all times. Implementations without metrics
+     * return no listeners.</p>
+     *
+     * @return The metrics of all listeners
+     */
+    default Collection<ListenerMetrics> getListenerMetrics() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Gets the number of posts and the sampled latencies of calling all
+     * listeners for every class of posted events.
+     *
+     * @return The metrics of all posted event classes
+     * @see #getListenerMetrics()
+     */
+    default Collection<EventMetrics> getEventMetrics() {
+        return Collections.emptyList();
+    }
+
+    /**
+     * Clears the metrics of all listeners and events.
+     */
+    default void resetMetrics() {
+    }
+
 }
@@ -57,4 +57,30 @@
      */
     boolean beforeModifications() default false;
 
+    /**
+     * Whether this listener is safe to be called off the main thread.
+     *
+     * <p>When an event is posted with
+     * {@link EventManager#postAsync(Event, java.util.concurrent.Executor)},
+     * async listeners are called on the given executor while all other
+     * listeners are still called on the main thread.</p>
+     *
+     * @return If the listener may be called asynchronously
+     */
+    boolean async() default false;
+
+    /**
+     * Whether this listener receives all events of a tick in one call.
+     *
+     * <p>A batched listener must be called in {@link Order#POST} and take a
+     * single {@link java.util.List} of events instead of an event, such as
+     * {@code onBreak(List<ChangeBlockEvent.Break> events)}. The events which
+     * were not cancelled are collected as they are posted and passed to the
+     * listener as an immutable list at the end of the tick, in the order they
+     * were posted. Filter annotations are rejected.</p>
+     *
+     * @return If the listener receives batches of events
+     */
+    boolean batched() default false;
+
 }
@@ -0,0 +1,337 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKey;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A simple implementation of {@link CauseStackManager}.
+ *
+ * <p>The current {@link Cause} and {@link EventContext} are built once and
+ * reused until the cause stack or the context changes, and
+ * {@link StackFrame}s are pooled and reused once popped. A frame handle must
+ * therefore not be used after it was popped.</p>
+ *
+ * <p>A manager is not thread safe and should only be used by a single
+ * thread, see {@link #threadLocal()} for a manager that keeps a separate
+ * stack for every thread.</p>
+ */
+public class SimpleCauseStackManager implements CauseStackManager {
+
+    /**
+     * Creates a {@link CauseStackManager} with a separate cause stack, context
+     * and frames for every thread using it.
+     *
+     * @return The new thread local cause stack manager
+     */
+    public static CauseStackManager threadLocal() {
+        return new ThreadLocalCauseStackManager();
+    }
+
+    private static final int INITIAL_CAPACITY = 8;
+    // Marks context keys that were absent before a frame changed them
+    private static final Object ABSENT = new Object();
+
+    private Object[] causes = new Object[INITIAL_CAPACITY];
+    private int size;
+    private Frame[] frames = new Frame[INITIAL_CAPACITY];
+    private int frameCount;
+    private final Map<EventContextKey<?>, Object> context = new HashMap<>();
+
+    // Cached until the stack or the context changes
+    @Nullable private Cause cachedCause;
+    @Nullable private EventContext cachedContext;
+
+    @Override
+    public Cause getCurrentCause() {
+        if (this.cachedCause == null) {
+            checkState(this.size > 0, "The cause stack is empty");
+            // The most recently pushed cause is the root
+            final Object[] rest = new Object[this.size - 1];
+            for (int i = 0; i < rest.length; i++) {
+                rest[i] = this.causes[this.size - 2 - i];
+            }
+            this.cachedCause = Cause.of(getCurrentContext(), this.causes[this.size - 1], rest);
+        }
+        return this.cachedCause;
+    }
+
+    @Override
+    public EventContext getCurrentContext() {
+        if (this.cachedContext == null) {
+            this.cachedContext = this.context.isEmpty() ? EventContext.empty() : EventContext.of(this.context);
+        }
+        return this.cachedContext;
+    }
+
+    @Override
+    public CauseStackManager pushCause(Object obj) {
+        checkNotNull(obj, "obj");
+        if (this.size == this.causes.length) {
+            this.causes = Arrays.copyOf(this.causes, this.size << 1);
+        }
+        this.causes[this.size++] = obj;
+        this.cachedCause = null;
+        return this;
+    }
+
+    @Override
+    public Object popCause() {
+        checkState(this.size > minDepth(), "Tried to pop more causes than were pushed since the last frame");
+        final Object cause = this.causes[--this.size];
+        this.causes[this.size] = null;
+        this.cachedCause = null;
+        return cause;
+    }
+
+    @Override
+    public void popCauses(int n) {
+        checkArgument(n >= 0, "Cannot pop a negative amount of causes");
+        for (int i = 0; i < n; i++) {
+            popCause();
+        }
+    }
+
+    @Override
+    public Object peekCause() {
+        if (this.size == 0) {
+            throw new NoSuchElementException("The cause stack is empty");
+        }
+        return this.causes[this.size - 1];
+    }
+
+    private int minDepth() {
+        return this.frameCount == 0 ? 0 : this.frames[this.frameCount - 1].depth;
+    }
+
+    @Override
+    public StackFrame pushCauseFrame() {
+        if (this.frameCount == this.frames.length) {
+            this.frames = Arrays.copyOf(this.frames, this.frameCount << 1);
+        }
+        Frame frame = this.frames[this.frameCount];
+        if (frame == null) {
+            frame = this.frames[this.frameCount] = new Frame();
+        }
+        frame.depth = this.size;
+        frame.active = true;
+        this.frameCount++;
+        return frame;
+    }
+
+    @Override
+    public void popCauseFrame(StackFrame handle) {
+        checkNotNull(handle, "handle");
+        checkState(this.frameCount > 0 && this.frames[this.frameCount - 1] == handle,
+                "Tried to pop a frame that is not at the head of the frame stack, a frame was not popped properly");
+        final Frame frame = (Frame) handle;
+        while (this.size > frame.depth) {
+            this.causes[--this.size] = null;
+            this.cachedCause = null;
+        }
+        if (!frame.previousContext.isEmpty()) {
+            for (Map.Entry<EventContextKey<?>, Object> entry : frame.previousContext.entrySet()) {
+                if (entry.getValue() == ABSENT) {
+                    this.context.remove(entry.getKey());
+                } else {
+                    this.context.put(entry.getKey(), entry.getValue());
+                }
+            }
+            frame.previousContext.clear();
+            this.cachedContext = null;
+            this.cachedCause = null;
+        }
+        frame.active = false;
+        this.frameCount--;
+    }
+
+    @Override
+    public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
+        checkNotNull(key, "key");
+        checkNotNull(value, "value");
+        final Object previous = this.context.put(key, value);
+        if (previous != value) {
+            contextChanged(key, previous);
+        }
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> getContext(EventContextKey<T> key) {
+        checkNotNull(key, "key");
+        return Optional.ofNullable((T) this.context.get(key));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> Optional<T> removeContext(EventContextKey<T> key) {
+        checkNotNull(key, "key");
+        final Object previous = this.context.remove(key);
+        if (previous != null) {
+            contextChanged(key, previous);
+        }
+        return Optional.ofNullable((T) previous);
+    }
+
+    private void contextChanged(EventContextKey<?> key, @Nullable Object previous) {
+        if (this.frameCount > 0) {
+            // Only the value from before the frame was pushed is restored
+            this.frames[this.frameCount - 1].previousContext.putIfAbsent(key, previous == null ? ABSENT : previous);
+        }
+        this.cachedContext = null;
+        this.cachedCause = null;
+    }
+
+    private final class Frame implements StackFrame {
+
+        final Map<EventContextKey<?>, Object> previousContext = new HashMap<>();
+        int depth;
+        boolean active;
+
+        Frame() {
+        }
+
+        @Override
+        public Cause getCurrentCause() {
+            return SimpleCauseStackManager.this.getCurrentCause();
+        }
+
+        @Override
+        public EventContext getCurrentContext() {
+            return SimpleCauseStackManager.this.getCurrentContext();
+        }
+
+        @Override
+        public StackFrame pushCause(Object obj) {
+            SimpleCauseStackManager.this.pushCause(obj);
+            return this;
+        }
+
+        @Override
+        public Object popCause() {
+            return SimpleCauseStackManager.this.popCause();
+        }
+
+        @Override
+        public <T> StackFrame addContext(EventContextKey<T> key, T value) {
+            SimpleCauseStackManager.this.addContext(key, value);
+            return this;
+        }
+
+        @Override
+        public <T> Optional<T> removeContext(EventContextKey<T> key) {
+            return SimpleCauseStackManager.this.removeContext(key);
+        }
+
+        @Override
+        public void close() {
+            checkState(this.active, "This frame was already popped");
+            popCauseFrame(this);
+        }
+
+    }
+
+    private static final class ThreadLocalCauseStackManager implements CauseStackManager {
+
+        private final ThreadLocal<SimpleCauseStackManager> managers = ThreadLocal.withInitial(SimpleCauseStackManager::new);
+
+        ThreadLocalCauseStackManager() {
+        }
+
+        @Override
+        public Cause getCurrentCause() {
+            return this.managers.get().getCurrentCause();
+        }
+
+        @Override
+        public EventContext getCurrentContext() {
+            return this.managers.get().getCurrentContext();
+        }
+
+        @Override
+        public CauseStackManager pushCause(Object obj) {
+            this.managers.get().pushCause(obj);
+            return this;
+        }
+
+        @Override
+        public Object popCause() {
+            return this.managers.get().popCause();
+        }
+
+        @Override
+        public void popCauses(int n) {
+            this.managers.get().popCauses(n);
+        }
+
+        @Override
+        public Object peekCause() {
+            return this.managers.get().peekCause();
+        }
+
+        @Override
+        public StackFrame pushCauseFrame() {
+            return this.managers.get().pushCauseFrame();
+        }
+
+        @Override
+        public void popCauseFrame(StackFrame handle) {
+            this.managers.get().popCauseFrame(handle);
+        }
+
+        @Override
+        public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
+            this.managers.get().addContext(key, value);
+            return this;
+        }
+
+        @Override
+        public <T> Optional<T> getContext(EventContextKey<T> key) {
+            return this.managers.get().getContext(key);
+        }
+
+        @Override
+        public <T> Optional<T> removeContext(EventContextKey<T> key) {
+            return this.managers.get().removeContext(key);
+        }
+
+    }
+
+}
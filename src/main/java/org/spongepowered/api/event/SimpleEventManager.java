@@ -0,0 +1,669 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import co.aikar.timings.Timing;
+import co.aikar.timings.Timings;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Multimap;
+import com.google.common.reflect.TypeToken;
+import com.google.inject.Singleton;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.metric.EventMetrics;
+import org.spongepowered.api.event.metric.LatencyRecorder;
+import org.spongepowered.api.event.metric.ListenerMetrics;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.generator.event.EventListenerFactory;
+import org.spongepowered.api.util.generator.event.ListenerIndex;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+
+/**
+ * A simple implementation of {@link EventManager}.
+ *
+ * <p>Listener methods are called through classes generated by an
+ * {@link EventListenerFactory}. The listeners of every event class are
+ * collected and sorted once, and reused until a listener is registered or
+ * unregistered, which also makes {@link #hasListeners(Class)} a single map
+ * lookup.</p>
+ *
+ * <p>There are no other modifications to call listeners for, so listeners
+ * which are {@link Listener#beforeModifications() before modifications} are
+ * called before all other listeners, sorted by their {@link Order}.</p>
+ *
+ * <p>The listener methods of an object are taken from the
+ * {@link ListenerIndex} of its class loader if its class was compiled with
+ * the listener annotation processor, and found by scanning its class
+ * otherwise.</p>
+ *
+ * <p>Events for {@link Listener#batched() batched} listeners are collected
+ * until {@link #flushBatches()} is called, which the game is expected to do
+ * once at the end of every tick.</p>
+ *
+ * <p>Every listener call and post is counted, but only one in
+ * {@link #setSampleInterval(int) every few} posts is timed for the
+ * {@link #getListenerMetrics() metrics}. Listeners are also timed with
+ * {@link Timings} if they are available. Batched listeners are counted and
+ * timed when their batches are flushed, and asynchronous posts are timed
+ * until their last listener returns.</p>
+ */
+@Singleton
+public class SimpleEventManager implements EventManager {
+
+    private static final TypeVariable<?> GENERIC_TYPE = GenericEvent.class.getTypeParameters()[0];
+    private static final TypeVariable<?> LIST_ELEMENT_TYPE = List.class.getTypeParameters()[0];
+    private static final String FILTER_PACKAGE = "org.spongepowered.api.event.filter.";
+    private static final int DEFAULT_SAMPLE_INTERVAL = 16;
+
+    private final PluginManager pluginManager;
+    private final EventListenerFactory listenerFactory = new EventListenerFactory("org.spongepowered.api.event.listener");
+    private final Map<PluginContainer, Executor> syncExecutors = new ConcurrentHashMap<>();
+    private final Map<ClassLoader, ListenerIndex> listenerIndices = new MapMaker().weakKeys().makeMap();
+
+    private final Object lock = new Object();
+    private final Multimap<Class<?>, RegisteredListener> listenersByType = ArrayListMultimap.create();
+    private int sequence;
+
+    // Both replaced as a whole whenever listeners change, so a lookup racing
+    // a registration can only ever populate the discarded map
+    private volatile Map<Class<?>, List<RegisteredListener>> listenersByEvent = new ConcurrentHashMap<>();
+    private volatile Map<TypeToken<?>, Boolean> genericPresence = new ConcurrentHashMap<>();
+    private volatile List<RegisteredListener> batchers = ImmutableList.of();
+
+    private final Map<Class<? extends Event>, LatencyRecorder> eventRecorders = new ConcurrentHashMap<>();
+    private volatile int sampleMask = DEFAULT_SAMPLE_INTERVAL - 1;
+
+    /**
+     * Construct a simple {@link EventManager}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     */
+    @Inject
+    public SimpleEventManager(PluginManager pluginManager) {
+        this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+    }
+
+    private PluginContainer getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+        return this.pluginManager.fromInstance(plugin).orElseThrow(() -> new IllegalArgumentException(
+                "The provided plugin object does not have an associated plugin container "
+                        + "(in other words, is 'plugin' actually your plugin object?)"));
+    }
+
+    @Override
+    public void registerListeners(Object plugin, Object obj) {
+        final PluginContainer container = getPlugin(plugin);
+        checkNotNull(obj, "obj");
+        final List<RegisteredListener> listeners = new ArrayList<>();
+        final Optional<List<ListenerIndex.IndexedListener>> indexed = getListenerIndex(container, obj.getClass()).getListeners(obj.getClass());
+        if (indexed.isPresent()) {
+            for (ListenerIndex.IndexedListener listener : indexed.get()) {
+                listeners.add(createListener(container, obj, listener.getMethod(), listener.getOrder(), listener.isBeforeModifications(),
+                        listener.isAsync(), listener.isBatched()));
+            }
+        } else {
+            for (Method method : obj.getClass().getMethods()) {
+                final Listener listener = method.getAnnotation(Listener.class);
+                if (listener == null || method.isBridge()) {
+                    continue;
+                }
+                listeners.add(createListener(container, obj, method, listener.order(), listener.beforeModifications(), listener.async(),
+                        listener.batched()));
+            }
+        }
+        register(listeners);
+    }
+
+    private RegisteredListener createListener(PluginContainer container, Object obj, Method method, Order order, boolean beforeModifications,
+            boolean async, boolean batched) {
+        if (batched) {
+            return createBatchedListener(container, obj, method, order, beforeModifications, async);
+        }
+        final EventListener<Event> eventListener = this.listenerFactory.create(obj, method);
+        return new RegisteredListener(container, getName(method), TypeToken.of(method.getGenericParameterTypes()[0]), order,
+                beforeModifications, async, eventListener, obj);
+    }
+
+    private RegisteredListener createBatchedListener(PluginContainer container, Object obj, Method method, Order order,
+            boolean beforeModifications, boolean async) {
+        checkArgument(order == Order.POST, "Batched listener %s must use Order.POST", method);
+        checkArgument(method.getParameterCount() == 1 && method.getParameterTypes()[0] == List.class,
+                "Batched listener %s must have a List of events as its only parameter", method);
+        Type eventType = TypeToken.of(method.getGenericParameterTypes()[0]).resolveType(LIST_ELEMENT_TYPE).getType();
+        if (eventType instanceof WildcardType) {
+            eventType = ((WildcardType) eventType).getUpperBounds()[0];
+        }
+        final TypeToken<?> eventToken = TypeToken.of(eventType);
+        checkArgument(Event.class.isAssignableFrom(eventToken.getRawType()), "Batched listener %s must have a List of events as its only parameter",
+                method);
+        checkArgument(!hasFilter(method.getAnnotations()) && !hasFilter(method.getParameterAnnotations()[0]),
+                "Batched listener %s must not use filter annotations", method);
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Batched listener " + method + " must be public and in a public class", e);
+        }
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(obj);
+        }
+        return new RegisteredListener(container, getName(method), eventToken, order, beforeModifications, async,
+                new EventBatcher(handle), obj);
+    }
+
+    private static boolean hasFilter(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().startsWith(FILTER_PACKAGE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getName(Method method) {
+        return method.getDeclaringClass().getName() + '.' + method.getName();
+    }
+
+    private ListenerIndex getListenerIndex(PluginContainer container, Class<?> clazz) {
+        final ClassLoader loader = clazz.getClassLoader();
+        if (loader == null) {
+            return ListenerIndex.empty();
+        }
+        return this.listenerIndices.computeIfAbsent(loader, key -> {
+            try {
+                return ListenerIndex.load(key);
+            } catch (IOException | RuntimeException e) {
+                container.getLogger().warn("Failed to read the listener index, listener classes will be scanned instead", e);
+                return ListenerIndex.empty();
+            }
+        });
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, EventListener<? super T> listener) {
+        registerListener(plugin, TypeToken.of(eventClass), Order.DEFAULT, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, EventListener<? super T> listener) {
+        registerListener(plugin, eventType, Order.DEFAULT, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> listener) {
+        registerListener(plugin, TypeToken.of(eventClass), order, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, Order order, EventListener<? super T> listener) {
+        registerListener(plugin, eventType, order, false, listener);
+    }
+
+    @Override
+    public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        registerListener(plugin, TypeToken.of(eventClass), order, beforeModifications, listener);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Event> void registerListener(Object plugin, TypeToken<T> eventType, Order order, boolean beforeModifications,
+            EventListener<? super T> listener) {
+        final PluginContainer container = getPlugin(plugin);
+        checkNotNull(eventType, "eventType");
+        checkNotNull(order, "order");
+        checkNotNull(listener, "listener");
+        register(ImmutableList.of(new RegisteredListener(container, listener.getClass().getName(), eventType, order, beforeModifications,
+                false, (EventListener<Event>) listener, listener)));
+    }
+
+    private void register(List<RegisteredListener> listeners) {
+        synchronized (this.lock) {
+            for (RegisteredListener listener : listeners) {
+                listener.sequence = this.sequence++;
+                this.listenersByType.put(listener.eventType.getRawType(), listener);
+            }
+            invalidate();
+        }
+    }
+
+    @Override
+    public void unregisterListeners(Object obj) {
+        checkNotNull(obj, "obj");
+        synchronized (this.lock) {
+            if (this.listenersByType.values().removeIf(listener -> listener.handle == obj)) {
+                invalidate();
+            }
+        }
+    }
+
+    @Override
+    public void unregisterPluginListeners(Object plugin) {
+        final PluginContainer container = getPlugin(plugin);
+        synchronized (this.lock) {
+            if (this.listenersByType.values().removeIf(listener -> listener.plugin == container)) {
+                invalidate();
+            }
+        }
+    }
+
+    private void invalidate() {
+        this.listenersByEvent = new ConcurrentHashMap<>();
+        this.genericPresence = new ConcurrentHashMap<>();
+        final ImmutableList.Builder<RegisteredListener> batchers = ImmutableList.builder();
+        for (RegisteredListener listener : this.listenersByType.values()) {
+            if (listener.batcher != null) {
+                batchers.add(listener);
+            }
+        }
+        this.batchers = batchers.build();
+    }
+
+    /**
+     * Passes the events collected since the last call to every
+     * {@link Listener#batched() batched} listener which received any.
+     *
+     * <p>This should be called once at the end of every tick, on the main
+     * thread. Events collected by listeners which were unregistered in the
+     * meantime are dropped.</p>
+     */
+    public void flushBatches() {
+        for (RegisteredListener listener : this.batchers) {
+            listener.flush(sample());
+        }
+    }
+
+    /**
+     * Gets the listeners of the given event class and all its supertypes,
+     * sorted by their {@link Order}. Listeners which are
+     * {@link Listener#beforeModifications() before modifications} come
+     * before all others.
+     */
+    List<RegisteredListener> getListeners(Class<?> eventClass) {
+        final Map<Class<?>, List<RegisteredListener>> listenersByEvent = this.listenersByEvent;
+        List<RegisteredListener> listeners = listenersByEvent.get(eventClass);
+        if (listeners == null) {
+            listeners = bake(eventClass);
+            listenersByEvent.put(eventClass, listeners);
+        }
+        return listeners;
+    }
+
+    private List<RegisteredListener> bake(Class<?> eventClass) {
+        final List<RegisteredListener> listeners = new ArrayList<>();
+        synchronized (this.lock) {
+            for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+                listeners.addAll(this.listenersByType.get(type));
+            }
+        }
+        listeners.sort(Comparator.<RegisteredListener, Boolean>comparing(listener -> !listener.beforeModifications)
+                .thenComparing(listener -> listener.order)
+                .thenComparingInt(listener -> listener.sequence));
+        return ImmutableList.copyOf(listeners);
+    }
+
+    @Override
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        checkNotNull(eventClass, "eventClass");
+        return !getListeners(eventClass).isEmpty();
+    }
+
+    @Override
+    public boolean hasListeners(TypeToken<? extends Event> eventType) {
+        checkNotNull(eventType, "eventType");
+        final TypeToken<?> genericType = getGenericType(eventType);
+        if (genericType == null) {
+            return !getListeners(eventType.getRawType()).isEmpty();
+        }
+        final Map<TypeToken<?>, Boolean> genericPresence = this.genericPresence;
+        Boolean present = genericPresence.get(eventType);
+        if (present == null) {
+            present = getListeners(eventType.getRawType()).stream().anyMatch(listener -> listener.accepts(genericType));
+            genericPresence.put(eventType, present);
+        }
+        return present;
+    }
+
+    @Nullable
+    static TypeToken<?> getGenericType(TypeToken<?> eventType) {
+        if (!GenericEvent.class.isAssignableFrom(eventType.getRawType())) {
+            return null;
+        }
+        final TypeToken<?> genericType = eventType.resolveType(GENERIC_TYPE);
+        return genericType.getType() instanceof TypeVariable ? null : genericType;
+    }
+
+    @Override
+    public boolean post(Event event) {
+        checkNotNull(event, "event");
+        final List<RegisteredListener> listeners = getListeners(event.getClass());
+        final LatencyRecorder recorder = getRecorder(event.getClass());
+        recorder.count();
+        final boolean sampled = sample();
+        final long start = sampled ? System.nanoTime() : 0;
+        for (RegisteredListener listener : listeners) {
+            if (listener.accepts(event)) {
+                listener.call(event, sampled);
+            }
+        }
+        if (sampled) {
+            recorder.record(System.nanoTime() - start);
+        }
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    private boolean sample() {
+        return (ThreadLocalRandom.current().nextInt() & this.sampleMask) == 0;
+    }
+
+    private LatencyRecorder getRecorder(Class<? extends Event> eventClass) {
+        LatencyRecorder recorder = this.eventRecorders.get(eventClass);
+        if (recorder == null) {
+            recorder = new LatencyRecorder();
+            final LatencyRecorder existing = this.eventRecorders.putIfAbsent(eventClass, recorder);
+            if (existing != null) {
+                recorder = existing;
+            }
+        }
+        return recorder;
+    }
+
+    /**
+     * Sets how often posted events are timed for the metrics, where an
+     * interval of {@code n} times one in {@code n} posts on average. All
+     * posts are timed with an interval of {@code 1}. Defaults to
+     * {@value #DEFAULT_SAMPLE_INTERVAL}.
+     *
+     * @param interval The sample interval, a power of two
+     */
+    public void setSampleInterval(int interval) {
+        checkArgument(interval > 0 && Integer.bitCount(interval) == 1, "Sample interval must be a power of two, got %s", interval);
+        this.sampleMask = interval - 1;
+    }
+
+    @Override
+    public Collection<ListenerMetrics> getListenerMetrics() {
+        final List<ListenerMetrics> metrics = new ArrayList<>();
+        synchronized (this.lock) {
+            for (RegisteredListener listener : this.listenersByType.values()) {
+                metrics.add(new ListenerMetrics(listener.plugin, listener.name, listener.eventType, listener.order,
+                        listener.recorder.getInvocations(), listener.recorder.getHistogram()));
+            }
+        }
+        return metrics;
+    }
+
+    @Override
+    public Collection<EventMetrics> getEventMetrics() {
+        final List<EventMetrics> metrics = new ArrayList<>();
+        this.eventRecorders.forEach((eventClass, recorder) ->
+                metrics.add(new EventMetrics(eventClass, recorder.getInvocations(), recorder.getHistogram())));
+        return metrics;
+    }
+
+    @Override
+    public void resetMetrics() {
+        this.eventRecorders.clear();
+        synchronized (this.lock) {
+            for (RegisteredListener listener : this.listenersByType.values()) {
+                listener.recorder.reset();
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> postAsync(Event event, Executor executor) {
+        checkNotNull(event, "event");
+        checkNotNull(executor, "executor");
+        final List<RegisteredListener> listeners = getListeners(event.getClass());
+        final LatencyRecorder recorder = getRecorder(event.getClass());
+        recorder.count();
+        final boolean sampled = sample();
+        final long startTime = sampled ? System.nanoTime() : 0;
+        CompletableFuture<Void> future = CompletableFuture.completedFuture(null);
+        int start = 0;
+        while (start < listeners.size()) {
+            // Run consecutive listeners of the same kind in one task, only
+            // switching threads between async and main thread listeners
+            final boolean async = listeners.get(start).async;
+            int end = start + 1;
+            while (end < listeners.size() && listeners.get(end).async == async) {
+                end++;
+            }
+            final List<RegisteredListener> segment = listeners.subList(start, end);
+            future = future.thenRunAsync(() -> {
+                for (RegisteredListener listener : segment) {
+                    if (listener.accepts(event)) {
+                        listener.call(event, sampled);
+                    }
+                }
+            }, async ? executor : runnable -> {
+                // Don't wait for the next tick if this is the main thread already
+                if (isMainThread()) {
+                    runnable.run();
+                } else {
+                    getSyncExecutor(segment.get(0).plugin).execute(runnable);
+                }
+            });
+            start = end;
+        }
+        return future.thenApply(v -> {
+            if (sampled) {
+                // Includes the time spent waiting for the executors
+                recorder.record(System.nanoTime() - startTime);
+            }
+            return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+        });
+    }
+
+    /**
+     * Gets the executor running tasks on the main thread, used to call the
+     * listeners that aren't async when posting asynchronously.
+     *
+     * @param plugin The plugin owning the listener to call
+     * @return The executor
+     */
+    protected Executor getSyncExecutor(PluginContainer plugin) {
+        return this.syncExecutors.computeIfAbsent(plugin, container -> Sponge.getScheduler().createSyncExecutor(container));
+    }
+
+    /**
+     * Gets whether the current thread is the main thread, on which the
+     * listeners that aren't async are called right away when posting
+     * asynchronously.
+     *
+     * @return True if this is the main thread
+     */
+    protected boolean isMainThread() {
+        return Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+    }
+
+    /**
+     * Collects the events for a batched listener method until they are
+     * flushed.
+     */
+    static final class EventBatcher implements EventListener<Event> {
+
+        final MethodHandle handle;
+        private List<Event> events = new ArrayList<>();
+
+        EventBatcher(MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void handle(Event event) {
+            if (event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+                return;
+            }
+            synchronized (this) {
+                this.events.add(event);
+            }
+        }
+
+        List<Event> drain() {
+            final List<Event> events;
+            synchronized (this) {
+                if (this.events.isEmpty()) {
+                    return ImmutableList.of();
+                }
+                events = this.events;
+                this.events = new ArrayList<>();
+            }
+            return ImmutableList.copyOf(events);
+        }
+
+    }
+
+    static final class RegisteredListener {
+
+        final PluginContainer plugin;
+        final String name;
+        final TypeToken<?> eventType;
+        @Nullable final TypeToken<?> genericType;
+        final Order order;
+        final boolean beforeModifications;
+        final boolean async;
+        final EventListener<Event> listener;
+        @Nullable final EventBatcher batcher;
+        final Object handle;
+        final LatencyRecorder recorder = new LatencyRecorder();
+        @Nullable private final Timing timing;
+        int sequence;
+
+        RegisteredListener(PluginContainer plugin, String name, TypeToken<?> eventType, Order order, boolean beforeModifications,
+                boolean async, EventListener<Event> listener, Object handle) {
+            this.plugin = plugin;
+            this.name = name;
+            this.eventType = eventType;
+            this.genericType = getGenericType(eventType);
+            this.order = order;
+            this.beforeModifications = beforeModifications;
+            this.async = async;
+            this.listener = listener;
+            this.batcher = listener instanceof EventBatcher ? (EventBatcher) listener : null;
+            this.handle = handle;
+            this.timing = createTiming(plugin, "Event: " + name + " (" + eventType.getRawType().getSimpleName() + ")");
+        }
+
+        @Nullable
+        private static Timing createTiming(PluginContainer plugin, String name) {
+            try {
+                return Timings.of(plugin, name);
+            } catch (UnsupportedOperationException e) {
+                // Timings aren't provided by the game, such as in tests
+                return null;
+            }
+        }
+
+        boolean accepts(Event event) {
+            return this.genericType == null || !(event instanceof GenericEvent)
+                    || this.genericType.isSupertypeOf(((GenericEvent<?>) event).getGenericType());
+        }
+
+        boolean accepts(TypeToken<?> genericType) {
+            return this.genericType == null || this.genericType.isSupertypeOf(genericType);
+        }
+
+        void call(Event event, boolean sampled) {
+            if (this.batcher != null) {
+                // Only collected here, the listener is called when flushed
+                this.batcher.handle(event);
+                return;
+            }
+            this.recorder.count();
+            if (this.timing != null) {
+                this.timing.startTimingIfSync();
+            }
+            final long start = sampled ? System.nanoTime() : 0;
+            try {
+                this.listener.handle(event);
+            } catch (Throwable t) {
+                this.plugin.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), this.plugin.getId(), t);
+            } finally {
+                if (sampled) {
+                    this.recorder.record(System.nanoTime() - start);
+                }
+                if (this.timing != null) {
+                    this.timing.stopTimingIfSync();
+                }
+            }
+        }
+
+        void flush(boolean sampled) {
+            final EventBatcher batcher = checkNotNull(this.batcher, "batcher");
+            final List<Event> events = batcher.drain();
+            if (events.isEmpty()) {
+                return;
+            }
+            this.recorder.count();
+            if (this.timing != null) {
+                this.timing.startTimingIfSync();
+            }
+            final long start = sampled ? System.nanoTime() : 0;
+            try {
+                batcher.handle.invoke(events);
+            } catch (Throwable t) {
+                this.plugin.getLogger().error("Could not pass a batch of {} events to {}", events.size(), this.plugin.getId(), t);
+            } finally {
+                if (sampled) {
+                    this.recorder.record(System.nanoTime() - start);
+                }
+                if (this.timing != null) {
+                    this.timing.stopTimingIfSync();
+                }
+            }
+        }
+    }
+
+}
@@ -116,11 +116,20 @@ public static Cause of(EventContext ctx, Iterable<Object> iterable) {
         return builder.build(ctx);
     }
 
+    /**
+     * The maximum number of target classes whose indices are cached by a
+     * single cause, lookups for any further classes scan the causes.
+     */
+    private static final int MAX_INDEXED_TYPES = 16;
+    private static final int[] NO_INDICES = new int[0];
+
     final Object[] cause;
     private final EventContext context;
 
     // lazy load
     @Nullable private ImmutableList<Object> immutableCauses;
+    // lazy load, replaced as a whole when a class is added
+    @Nullable private volatile TypeIndex[] typeIndices;
 
     /**
      * Constructs a new cause.
@@ -181,12 +190,8 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(Class<T> target) {
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
-        }
-        return Optional.empty();
+        final int[] indices = indicesOf(target);
+        return indices.length == 0 ? Optional.empty() : Optional.of((T) this.cause[indices[0]]);
     }
 
     /**
@@ -198,12 +203,8 @@ public <T> Optional<T> first(Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
-        }
-        return Optional.empty();
+        final int[] indices = indicesOf(target);
+        return indices.length == 0 ? Optional.empty() : Optional.of((T) this.cause[indices[indices.length - 1]]);
     }
 
     /**
@@ -218,12 +219,15 @@ public Optional<?> before(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
-                return Optional.of(this.cause[i - 1]);
-            }
+        final int[] indices = indicesOf(clazz);
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        // The root has nothing before it, so fall back to the next match
+        if (indices[0] > 0) {
+            return Optional.of(this.cause[indices[0] - 1]);
+        }
+        return indices.length > 1 ? Optional.of(this.cause[indices[1] - 1]) : Optional.empty();
     }
 
     /**
@@ -238,12 +242,11 @@ public Optional<?> after(Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] indices = indicesOf(clazz);
+        if (indices.length == 0 || indices[0] + 1 == this.cause.length) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(this.cause[indices[0] + 1]);
     }
 
     /**
@@ -255,13 +258,7 @@ public Optional<?> after(Class<?> clazz) {
      */
     public boolean containsType(Class<?> target) {
         checkArgument(target != null, "The provided class cannot be null!");
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return indicesOf(target).length != 0;
     }
 
     /**
@@ -290,13 +287,12 @@ public boolean contains(Object object) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(Class<T> target) {
-        ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
+        final int[] indices = indicesOf(target);
+        final Object[] objects = new Object[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            objects[i] = this.cause[indices[i]];
         }
-        return builder.build();
+        return (List<T>) ImmutableList.copyOf(objects);
     }
 
     /**
@@ -307,13 +303,16 @@ public <T> List<T> allOf(Class<T> target) {
      * @return The list of objects not an instance of the provided class
      */
     public List<Object> noneOf(Class<?> ignoredClass) {
-        ImmutableList.Builder<Object> builder = ImmutableList.builder();
-        for (Object cause : this.cause) {
-            if (!ignoredClass.isInstance(cause)) {
-                builder.add(cause);
+        final int[] indices = indicesOf(ignoredClass);
+        final Object[] objects = new Object[this.cause.length - indices.length];
+        for (int i = 0, j = 0, k = 0; i < this.cause.length; i++) {
+            if (j < indices.length && indices[j] == i) {
+                j++;
+            } else {
+                objects[k++] = this.cause[i];
             }
         }
-        return builder.build();
+        return ImmutableList.copyOf(objects);
     }
 
     /**
@@ -391,6 +390,51 @@ public Cause with(Cause cause) {
         return builder.build(this.context);
     }
 
+    /**
+     * Gets the ascending indices of all causes that are instances of the
+     * given class, computing and caching them on the first lookup.
+     *
+     * @param target The class of the target type
+     * @return The indices, not to be modified
+     */
+    private int[] indicesOf(Class<?> target) {
+        final TypeIndex[] typeIndices = this.typeIndices;
+        if (typeIndices != null) {
+            for (TypeIndex typeIndex : typeIndices) {
+                if (typeIndex.type == target) {
+                    return typeIndex.indices;
+                }
+            }
+        }
+        final int[] indices = computeIndices(target);
+        if (typeIndices == null) {
+            this.typeIndices = new TypeIndex[] {new TypeIndex(target, indices)};
+        } else if (typeIndices.length < MAX_INDEXED_TYPES) {
+            // Racing lookups may drop each other's entries, which only costs a rescan
+            final TypeIndex[] newIndices = Arrays.copyOf(typeIndices, typeIndices.length + 1);
+            newIndices[typeIndices.length] = new TypeIndex(target, indices);
+            this.typeIndices = newIndices;
+        }
+        return indices;
+    }
+
+    private int[] computeIndices(Class<?> target) {
+        int[] indices = null;
+        int count = 0;
+        for (int i = 0; i < this.cause.length; i++) {
+            if (target.isInstance(this.cause[i])) {
+                if (indices == null) {
+                    indices = new int[this.cause.length - i];
+                }
+                indices[count++] = i;
+            }
+        }
+        if (indices == null) {
+            return NO_INDICES;
+        }
+        return count == indices.length ? indices : Arrays.copyOf(indices, count);
+    }
+
     @Override
     public Iterator<Object> iterator() {
         return new Itr();
@@ -420,6 +464,18 @@ public String toString() {
         return causeString + joiner.toString() + "}]";
     }
 
+    private static final class TypeIndex {
+
+        final Class<?> type;
+        final int[] indices;
+
+        TypeIndex(Class<?> type, int[] indices) {
+            this.type = type;
+            this.indices = indices;
+        }
+
+    }
+
     private class Itr implements Iterator<Object> {
 
         private int index = 0;
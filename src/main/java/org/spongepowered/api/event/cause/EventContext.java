@@ -28,9 +28,9 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import org.spongepowered.api.util.ResettableBuilder;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -42,10 +42,14 @@
 /**
  * Provides context for an event outside of the direct chain of causes present
  * in the event's {@link Cause}.
+ *
+ * <p>Values are stored in an array indexed by the
+ * {@link EventContextKey#getOrdinal() ordinals} of their keys, so looking up
+ * a key never allocates.</p>
  */
 public final class EventContext {
 
-    private static final EventContext EMPTY_CONTEXT = new EventContext(ImmutableMap.of());
+    private static final EventContext EMPTY_CONTEXT = new EventContext(new EventContextKey<?>[0], new Object[0]);
 
     /**
      * Gets an empty context.
@@ -64,10 +68,12 @@ public static EventContext empty() {
      */
     public static EventContext of(Map<EventContextKey<?>, Object> entries) {
         checkNotNull(entries, "Context entries cannot be null");
+        final Builder builder = builder();
         for (Map.Entry<EventContextKey<?>, Object> entry : entries.entrySet()) {
             checkNotNull(entry.getValue(), "Entries cannot contain null values");
+            builder.put(entry.getKey(), entry.getValue());
         }
-        return new EventContext(entries);
+        return builder.build();
     }
 
     /**
@@ -79,10 +85,27 @@ public static Builder builder() {
         return new Builder();
     }
 
-    private final Map<EventContextKey<?>, Object> entries;
+    // Both indexed by key ordinal, null where no value is present
+    private final EventContextKey<?>[] keys;
+    private final Object[] values;
+    private final long[] present;
+    private final int size;
+
+    // lazy load
+    @Nullable private ImmutableMap<EventContextKey<?>, Object> entries;
 
-    EventContext(Map<EventContextKey<?>, Object> values) {
-        this.entries = ImmutableMap.copyOf(values);
+    EventContext(EventContextKey<?>[] keys, Object[] values) {
+        this.keys = keys;
+        this.values = values;
+        this.present = new long[(values.length + 63) >> 6];
+        int size = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                this.present[i >> 6] |= 1L << i;
+                size++;
+            }
+        }
+        this.size = size;
     }
 
     /**
@@ -95,7 +118,8 @@ public static Builder builder() {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(EventContextKey<T> key) {
         checkNotNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key));
+        final int ordinal = key.getOrdinal();
+        return ordinal < this.values.length ? Optional.ofNullable((T) this.values[ordinal]) : Optional.empty();
     }
 
     /**
@@ -124,7 +148,9 @@ public <T> T require(EventContextKey<T> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(EventContextKey<?> key) {
-        return this.entries.containsKey(key);
+        final int ordinal = key.getOrdinal();
+        final int word = ordinal >> 6;
+        return word < this.present.length && (this.present[word] & (1L << ordinal)) != 0;
     }
 
     /**
@@ -133,15 +159,27 @@ public boolean containsKey(EventContextKey<?> key) {
      * @return All present keys
      */
     public Set<EventContextKey<?>> keySet() {
-        return this.entries.keySet();
+        return asMap().keySet();
     }
 
     /**
      * Gets this event context as a {@link Map} of EventContextKeys to Objects.
+     *
+     * <p>The map is created on the first call, prefer {@link #get} and
+     * {@link #containsKey} for single lookups.</p>
      * 
      * @return A map view of this context
      */
     public Map<EventContextKey<?>, Object> asMap() {
+        if (this.entries == null) {
+            final ImmutableMap.Builder<EventContextKey<?>, Object> builder = ImmutableMap.builder();
+            for (int i = 0; i < this.values.length; i++) {
+                if (this.values[i] != null) {
+                    builder.put(this.keys[i], this.values[i]);
+                }
+            }
+            this.entries = builder.build();
+        }
         return this.entries;
     }
 
@@ -154,12 +192,15 @@ public boolean equals(@Nullable Object object) {
             return false;
         }
         EventContext ctx = (EventContext) object;
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            Object other = ctx.entries.get(entry.getKey());
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] == null) {
+                continue;
+            }
+            Object other = i < ctx.values.length ? ctx.values[i] : null;
             if (other == null) {
                 return false;
             }
-            if (!entry.getValue().equals(other)) {
+            if (!this.values[i].equals(other)) {
                 return false;
             }
         }
@@ -168,21 +209,33 @@ public boolean equals(@Nullable Object object) {
 
     @Override
     public int hashCode() {
-        return this.entries.hashCode();
+        // Same as the hash of asMap()
+        int hash = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                hash += this.keys[i].hashCode() ^ this.values[i].hashCode();
+            }
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(", ");
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            joiner.add("\"" + entry.getKey().getId() + "\"=" + entry.getValue().toString());
+        for (int i = 0; i < this.values.length; i++) {
+            if (this.values[i] != null) {
+                joiner.add("\"" + this.keys[i].getId() + "\"=" + this.values[i].toString());
+            }
         }
         return "Context[" + joiner.toString() + "]";
     }
 
     public static final class Builder implements ResettableBuilder<EventContext, Builder> {
 
-        private final Map<EventContextKey<?>, Object> entries = Maps.newHashMap();
+        private EventContextKey<?>[] keys = new EventContextKey<?>[0];
+        private Object[] values = new Object[0];
+        // One past the highest ordinal with a value
+        private int length;
 
         Builder() {
 
@@ -197,21 +250,49 @@ public static final class Builder implements ResettableBuilder<EventContext, Bui
          * @return This builder, for chaining
          */
         public <T> Builder add(EventContextKey<T> key, T value) {
+            checkNotNull(key, "Context key cannot be null");
             checkNotNull(value, "Context object cannot be null");
-            checkArgument(!this.entries.containsKey(key), "Duplicate context keys");
-            this.entries.put(key, value);
+            final int ordinal = key.getOrdinal();
+            checkArgument(ordinal < 0 || ordinal >= this.length || this.values[ordinal] == null, "Duplicate context keys");
+            put(key, value);
             return this;
         }
 
+        void put(EventContextKey<?> key, Object value) {
+            final int ordinal = key.getOrdinal();
+            checkArgument(ordinal >= 0, "The key %s has a negative ordinal", key.getId());
+            if (ordinal >= this.values.length) {
+                final int capacity = Math.max(ordinal + 1, this.values.length << 1);
+                this.keys = Arrays.copyOf(this.keys, capacity);
+                this.values = Arrays.copyOf(this.values, capacity);
+            }
+            this.keys[ordinal] = key;
+            this.values[ordinal] = value;
+            this.length = Math.max(this.length, ordinal + 1);
+        }
+
         @Override
         public Builder from(EventContext value) {
-            this.entries.putAll(value.entries);
+            if (this.length == 0) {
+                // Copy the arrays as a whole into an empty builder
+                this.keys = value.keys.clone();
+                this.values = value.values.clone();
+                this.length = value.values.length;
+                return this;
+            }
+            for (int i = 0; i < value.values.length; i++) {
+                if (value.values[i] != null) {
+                    put(value.keys[i], value.values[i]);
+                }
+            }
             return this;
         }
 
         @Override
         public Builder reset() {
-            this.entries.clear();
+            Arrays.fill(this.keys, 0, this.length, null);
+            Arrays.fill(this.values, 0, this.length, null);
+            this.length = 0;
             return this;
         }
 
@@ -221,7 +302,10 @@ public Builder reset() {
          * @return The EventContext
          */
         public EventContext build() {
-            return new EventContext(this.entries);
+            if (this.length == 0) {
+                return EMPTY_CONTEXT;
+            }
+            return new EventContext(Arrays.copyOf(this.keys, this.length), Arrays.copyOf(this.values, this.length));
         }
 
     }
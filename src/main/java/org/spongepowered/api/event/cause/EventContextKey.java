@@ -56,6 +56,18 @@ static <T> Builder<T> builder(Class<T> clazz) {
      */
     Class<T> getAllowedType();
 
+    /**
+     * Gets the ordinal of this {@link EventContextKey}.
+     *
+     * <p>Ordinals are assigned by the registry when a key is built, densely
+     * and in the order the keys are registered, starting at {@code 0}. They
+     * therefore may differ between launches, but are small enough to index
+     * the array of values backing an {@link EventContext}.</p>
+     *
+     * @return The ordinal
+     */
+    int getOrdinal();
+
     interface Builder<T> extends ResettableBuilder<EventContextKey<T>, Builder<T>> {
 
         Builder<T> type(Class<T> tClass);
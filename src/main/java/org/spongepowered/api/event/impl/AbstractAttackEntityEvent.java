@@ -33,7 +33,6 @@
 import org.spongepowered.api.event.cause.entity.damage.DamageModifier;
 import org.spongepowered.api.event.cause.entity.damage.DamageModifierType;
 import org.spongepowered.api.event.entity.AttackEntityEvent;
-import org.spongepowered.api.util.Tuple;
 import org.spongepowered.api.util.annotation.eventgen.UseField;
 
 import java.util.Iterator;
@@ -58,12 +57,8 @@ protected final void init() {
     @Override
     public final double getOriginalModifierDamage(DamageModifier damageModifier) {
         checkArgument(damageModifier != null, "The damage modifier cannot be null!");
-        for (Tuple<DamageModifier, Double> tuple : this.originalModifiers) {
-            if (tuple.getFirst().equals(damageModifier)) {
-                return tuple.getSecond();
-            }
-        }
-        throw new IllegalArgumentException("The provided damage modifier is not applicable: " + damageModifier.toString());
+        return this.getOriginalModifierAmount(damageModifier).orElseThrow(() ->
+                new IllegalArgumentException("The provided damage modifier is not applicable: " + damageModifier.toString()));
     }
 
     @Override
@@ -73,8 +68,7 @@ public final double getOriginalFinalDamage() {
 
     @Override
     public final Map<DamageModifier, Double> getOriginalDamages() {
-
-        return this.originalModifierMap;
+        return this.getOriginalModifierAmounts();
     }
 
     @Override
@@ -84,14 +78,14 @@ public final double getFinalOutputDamage() {
 
     @Override
     public final boolean isModifierApplicable(DamageModifier damageModifier) {
-        return this.modifiers.containsKey(checkNotNull(damageModifier));
+        return this.hasModifier(checkNotNull(damageModifier));
     }
 
     @Override
     public final double getOutputDamage(DamageModifier damageModifier) {
-        checkArgument(this.modifiers.containsKey(checkNotNull(damageModifier)), "The provided damage modifier is not applicable : "
-                                                                                + damageModifier.toString());
-        return this.modifiers.get(checkNotNull(damageModifier));
+        checkArgument(this.hasModifier(checkNotNull(damageModifier)), "The provided damage modifier is not applicable : "
+                + damageModifier.toString());
+        return this.getModifierAmount(damageModifier);
     }
 
     @Override
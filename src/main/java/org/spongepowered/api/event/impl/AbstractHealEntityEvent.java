@@ -52,9 +52,8 @@ protected final void init() {
 
     @Override
     public final double getOriginalHealingModifierAmount(HealthModifier healthModifier) {
-        checkArgument(this.originalModifierMap.containsKey(checkNotNull(healthModifier)), "The provided damage modifier is not applicable : "
-                                                                                          + healthModifier.toString());
-        return this.originalModifierMap.get(checkNotNull(healthModifier));
+        return this.getOriginalModifierAmount(checkNotNull(healthModifier)).orElseThrow(() ->
+                new IllegalArgumentException("The provided damage modifier is not applicable : " + healthModifier.toString()));
     }
 
     @Override
@@ -64,7 +63,7 @@ public final double getOriginalFinalHealAmount() {
 
     @Override
     public final Map<HealthModifier, Double> getOriginalHealingAmounts() {
-        return this.originalModifierMap;
+        return this.getOriginalModifierAmounts();
     }
 
     @Override
@@ -74,14 +73,14 @@ public final double getFinalHealAmount() {
 
     @Override
     public final boolean isModifierApplicable(HealthModifier healthModifier) {
-        return this.modifiers.containsKey(checkNotNull(healthModifier));
+        return this.hasModifier(checkNotNull(healthModifier));
     }
 
     @Override
     public final double getHealAmount(HealthModifier healthModifier) {
-        checkArgument(this.modifiers.containsKey(checkNotNull(healthModifier)), "The provided damage modifier is not applicable : "
-                                                                                + healthModifier.toString());
-        return this.modifiers.get(checkNotNull(healthModifier));
+        checkArgument(this.hasModifier(checkNotNull(healthModifier)), "The provided damage modifier is not applicable : "
+                + healthModifier.toString());
+        return this.getModifierAmount(healthModifier);
     }
 
     @Override
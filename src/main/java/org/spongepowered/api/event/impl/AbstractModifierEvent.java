@@ -24,83 +24,189 @@
  */
 package org.spongepowered.api.event.impl;
 
-import static com.google.common.base.Preconditions.checkNotNull;
-
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.Maps;
 import org.spongepowered.api.event.cause.entity.ModifierFunction;
 import org.spongepowered.api.event.entity.DamageEntityEvent;
 import org.spongepowered.api.event.entity.HealEntityEvent;
-import org.spongepowered.api.util.Tuple;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 import java.util.function.DoubleUnaryOperator;
 
+import javax.annotation.Nullable;
+
 /**
  * An abstract base class for implementations of {@link DamageEntityEvent} and {@link HealEntityEvent}.
  *
+ * <p>The amounts of all modifiers are stored in arrays indexed by the
+ * position of their function. Changing the base amount or the functions only
+ * marks the amounts as outdated, they are computed again once they are
+ * read.</p>
+ *
  * @param <T> The modifier type to use
  */
 public abstract class AbstractModifierEvent<T extends ModifierFunction<M>, M> extends AbstractEvent {
 
+    private static final double[] NO_AMOUNTS = new double[0];
+
     protected double originalFinalAmount;
-    protected List<Tuple<M, Double>> originalModifiers;
-    protected Map<M, Double> originalModifierMap;
-    protected final LinkedHashMap<M, Double> modifiers = Maps.newLinkedHashMap();
     protected final List<T> modifierFunctions = new ArrayList<>();
 
+    private ImmutableList<T> originalFunctions = ImmutableList.of();
+    private double[] originalAmounts = NO_AMOUNTS;
+    @Nullable private Map<M, Double> originalAmountMap;
+
+    // The amounts of the current functions, shared with the original amounts
+    // until they are computed for the first time
+    private double[] amounts = NO_AMOUNTS;
+    private double baseAmount;
+    private double finalAmount;
+    private boolean dirty;
+
     protected ImmutableList<T> init(double originalValue, List<T> originalFunctions) {
-        final ImmutableList.Builder<Tuple<M, Double>> modifierMapBuilder = ImmutableList.builder();
         final ImmutableList.Builder<T> functionListBuilder = ImmutableList.builder();
-        final ImmutableMap.Builder<M, Double> mapBuilder = ImmutableMap.builder();
-        double finalDamage = originalValue;
+        final double[] originalAmounts = new double[originalFunctions.size()];
+        double finalAmount = originalValue;
+        int index = 0;
         for (T tuple : originalFunctions) {
-            this.modifierFunctions.add(convertTuple(tuple.getModifier(), tuple.getFunction()));
-            double tempDamage = checkNotNull(tuple.getFunction().applyAsDouble(finalDamage));
-            finalDamage += tempDamage;
-            modifierMapBuilder.add(new Tuple<>(tuple.getModifier(), tempDamage));
-            mapBuilder.put(tuple.getModifier(), tempDamage);
-            this.modifiers.put(tuple.getModifier(), tempDamage);
-            functionListBuilder.add(convertTuple(tuple.getModifier(), tuple.getFunction()));
+            final T function = convertTuple(tuple.getModifier(), tuple.getFunction());
+            this.modifierFunctions.add(function);
+            functionListBuilder.add(function);
+            final double amount = function.getFunction().applyAsDouble(finalAmount);
+            originalAmounts[index++] = amount;
+            finalAmount += amount;
         }
-        this.originalFinalAmount = finalDamage;
-        this.originalModifiers = modifierMapBuilder.build();
-        this.originalModifierMap = mapBuilder.build();
-        return functionListBuilder.build();
+        this.originalFunctions = functionListBuilder.build();
+        this.originalAmounts = originalAmounts;
+        this.originalFinalAmount = finalAmount;
+        this.amounts = originalAmounts;
+        this.baseAmount = originalValue;
+        this.finalAmount = finalAmount;
+        this.dirty = false;
+        return this.originalFunctions;
     }
 
     protected abstract T convertTuple(M obj, DoubleUnaryOperator function);
 
+    /**
+     * Marks the amounts of all modifiers as outdated, after the base amount
+     * or the modifier functions changed. They are computed again once they
+     * are read.
+     *
+     * @param baseAmount The base amount
+     */
     protected void recalculateDamages(double baseAmount) {
-        double tempAmount = baseAmount;
-        this.modifiers.clear();
-        for (T entry : this.modifierFunctions) {
-            double modifierAmount = checkNotNull(entry.getFunction().applyAsDouble(tempAmount));
-            if (this.modifiers.containsKey(entry.getModifier())) {
-                double oldAmount = this.modifiers.get(entry.getModifier());
-                double difference = oldAmount - modifierAmount;
-                if (oldAmount > 0) {
-                    this.modifiers.put(entry.getModifier(), Math.max(0, oldAmount - difference));
-                } else {
-                    this.modifiers.put(entry.getModifier(), Math.min(0, oldAmount - difference));
-                }
+        this.baseAmount = baseAmount;
+        this.dirty = true;
+    }
+
+    private void computeAmounts(double baseAmount) {
+        final int size = this.modifierFunctions.size();
+        double[] amounts = this.amounts;
+        if (amounts == this.originalAmounts || amounts.length < size) {
+            amounts = this.amounts = new double[Math.max(size, amounts.length)];
+        }
+        double amount = baseAmount;
+        for (int i = 0; i < size; i++) {
+            final double modifierAmount = this.modifierFunctions.get(i).getFunction().applyAsDouble(amount);
+            amounts[i] = modifierAmount;
+            amount += modifierAmount;
+        }
+        this.baseAmount = baseAmount;
+        this.finalAmount = amount;
+        this.dirty = false;
+    }
+
+    protected double getFinalAmount(double baseAmount) {
+        if (this.dirty || Double.compare(baseAmount, this.baseAmount) != 0) {
+            computeAmounts(baseAmount);
+        }
+        return this.finalAmount;
+    }
+
+    /**
+     * Gets whether any of the current modifier functions uses the given
+     * modifier.
+     *
+     * @param modifier The modifier
+     * @return Whether the modifier is applicable
+     */
+    protected final boolean hasModifier(M modifier) {
+        for (T function : this.modifierFunctions) {
+            if (function.getModifier().equals(modifier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the current amount of the given modifier, which must be
+     * {@link #hasModifier(Object) applicable}.
+     *
+     * <p>If a modifier is used by several functions, each further amount
+     * keeps the sign of the first one and is cut off at zero.</p>
+     *
+     * @param modifier The modifier
+     * @return The amount of the modifier
+     */
+    protected final double getModifierAmount(M modifier) {
+        if (this.dirty) {
+            computeAmounts(this.baseAmount);
+        }
+        double amount = 0;
+        boolean found = false;
+        for (int i = 0; i < this.modifierFunctions.size(); i++) {
+            if (!this.modifierFunctions.get(i).getModifier().equals(modifier)) {
+                continue;
+            }
+            if (!found) {
+                amount = this.amounts[i];
+                found = true;
+            } else if (amount > 0) {
+                amount = Math.max(0, this.amounts[i]);
             } else {
-                this.modifiers.put(entry.getModifier(), modifierAmount);
+                amount = Math.min(0, this.amounts[i]);
             }
-            tempAmount += modifierAmount;
         }
+        return amount;
     }
 
-    protected double getFinalAmount(double baseAmount) {
-        double damage = baseAmount;
-        for (T entry : this.modifierFunctions) {
-            damage += checkNotNull(entry.getFunction().applyAsDouble(damage));
+    /**
+     * Gets the amount of the given modifier when the event was created.
+     *
+     * @param modifier The modifier
+     * @return The original amount of the modifier, if it was applicable
+     */
+    protected final OptionalDouble getOriginalModifierAmount(M modifier) {
+        for (int i = 0; i < this.originalFunctions.size(); i++) {
+            if (this.originalFunctions.get(i).getModifier().equals(modifier)) {
+                return OptionalDouble.of(this.originalAmounts[i]);
+            }
         }
-        return damage;
+        return OptionalDouble.empty();
+    }
+
+    /**
+     * Gets the amounts of all modifiers when the event was created. The map
+     * is only created once it is requested.
+     *
+     * @return The original amounts of all modifiers
+     */
+    protected final Map<M, Double> getOriginalModifierAmounts() {
+        Map<M, Double> map = this.originalAmountMap;
+        if (map == null) {
+            final Map<M, Double> amounts = new LinkedHashMap<>();
+            for (int i = 0; i < this.originalFunctions.size(); i++) {
+                amounts.putIfAbsent(this.originalFunctions.get(i).getModifier(), this.originalAmounts[i]);
+            }
+            map = this.originalAmountMap = ImmutableMap.copyOf(amounts);
+        }
+        return map;
     }
 
     /**
@@ -109,10 +215,6 @@ protected double getFinalAmount(double baseAmount) {
      * @return The list of modifiers
      */
     public List<T> getModifiers() {
-        ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (T entry : this.modifierFunctions) {
-            builder.add(entry);
-        }
-        return builder.build();
+        return ImmutableList.copyOf(this.modifierFunctions);
     }
 }
@@ -0,0 +1,101 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.metric;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventManager;
+
+/**
+ * A snapshot of the events of one class posted to an {@link EventManager}.
+ */
+public final class EventMetrics {
+
+    private final Class<? extends Event> eventClass;
+    private final long posts;
+    private final LatencyHistogram histogram;
+
+    /**
+     * Creates new event metrics.
+     *
+     * @param eventClass The event class
+     * @param posts The number of posted events
+     * @param histogram The sampled latencies of calling all listeners of an
+     *     event
+     */
+    public EventMetrics(Class<? extends Event> eventClass, long posts, LatencyHistogram histogram) {
+        this.eventClass = checkNotNull(eventClass, "eventClass");
+        this.posts = posts;
+        this.histogram = checkNotNull(histogram, "histogram");
+    }
+
+    /**
+     * Gets the class of the posted events.
+     *
+     * @return The event class
+     */
+    public Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    /**
+     * Gets the number of posted events.
+     *
+     * @return The number of posts
+     */
+    public long getPosts() {
+        return this.posts;
+    }
+
+    /**
+     * Gets the latencies of calling all listeners of the sampled events.
+     *
+     * @return The latency histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return this.histogram;
+    }
+
+    /**
+     * Gets the estimated time spent calling the listeners of all events.
+     *
+     * @return The estimated total time, in nanoseconds
+     */
+    public long getEstimatedTotalNanos() {
+        return this.histogram.estimateTotalNanos(this.posts);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("eventClass", this.eventClass.getName())
+                .add("posts", this.posts)
+                .add("histogram", this.histogram)
+                .toString();
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.metric;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.Arrays;
+
+/**
+ * A snapshot of the distribution of sampled latencies.
+ *
+ * <p>Latencies are counted in buckets of powers of two nanoseconds. Bucket
+ * {@code 0} holds latencies of zero nanoseconds and every following bucket
+ * {@code b} the latencies from {@code 2^(b-1)} up to, but excluding,
+ * {@code 2^b} nanoseconds. The last bucket also holds all longer
+ * latencies.</p>
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The number of buckets of every histogram.
+     */
+    public static final int BUCKETS = 40;
+
+    private static final LatencyHistogram EMPTY = new LatencyHistogram(new long[BUCKETS], 0);
+
+    private final long[] counts;
+    private final long count;
+    private final long totalNanos;
+
+    /**
+     * Creates a new histogram.
+     *
+     * @param counts The count of every bucket
+     * @param totalNanos The sum of all latencies, in nanoseconds
+     */
+    public LatencyHistogram(long[] counts, long totalNanos) {
+        checkNotNull(counts, "counts");
+        checkArgument(counts.length == BUCKETS, "Expected %s buckets, got %s", BUCKETS, counts.length);
+        this.counts = counts.clone();
+        this.count = Arrays.stream(counts).sum();
+        this.totalNanos = totalNanos;
+    }
+
+    /**
+     * Gets an empty histogram.
+     *
+     * @return The empty histogram
+     */
+    public static LatencyHistogram empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets the bucket a latency is counted in.
+     *
+     * @param nanos The latency, in nanoseconds
+     * @return The bucket
+     */
+    public static int getBucket(long nanos) {
+        return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * Gets the exclusive upper bound of the latencies in a bucket.
+     *
+     * @param bucket The bucket
+     * @return The upper bound, in nanoseconds
+     */
+    public static long getUpperBound(int bucket) {
+        checkElementIndex(bucket, BUCKETS, "bucket");
+        return bucket == BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * Gets the number of sampled latencies.
+     *
+     * @return The number of samples
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    /**
+     * Gets the number of sampled latencies in a bucket.
+     *
+     * @param bucket The bucket
+     * @return The number of samples in the bucket
+     */
+    public long getCount(int bucket) {
+        checkElementIndex(bucket, BUCKETS, "bucket");
+        return this.counts[bucket];
+    }
+
+    /**
+     * Gets the sum of all sampled latencies.
+     *
+     * @return The total latency, in nanoseconds
+     */
+    public long getTotalNanos() {
+        return this.totalNanos;
+    }
+
+    /**
+     * Gets the mean of the sampled latencies.
+     *
+     * @return The mean latency, in nanoseconds
+     */
+    public long getMeanNanos() {
+        return this.count == 0 ? 0 : this.totalNanos / this.count;
+    }
+
+    /**
+     * Gets an upper bound of the given percentile of the sampled latencies,
+     * which is the upper bound of the bucket the percentile falls into.
+     *
+     * @param percentile The percentile, from 0 to 100
+     * @return The upper bound of the percentile, in nanoseconds
+     */
+    public long getPercentileNanos(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100, got %s", percentile);
+        if (this.count == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(this.count * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += this.counts[bucket];
+            if (seen >= target) {
+                return getUpperBound(bucket);
+            }
+        }
+        return getUpperBound(BUCKETS - 1);
+    }
+
+    /**
+     * Estimates the total time of all invocations from the sampled
+     * latencies.
+     *
+     * @param invocations The number of invocations, sampled or not
+     * @return The estimated total time, in nanoseconds
+     */
+    public long estimateTotalNanos(long invocations) {
+        return this.count == 0 ? 0 : (long) ((double) this.totalNanos / this.count * invocations);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("count", this.count)
+                .add("mean", getMeanNanos())
+                .add("p99", getPercentileNanos(99))
+                .toString();
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.metric;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts invocations and records the latencies of the sampled ones into a
+ * {@link LatencyHistogram}.
+ *
+ * <p>Recorders are safe to use from any number of threads. Counting is a
+ * single uncontended increment, so it can be done for every invocation while
+ * only a fraction of them is timed.</p>
+ */
+public final class LatencyRecorder {
+
+    private final LongAdder invocations = new LongAdder();
+    private final AtomicLongArray buckets = new AtomicLongArray(LatencyHistogram.BUCKETS);
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    /**
+     * Counts an invocation.
+     */
+    public void count() {
+        this.invocations.increment();
+    }
+
+    /**
+     * Records the latency of a sampled invocation, which must also be
+     * {@link #count() counted}.
+     *
+     * @param nanos The latency, in nanoseconds
+     */
+    public void record(long nanos) {
+        this.buckets.incrementAndGet(LatencyHistogram.getBucket(nanos));
+        this.totalNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Gets the number of counted invocations.
+     *
+     * @return The number of invocations
+     */
+    public long getInvocations() {
+        return this.invocations.sum();
+    }
+
+    /**
+     * Creates a snapshot of the recorded latencies.
+     *
+     * @return The histogram
+     */
+    public LatencyHistogram getHistogram() {
+        final long[] counts = new long[LatencyHistogram.BUCKETS];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = this.buckets.get(i);
+        }
+        return new LatencyHistogram(counts, this.totalNanos.get());
+    }
+
+    /**
+     * Clears all invocations and latencies. Concurrent invocations may be
+     * partially retained.
+     */
+    public void reset() {
+        this.invocations.reset();
+        for (int i = 0; i < LatencyHistogram.BUCKETS; i++) {
+            this.buckets.set(i, 0);
+        }
+        this.totalNanos.set(0);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.metric;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.MoreObjects;
+import com.google.common.reflect.TypeToken;
+import org.spongepowered.api.event.EventManager;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A snapshot of the invocations of a listener registered to an
+ * {@link EventManager}.
+ */
+public final class ListenerMetrics {
+
+    private final PluginContainer plugin;
+    private final String name;
+    private final TypeToken<?> eventType;
+    private final Order order;
+    private final long invocations;
+    private final LatencyHistogram histogram;
+
+    /**
+     * Creates new listener metrics.
+     *
+     * @param plugin The plugin owning the listener
+     * @param name The name of the listener
+     * @param eventType The event type the listener is registered for
+     * @param order The order of the listener
+     * @param invocations The number of invocations
+     * @param histogram The sampled latencies of the invocations
+     */
+    public ListenerMetrics(PluginContainer plugin, String name, TypeToken<?> eventType, Order order, long invocations,
+            LatencyHistogram histogram) {
+        this.plugin = checkNotNull(plugin, "plugin");
+        this.name = checkNotNull(name, "name");
+        this.eventType = checkNotNull(eventType, "eventType");
+        this.order = checkNotNull(order, "order");
+        this.invocations = invocations;
+        this.histogram = checkNotNull(histogram, "histogram");
+    }
+
+    /**
+     * Gets the plugin owning the listener.
+     *
+     * @return The plugin
+     */
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Gets the name of the listener, such as the class and name of a listener
+     * method.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the event type the listener is registered for.
+     *
+     * @return The event type
+     */
+    public TypeToken<?> getEventType() {
+        return this.eventType;
+    }
+
+    /**
+     * Gets the order of the listener.
+     *
+     * @return The order
+     */
+    public Order getOrder() {
+        return this.order;
+    }
+
+    /**
+     * Gets the number of times the listener was called.
+     *
+     * @return The number of invocations
+     */
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    /**
+     * Gets the latencies of the sampled invocations.
+     *
+     * @return The latency histogram
+     */
+    public LatencyHistogram getHistogram() {
+        return this.histogram;
+    }
+
+    /**
+     * Gets the estimated time spent in all invocations.
+     *
+     * @return The estimated total time, in nanoseconds
+     */
+    public long getEstimatedTotalNanos() {
+        return this.histogram.estimateTotalNanos(this.invocations);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("name", this.name)
+                .add("eventType", this.eventType)
+                .add("order", this.order)
+                .add("invocations", this.invocations)
+                .add("histogram", this.histogram)
+                .toString();
+    }
+
+}
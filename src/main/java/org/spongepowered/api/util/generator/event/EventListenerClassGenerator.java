@@ -0,0 +1,474 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.POP;
+import static org.objectweb.asm.Opcodes.POP2;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.data.value.mutable.CompositeValueStore;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKey;
+import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.ContextValue;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Generates an {@link EventListener} class for a single listener method.
+ *
+ * <p>The generated {@link EventListener#handle(Event)} checks the event type,
+ * the {@link Include}, {@link Exclude} and {@link IsCancelled} filters and
+ * then extracts every parameter from the event in turn, returning as soon as
+ * a filter doesn't match. The listener method itself is called directly,
+ * without reflection.</p>
+ *
+ * <p>The generated class has a public constructor accepting the object
+ * declaring the listener method, which is ignored for static methods.</p>
+ */
+public class EventListenerClassGenerator {
+
+    private static final String HANDLE_FIELD = "handle";
+    private static final String OBJECT = Type.getInternalName(Object.class);
+    private static final String OPTIONAL = Type.getInternalName(Optional.class);
+    private static final String CAUSE = Type.getInternalName(Cause.class);
+    private static final String EVENT = Type.getInternalName(Event.class);
+
+    private static final int EVENT_SLOT = 1;
+    private static final int TYPED_EVENT_SLOT = 2;
+    private static final int CAUSE_SLOT = 3;
+
+    /**
+     * Creates a new listener class prepared to be loaded into a
+     * {@link ClassLoader} that can see the declaring class of the method.
+     *
+     * @param method The listener method
+     * @param name The name of the class
+     * @return The generated class
+     * @throws IllegalArgumentException If the method isn't a valid listener
+     */
+    public byte[] createClass(Method method, String name) {
+        checkNotNull(method, "method");
+        checkNotNull(name, "name");
+        checkListener(method);
+
+        final String internalName = name.replace('.', '/');
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+            @Override
+            protected String getCommonSuperClass(String type1, String type2) {
+                // Branches only ever merge into the final return, which uses no locals
+                return OBJECT;
+            }
+        };
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, internalName, null, OBJECT, new String[] {Type.getInternalName(EventListener.class)});
+
+        generateConstructor(cw, internalName, method);
+        generateHandle(cw, internalName, method);
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void checkListener(Method method) {
+        checkArgument(Modifier.isPublic(method.getModifiers()), "Listener method %s must be public", method);
+        checkArgument(Modifier.isPublic(method.getDeclaringClass().getModifiers()), "Listener class %s must be public",
+                method.getDeclaringClass().getName());
+        final Class<?>[] parameters = method.getParameterTypes();
+        checkArgument(parameters.length > 0 && Event.class.isAssignableFrom(parameters[0]),
+                "The first parameter of listener method %s must be an event", method);
+    }
+
+    private void generateConstructor(ClassWriter cw, String internalName, Method method) {
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final String owner = Type.getInternalName(method.getDeclaringClass());
+        if (!isStatic) {
+            cw.visitField(ACC_PRIVATE | ACC_FINAL, HANDLE_FIELD, Type.getObjectType(owner).getDescriptor(), null, null).visitEnd();
+        }
+
+        final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, OBJECT, "<init>", "()V", false);
+        if (!isStatic) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, owner);
+            mv.visitFieldInsn(PUTFIELD, internalName, HANDLE_FIELD, Type.getObjectType(owner).getDescriptor());
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private void generateHandle(ClassWriter cw, String internalName, Method method) {
+        final MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", "(L" + EVENT + ";)V", null,
+                new String[] {Type.getInternalName(Exception.class)});
+        mv.visitCode();
+        final Label exit = new Label();
+        final Class<?> eventType = method.getParameterTypes()[0];
+
+        // Check the event type and keep a casted reference to it
+        mv.visitVarInsn(ALOAD, EVENT_SLOT);
+        if (eventType != Event.class) {
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(eventType));
+            mv.visitJumpInsn(IFEQ, exit);
+            mv.visitVarInsn(ALOAD, EVENT_SLOT);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(eventType));
+        }
+        mv.visitVarInsn(ASTORE, TYPED_EVENT_SLOT);
+
+        final Include include = method.getAnnotation(Include.class);
+        if (include != null) {
+            visitTypeFilter(mv, EVENT_SLOT, include.value(), false, exit);
+        }
+        final Exclude exclude = method.getAnnotation(Exclude.class);
+        if (exclude != null) {
+            visitTypeFilter(mv, EVENT_SLOT, exclude.value(), true, exit);
+        }
+        final IsCancelled isCancelled = method.getAnnotation(IsCancelled.class);
+        visitCancellation(mv, eventType, isCancelled == null ? Tristate.FALSE : isCancelled.value(), exit);
+
+        final Class<?>[] parameters = method.getParameterTypes();
+        final Annotation[][] annotations = method.getParameterAnnotations();
+        boolean causeLoaded = false;
+        int slot = CAUSE_SLOT + 1;
+        final int[] slots = new int[parameters.length];
+        for (int i = 1; i < parameters.length; i++) {
+            final Annotation source = getSource(method, i, annotations[i]);
+            if (!causeLoaded && needsCause(source)) {
+                mv.visitVarInsn(ALOAD, EVENT_SLOT);
+                mv.visitMethodInsn(INVOKEINTERFACE, EVENT, "getCause", "()L" + CAUSE + ";", true);
+                mv.visitVarInsn(ASTORE, CAUSE_SLOT);
+                causeLoaded = true;
+            }
+            slots[i] = slot;
+            visitParameter(mv, method, eventType, parameters[i], source, slot, exit);
+            for (Annotation annotation : annotations[i]) {
+                checkArgument(!parameters[i].isPrimitive() || !(annotation instanceof Has || annotation instanceof Supports),
+                        "Primitive parameter %s of listener method %s cannot have data filters", i, method);
+                if (annotation instanceof Has) {
+                    visitDataFilter(mv, slot, "get", ((Has) annotation).value(), ((Has) annotation).inverse(), exit);
+                } else if (annotation instanceof Supports) {
+                    visitDataFilter(mv, slot, "supports", ((Supports) annotation).value(), ((Supports) annotation).inverse(), exit);
+                }
+            }
+            slot += Type.getType(parameters[i]).getSize();
+        }
+
+        // All filters passed, call the listener
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final Class<?> owner = method.getDeclaringClass();
+        if (!isStatic) {
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, HANDLE_FIELD, Type.getDescriptor(owner));
+        }
+        mv.visitVarInsn(ALOAD, TYPED_EVENT_SLOT);
+        for (int i = 1; i < parameters.length; i++) {
+            mv.visitVarInsn(Type.getType(parameters[i]).getOpcode(ILOAD), slots[i]);
+        }
+        final int opcode = isStatic ? INVOKESTATIC : owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL;
+        mv.visitMethodInsn(opcode, Type.getInternalName(owner), method.getName(), Type.getMethodDescriptor(method), owner.isInterface());
+        final int returnSize = Type.getReturnType(method).getSize();
+        if (returnSize > 0) {
+            mv.visitInsn(returnSize == 2 ? POP2 : POP);
+        }
+
+        mv.visitLabel(exit);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static Annotation getSource(Method method, int index, Annotation[] annotations) {
+        Annotation source = null;
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof First || annotation instanceof Last || annotation instanceof Root || annotation instanceof Before
+                    || annotation instanceof After || annotation instanceof All || annotation instanceof ContextValue
+                    || annotation instanceof Getter) {
+                checkArgument(source == null, "Parameter %s of listener method %s has more than one source annotation", index, method);
+                source = annotation;
+            }
+        }
+        checkArgument(source != null, "Parameter %s of listener method %s has no source annotation", index, method);
+        return source;
+    }
+
+    private static boolean needsCause(Annotation source) {
+        return !(source instanceof Getter) && !(source instanceof ContextValue);
+    }
+
+    private void visitParameter(MethodVisitor mv, Method method, Class<?> eventType, Class<?> type, Annotation source, int slot,
+            Label exit) {
+        final String internalType = Type.getInternalName(type);
+        if (source instanceof Getter) {
+            visitGetter(mv, method, eventType, type, ((Getter) source).value(), slot, exit);
+            return;
+        }
+        checkArgument(!type.isPrimitive(), "Cause parameters of listener method %s cannot be primitive", method);
+        if (source instanceof All) {
+            checkArgument(type.isArray() && !type.getComponentType().isPrimitive(),
+                    "@All parameters of listener method %s must be object arrays", method);
+            final String componentType = Type.getInternalName(type.getComponentType());
+            mv.visitVarInsn(ALOAD, CAUSE_SLOT);
+            mv.visitLdcInsn(Type.getObjectType(componentType));
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "allOf", "(Ljava/lang/Class;)Ljava/util/List;", false);
+            mv.visitVarInsn(ASTORE, slot);
+            if (((All) source).ignoreEmpty()) {
+                mv.visitVarInsn(ALOAD, slot);
+                mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(List.class), "isEmpty", "()Z", true);
+                mv.visitJumpInsn(IFNE, exit);
+            }
+            mv.visitVarInsn(ALOAD, slot);
+            mv.visitVarInsn(ALOAD, slot);
+            mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(List.class), "size", "()I", true);
+            mv.visitTypeInsn(ANEWARRAY, componentType);
+            mv.visitMethodInsn(INVOKEINTERFACE, Type.getInternalName(List.class), "toArray", "([Ljava/lang/Object;)[Ljava/lang/Object;", true);
+            mv.visitTypeInsn(CHECKCAST, internalType);
+            mv.visitVarInsn(ASTORE, slot);
+            return;
+        }
+
+        final Class<?>[] typeFilter;
+        final boolean inverse;
+        if (source instanceof First) {
+            visitCauseLookup(mv, "first", internalType);
+            typeFilter = ((First) source).typeFilter();
+            inverse = ((First) source).inverse();
+        } else if (source instanceof Last) {
+            visitCauseLookup(mv, "last", internalType);
+            typeFilter = ((Last) source).typeFilter();
+            inverse = ((Last) source).inverse();
+        } else if (source instanceof Before) {
+            visitCauseLookup(mv, "before", Type.getInternalName(((Before) source).value()));
+            typeFilter = ((Before) source).typeFilter();
+            inverse = ((Before) source).inverse();
+        } else if (source instanceof After) {
+            visitCauseLookup(mv, "after", Type.getInternalName(((After) source).value()));
+            typeFilter = ((After) source).typeFilter();
+            inverse = ((After) source).inverse();
+        } else if (source instanceof Root) {
+            mv.visitVarInsn(ALOAD, CAUSE_SLOT);
+            mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, "root", "()Ljava/lang/Object;", false);
+            typeFilter = ((Root) source).typeFilter();
+            inverse = ((Root) source).inverse();
+        } else {
+            final ContextValue contextValue = (ContextValue) source;
+            final Field field;
+            try {
+                field = EventContextKeys.class.getField(contextValue.value());
+            } catch (NoSuchFieldException e) {
+                throw new IllegalArgumentException("Unknown context key " + contextValue.value() + " on listener method " + method, e);
+            }
+            mv.visitVarInsn(ALOAD, EVENT_SLOT);
+            mv.visitMethodInsn(INVOKEINTERFACE, EVENT, "getContext", Type.getMethodDescriptor(Type.getType(EventContext.class)), true);
+            mv.visitFieldInsn(GETSTATIC, Type.getInternalName(EventContextKeys.class), field.getName(), Type.getDescriptor(field.getType()));
+            mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(EventContext.class), "get",
+                    Type.getMethodDescriptor(Type.getType(Optional.class), Type.getType(EventContextKey.class)), false);
+            mv.visitInsn(ACONST_NULL);
+            mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "orElse", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+            typeFilter = contextValue.typeFilter();
+            inverse = contextValue.inverse();
+        }
+        mv.visitVarInsn(ASTORE, slot);
+        mv.visitVarInsn(ALOAD, slot);
+        mv.visitJumpInsn(IFNULL, exit);
+        if (!(source instanceof First) && !(source instanceof Last) && type != Object.class) {
+            mv.visitVarInsn(ALOAD, slot);
+            mv.visitTypeInsn(INSTANCEOF, internalType);
+            mv.visitJumpInsn(IFEQ, exit);
+        }
+        if (typeFilter.length > 0) {
+            visitTypeFilter(mv, slot, typeFilter, inverse, exit);
+        }
+        mv.visitVarInsn(ALOAD, slot);
+        mv.visitTypeInsn(CHECKCAST, internalType);
+        mv.visitVarInsn(ASTORE, slot);
+    }
+
+    /**
+     * Calls a cause method accepting a class and returning an
+     * {@link Optional}, leaving the value or null on the stack.
+     */
+    private static void visitCauseLookup(MethodVisitor mv, String name, String internalType) {
+        mv.visitVarInsn(ALOAD, CAUSE_SLOT);
+        mv.visitLdcInsn(Type.getObjectType(internalType));
+        mv.visitMethodInsn(INVOKEVIRTUAL, CAUSE, name, "(Ljava/lang/Class;)Ljava/util/Optional;", false);
+        mv.visitInsn(ACONST_NULL);
+        mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "orElse", "(Ljava/lang/Object;)Ljava/lang/Object;", false);
+    }
+
+    private static void visitGetter(MethodVisitor mv, Method method, Class<?> eventType, Class<?> type, String name, int slot, Label exit) {
+        final Method getter;
+        try {
+            getter = eventType.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("Unknown getter " + name + " of event " + eventType.getName() + " on listener method "
+                    + method, e);
+        }
+        final Class<?> returnType = getter.getReturnType();
+        final boolean assignable = type.isAssignableFrom(returnType);
+        checkArgument(assignable || !type.isPrimitive() && !returnType.isPrimitive() && returnType.isAssignableFrom(type),
+                "The getter %s returns %s which can't be passed as %s to listener method %s", name, returnType.getName(), type.getName(), method);
+        final Class<?> owner = getter.getDeclaringClass();
+        mv.visitVarInsn(ALOAD, TYPED_EVENT_SLOT);
+        mv.visitMethodInsn(owner.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL, Type.getInternalName(owner), name,
+                Type.getMethodDescriptor(getter), owner.isInterface());
+        mv.visitVarInsn(Type.getType(type).getOpcode(ISTORE), slot);
+        if (type.isPrimitive()) {
+            return;
+        }
+        mv.visitVarInsn(ALOAD, slot);
+        mv.visitJumpInsn(IFNULL, exit);
+        if (!assignable) {
+            mv.visitVarInsn(ALOAD, slot);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+            mv.visitJumpInsn(IFEQ, exit);
+            mv.visitVarInsn(ALOAD, slot);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(type));
+            mv.visitVarInsn(ASTORE, slot);
+        }
+    }
+
+    /**
+     * Jumps to the exit unless the value in the slot is an instance of one of
+     * the types, or of none of them if inverse.
+     */
+    private static void visitTypeFilter(MethodVisitor mv, int slot, Class<?>[] types, boolean inverse, Label exit) {
+        final Label pass = new Label();
+        for (Class<?> type : types) {
+            mv.visitVarInsn(ALOAD, slot);
+            mv.visitTypeInsn(INSTANCEOF, Type.getInternalName(type));
+            mv.visitJumpInsn(IFNE, inverse ? exit : pass);
+        }
+        if (!inverse) {
+            mv.visitJumpInsn(GOTO, exit);
+        }
+        mv.visitLabel(pass);
+    }
+
+    /**
+     * Jumps to the exit unless the cancellation state of the event matches,
+     * events that can't be cancelled are never cancelled.
+     */
+    private static void visitCancellation(MethodVisitor mv, Class<?> eventType, Tristate state, Label exit) {
+        if (state == Tristate.UNDEFINED) {
+            return;
+        }
+        final String cancellable = Type.getInternalName(Cancellable.class);
+        final Label notCancelled = new Label();
+        final Label pass = new Label();
+        if (!Cancellable.class.isAssignableFrom(eventType)) {
+            mv.visitVarInsn(ALOAD, EVENT_SLOT);
+            mv.visitTypeInsn(INSTANCEOF, cancellable);
+            mv.visitJumpInsn(IFEQ, notCancelled);
+        }
+        mv.visitVarInsn(ALOAD, EVENT_SLOT);
+        mv.visitTypeInsn(CHECKCAST, cancellable);
+        mv.visitMethodInsn(INVOKEINTERFACE, cancellable, "isCancelled", "()Z", true);
+        mv.visitJumpInsn(IFEQ, notCancelled);
+        mv.visitJumpInsn(GOTO, state == Tristate.TRUE ? pass : exit);
+        mv.visitLabel(notCancelled);
+        if (state == Tristate.TRUE) {
+            mv.visitJumpInsn(GOTO, exit);
+        }
+        mv.visitLabel(pass);
+    }
+
+    /**
+     * Jumps to the exit unless the value in the slot is a
+     * {@link CompositeValueStore} for which the method returns true, or
+     * false if inverse. The get method returns an {@link Optional} which is
+     * checked for presence.
+     */
+    private static void visitDataFilter(MethodVisitor mv, int slot, String name, Class<?> manipulator, boolean inverse, Label exit) {
+        final String store = Type.getInternalName(CompositeValueStore.class);
+        mv.visitVarInsn(ALOAD, slot);
+        mv.visitTypeInsn(INSTANCEOF, store);
+        mv.visitJumpInsn(IFEQ, exit);
+        mv.visitVarInsn(ALOAD, slot);
+        mv.visitTypeInsn(CHECKCAST, store);
+        mv.visitLdcInsn(Type.getType(manipulator));
+        if (name.equals("get")) {
+            mv.visitMethodInsn(INVOKEINTERFACE, store, name, "(Ljava/lang/Class;)Ljava/util/Optional;", true);
+            mv.visitMethodInsn(INVOKEVIRTUAL, OPTIONAL, "isPresent", "()Z", false);
+        } else {
+            mv.visitMethodInsn(INVOKEINTERFACE, store, name, "(Ljava/lang/Class;)Z", true);
+        }
+        mv.visitJumpInsn(inverse ? IFNE : IFEQ, exit);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.util.generator.GeneratorUtils;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates {@link EventListener}s for {@link Listener} methods, generating one
+ * class per method with {@link EventListenerClassGenerator}.
+ *
+ * <p>Event managers use this to register listener objects, and plugins may
+ * use it to call their listener methods with all filters applied in
+ * tests, without a running game.</p>
+ */
+public class EventListenerFactory {
+
+    private final EventListenerClassGenerator generator = new EventListenerClassGenerator();
+    private final ConcurrentMap<Method, Constructor<?>> constructors = new ConcurrentHashMap<>();
+    private final AtomicInteger counter = new AtomicInteger();
+    private final String targetPackage;
+
+    /**
+     * Creates a new listener factory.
+     *
+     * @param targetPackage The target package
+     */
+    public EventListenerFactory(String targetPackage) {
+        this.targetPackage = checkNotNull(targetPackage, "targetPackage");
+    }
+
+    /**
+     * Creates a new {@link EventListener} calling the given listener method.
+     *
+     * <p>The class of the listener is generated on the first call for a
+     * method and reused for every following call.</p>
+     *
+     * @param handle The object declaring the method, or null if the method
+     *     is static
+     * @param method The listener method
+     * @return The event listener
+     * @throws IllegalArgumentException If the method isn't a valid listener
+     */
+    @SuppressWarnings("unchecked")
+    public EventListener<Event> create(@Nullable Object handle, Method method) {
+        checkNotNull(method, "method");
+        checkArgument(Modifier.isStatic(method.getModifiers()) || method.getDeclaringClass().isInstance(handle),
+                "The handle must be an instance of %s", method.getDeclaringClass().getName());
+        final Constructor<?> constructor = this.constructors.computeIfAbsent(method, this::generate);
+        try {
+            return (EventListener<Event>) constructor.newInstance(handle);
+        } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create the listener for " + method, e);
+        }
+    }
+
+    private Constructor<?> generate(Method method) {
+        final Class<?> declaringClass = method.getDeclaringClass();
+        final String name = GeneratorUtils.getClassName(this.targetPackage, declaringClass,
+                "Listener_" + method.getName() + "_" + this.counter.incrementAndGet());
+        // Defined by a child of the loader of the listener class, so the generated code can see it
+        final GeneratorUtils.LocalClassLoader classLoader = new GeneratorUtils.LocalClassLoader(declaringClass.getClassLoader());
+        final Class<?> clazz = classLoader.defineClass(name, this.generator.createClass(method, name));
+        try {
+            return clazz.getConstructor(Object.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
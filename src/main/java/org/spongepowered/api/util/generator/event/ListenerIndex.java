@@ -0,0 +1,322 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * An index of the {@link Listener} methods of compiled classes, written by
+ * the listener annotation processor to {@value #LOCATION}.
+ *
+ * <p>The index lists every class compiled together with a listener, so a
+ * class without listeners can be told apart from one that was compiled
+ * without the processor. Event managers use it to find the listener methods
+ * of an object without scanning all methods of its class.</p>
+ *
+ * <p>The file has one line per class, {@code class <name>}, each followed by
+ * one line per listener method declared in it:
+ * {@code listener <name> <descriptor> <order> <beforeModifications> <async>
+ * <batched>}.
+ * </p>
+ */
+public final class ListenerIndex {
+
+    /**
+     * The location of the index resources.
+     */
+    public static final String LOCATION = "META-INF/sponge_listeners.index";
+
+    private static final ListenerIndex EMPTY = new ListenerIndex(ImmutableMap.of());
+    private static final Splitter SPLITTER = Splitter.on(' ').omitEmptyStrings();
+
+    private final Map<String, List<Entry>> classes;
+
+    private ListenerIndex(Map<String, List<Entry>> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * Gets an empty index.
+     *
+     * @return The empty index
+     */
+    public static ListenerIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Loads and merges all index resources visible to the given class loader.
+     *
+     * @param loader The class loader
+     * @return The index
+     * @throws IOException If a resource could not be read
+     */
+    public static ListenerIndex load(ClassLoader loader) throws IOException {
+        final Map<String, List<Entry>> classes = new HashMap<>();
+        final Enumeration<URL> resources = loader.getResources(LOCATION);
+        while (resources.hasMoreElements()) {
+            try (Reader reader = new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8)) {
+                read(reader, classes);
+            }
+        }
+        return classes.isEmpty() ? EMPTY : new ListenerIndex(ImmutableMap.copyOf(classes));
+    }
+
+    /**
+     * Reads a single index.
+     *
+     * @param reader The reader of the index
+     * @return The index
+     * @throws IOException If the index could not be read
+     */
+    public static ListenerIndex read(Reader reader) throws IOException {
+        final Map<String, List<Entry>> classes = new HashMap<>();
+        read(reader, classes);
+        return new ListenerIndex(ImmutableMap.copyOf(classes));
+    }
+
+    private static void read(Reader reader, Map<String, List<Entry>> classes) throws IOException {
+        final BufferedReader in = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        List<Entry> current = null;
+        String line;
+        while ((line = in.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty() || line.charAt(0) == '#') {
+                continue;
+            }
+            final List<String> parts = SPLITTER.splitToList(line);
+            if (parts.get(0).equals("class") && parts.size() == 2) {
+                current = classes.computeIfAbsent(parts.get(1), name -> new ArrayList<>());
+            } else if (parts.get(0).equals("listener") && parts.size() == 7) {
+                checkArgument(current != null, "Listener without a class: %s", line);
+                current.add(new Entry(parts.get(1), parts.get(2), Order.valueOf(parts.get(3)),
+                        Boolean.parseBoolean(parts.get(4)), Boolean.parseBoolean(parts.get(5)), Boolean.parseBoolean(parts.get(6))));
+            } else {
+                throw new IOException("Invalid listener index line: " + line);
+            }
+        }
+    }
+
+    /**
+     * Gets whether the given class was compiled with the index.
+     *
+     * @param clazz The class
+     * @return Whether the class is indexed
+     */
+    public boolean contains(Class<?> clazz) {
+        return this.classes.containsKey(clazz.getName());
+    }
+
+    /**
+     * Gets the listener methods of the given class and its superclasses, the
+     * same methods {@link Class#getMethods()} returns with a
+     * {@link Listener} annotation.
+     *
+     * <p>This is only possible if the class and all its superclasses outside
+     * the bootstrap class loader are indexed. Otherwise nothing is returned
+     * and the class has to be scanned.</p>
+     *
+     * @param clazz The class
+     * @return The listener methods, if all classes are indexed
+     */
+    public Optional<List<IndexedListener>> getListeners(Class<?> clazz) {
+        checkNotNull(clazz, "clazz");
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> type = clazz; type != null && type.getClassLoader() != null; type = type.getSuperclass()) {
+            if (!contains(type)) {
+                return Optional.empty();
+            }
+            hierarchy.add(type);
+        }
+
+        final ImmutableList.Builder<IndexedListener> listeners = ImmutableList.builder();
+        final Set<Method> seen = new HashSet<>();
+        for (Class<?> type : hierarchy) {
+            for (Entry entry : this.classes.get(type.getName())) {
+                // Resolved on the object's class to skip methods which are
+                // overridden, whether or not the override is a listener
+                final Method method = entry.resolve(clazz);
+                if (method == null || method.getDeclaringClass() != type || !seen.add(method)) {
+                    continue;
+                }
+                listeners.add(new IndexedListener(method, entry.order, entry.beforeModifications, entry.async, entry.batched));
+            }
+        }
+        return Optional.of(listeners.build());
+    }
+
+    private static final class Entry {
+
+        private final String name;
+        private final String descriptor;
+        private final Order order;
+        private final boolean beforeModifications;
+        private final boolean async;
+        private final boolean batched;
+
+        Entry(String name, String descriptor, Order order, boolean beforeModifications, boolean async, boolean batched) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.order = order;
+            this.beforeModifications = beforeModifications;
+            this.async = async;
+            this.batched = batched;
+        }
+
+        @Nullable
+        Method resolve(Class<?> clazz) {
+            final Type[] argumentTypes = Type.getArgumentTypes(this.descriptor);
+            final Class<?>[] parameters = new Class<?>[argumentTypes.length];
+            try {
+                for (int i = 0; i < argumentTypes.length; i++) {
+                    parameters[i] = toClass(argumentTypes[i], clazz.getClassLoader());
+                }
+                return clazz.getMethod(this.name, parameters);
+            } catch (ClassNotFoundException | NoSuchMethodException e) {
+                // The index is out of date
+                return null;
+            }
+        }
+
+        private static Class<?> toClass(Type type, ClassLoader loader) throws ClassNotFoundException {
+            switch (type.getSort()) {
+                case Type.BOOLEAN:
+                    return boolean.class;
+                case Type.CHAR:
+                    return char.class;
+                case Type.BYTE:
+                    return byte.class;
+                case Type.SHORT:
+                    return short.class;
+                case Type.INT:
+                    return int.class;
+                case Type.FLOAT:
+                    return float.class;
+                case Type.LONG:
+                    return long.class;
+                case Type.DOUBLE:
+                    return double.class;
+                case Type.ARRAY:
+                    return Class.forName(type.getDescriptor().replace('/', '.'), false, loader);
+                default:
+                    return Class.forName(type.getClassName(), false, loader);
+            }
+        }
+
+    }
+
+    /**
+     * A listener method found in the index.
+     */
+    public static final class IndexedListener {
+
+        private final Method method;
+        private final Order order;
+        private final boolean beforeModifications;
+        private final boolean async;
+        private final boolean batched;
+
+        IndexedListener(Method method, Order order, boolean beforeModifications, boolean async, boolean batched) {
+            this.method = method;
+            this.order = order;
+            this.beforeModifications = beforeModifications;
+            this.async = async;
+            this.batched = batched;
+        }
+
+        /**
+         * Gets the listener method.
+         *
+         * @return The method
+         */
+        public Method getMethod() {
+            return this.method;
+        }
+
+        /**
+         * Gets the {@link Listener#order()} of the method.
+         *
+         * @return The order
+         */
+        public Order getOrder() {
+            return this.order;
+        }
+
+        /**
+         * Gets the {@link Listener#beforeModifications()} of the method.
+         *
+         * @return Whether the listener is called before modifications
+         */
+        public boolean isBeforeModifications() {
+            return this.beforeModifications;
+        }
+
+        /**
+         * Gets the {@link Listener#async()} of the method.
+         *
+         * @return Whether the listener may be called asynchronously
+         */
+        public boolean isAsync() {
+            return this.async;
+        }
+
+        /**
+         * Gets the {@link Listener#batched()} of the method.
+         *
+         * @return Whether the listener receives batches of events
+         */
+        public boolean isBatched() {
+            return this.batched;
+        }
+
+    }
+
+}
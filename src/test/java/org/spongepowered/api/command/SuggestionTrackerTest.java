@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class SuggestionTrackerTest {
+
+    private final CommandCallable callable = mock(CommandCallable.class);
+    private final SuggestionTracker tracker = new SuggestionTracker(this.callable, MoreExecutors.directExecutor(), 1, 10, TimeUnit.SECONDS);
+
+    private static CommandSource source(String identifier) {
+        final CommandSource source = mock(CommandSource.class);
+        when(source.getIdentifier()).thenReturn(identifier);
+        return source;
+    }
+
+    private CompletableFuture<List<String>> stub(CommandSource source, String arguments) {
+        final CompletableFuture<List<String>> future = new CompletableFuture<>();
+        when(this.callable.getSuggestionsAsync(eq(source), eq(arguments), any(), any())).thenReturn(future);
+        return future;
+    }
+
+    @Test
+    public void testNewerRequestCancels() {
+        final CommandSource source = source("a");
+        final CommandSource other = source("b");
+        final CompletableFuture<List<String>> first = stub(source, "t");
+        stub(source, "te");
+        stub(other, "t");
+
+        final CompletableFuture<List<String>> firstResult = this.tracker.getSuggestions(source, "t", null);
+        final CompletableFuture<List<String>> otherResult = this.tracker.getSuggestions(other, "t", null);
+        final CompletableFuture<List<String>> secondResult = this.tracker.getSuggestions(source, "te", null);
+        assertTrue(firstResult.isCancelled());
+        assertTrue(first.isCancelled());
+        assertFalse(otherResult.isDone());
+        assertFalse(secondResult.isDone());
+        assertTrue(this.tracker.isPending(source));
+    }
+
+    @Test
+    public void testCache() {
+        final CommandSource source = source("a");
+        final CommandSource other = source("b");
+        stub(source, "t").complete(ImmutableList.of("test"));
+        stub(other, "t").complete(ImmutableList.of("tell"));
+
+        assertEquals(ImmutableList.of("test"), this.tracker.getSuggestions(source, "t", null).join());
+        assertEquals(ImmutableList.of("tell"), this.tracker.getSuggestions(other, "t", null).join());
+        assertEquals(ImmutableList.of("test"), this.tracker.getSuggestions(source, "t", null).join());
+        verify(this.callable, times(1)).getSuggestionsAsync(eq(source), eq("t"), any(), any());
+
+        this.tracker.invalidateAll();
+        this.tracker.getSuggestions(source, "t", null).join();
+        verify(this.callable, times(2)).getSuggestionsAsync(eq(source), eq("t"), any(), any());
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        final CommandSource source = source("a");
+        final CompletableFuture<List<String>> suggestions = stub(source, "t");
+        final SuggestionTracker tracker = new SuggestionTracker(this.callable, MoreExecutors.directExecutor(), 10, 0, TimeUnit.MILLISECONDS);
+        try {
+            tracker.getSuggestions(source, "t", null).get();
+            fail("The request did not time out");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof TimeoutException);
+        }
+        // The callable's future is cancelled right after the request
+        assertTrue(suggestions.handle((list, e) -> e).get(1, TimeUnit.SECONDS) instanceof CancellationException);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullSuggestions() throws Throwable {
+        final CommandSource source = source("a");
+        stub(source, "t").complete(null);
+        try {
+            this.tracker.getSuggestions(source, "t", null).get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        }
+    }
+
+}
@@ -26,6 +26,8 @@
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.spongepowered.api.command.args.GenericArguments.allOf;
 import static org.spongepowered.api.command.args.GenericArguments.bool;
@@ -193,6 +195,25 @@ public void testAllOf() throws ArgumentParseException {
         assertEquals(ImmutableList.<Object>of(2, 4, 8, 16, 32, 64, 128), ImmutableList.copyOf(context.getAll("key")));
     }
 
+    @Test
+    public void testTryParse() throws ArgumentParseException {
+        CommandElement el = seq(optionalWeak(integer(untr("opt"))), string(untr("word")), integer(untr("num")));
+        CommandArgs args = new CommandArgs("two 3", InputTokenizer.spaceSplitString().tokenize("two 3", true));
+        CommandContext context = new CommandContext();
+        assertNull(el.tryParse(MOCK_SOURCE, args, context));
+        assertFalse(context.hasAny("opt"));
+        assertEquals("two", context.getOne("word").get());
+        assertEquals(3, context.getOne("num").get());
+
+        args = new CommandArgs("two three", InputTokenizer.spaceSplitString().tokenize("two three", true));
+        context = new CommandContext();
+        ArgumentParseException error = el.tryParse(MOCK_SOURCE, args, context);
+        assertNotNull(error);
+        assertEquals(4, error.getPosition());
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals("two", context.getOne("word").get());
+    }
+
     @Test
     public void testString() throws ArgumentParseException {
         CommandContext context = parseForInput("\"here it is\"", string(untr("a value")));
@@ -95,6 +95,21 @@ public void testGibberishThrowsException() throws ArgumentParseException {
         this.testElement.parse(commandSource, args, context);
     }
 
+    @Test
+    public void testCompleteIgnoresCase() throws ArgumentParseException {
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        CommandArgs args = new CommandArgs("TEST12", TOKENIZER.tokenize("TEST12", true));
+        Assert.assertEquals(ImmutableList.of("test123", "test124"), this.testElement.complete(commandSource, args, new CommandContext()));
+    }
+
+    @Test
+    public void testCompleteWithRegex() throws ArgumentParseException {
+        CommandSource commandSource = Mockito.mock(CommandSource.class);
+        CommandElement element = new TestCommandElement(this.testKey, true);
+        CommandArgs args = new CommandArgs("test1.4", TOKENIZER.tokenize("test1.4", true));
+        Assert.assertEquals(ImmutableList.of("test124"), element.complete(commandSource, args, new CommandContext()));
+    }
+
     public static final class TestCommandElement extends PatternMatchingCommandElement {
 
         private final List<String> choices = ImmutableList.of(
@@ -105,7 +120,11 @@ public static final class TestCommandElement extends PatternMatchingCommandEleme
         );
 
         protected TestCommandElement(@Nullable Text key) {
-            super(key, false);
+            this(key, false);
+        }
+
+        protected TestCommandElement(@Nullable Text key, boolean yesIWantRegex) {
+            super(key, yesIWantRegex);
         }
 
         @Override
@@ -0,0 +1,62 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.args;
+
+import static org.junit.Assert.assertEquals;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class SortedChoicesTest {
+
+    private final SortedChoices choices = SortedChoices.of(ImmutableList.of("test2", "Test123", "other", "test1", "TEST124", "tes"));
+
+    @Test
+    public void testOrder() {
+        assertEquals(ImmutableList.of("other", "tes", "test1", "Test123", "TEST124", "test2"), this.choices.asList());
+    }
+
+    @Test
+    public void testStartingWith() {
+        assertEquals(ImmutableList.of("test1", "Test123", "TEST124", "test2"), this.choices.startingWith("test"));
+        assertEquals(ImmutableList.of("Test123", "TEST124"), this.choices.startingWith("TeSt12"));
+        assertEquals(ImmutableList.of("other"), this.choices.startingWith("o"));
+        assertEquals(this.choices.asList(), this.choices.startingWith(""));
+        assertEquals(ImmutableList.of(), this.choices.startingWith("test3"));
+        assertEquals(ImmutableList.of(), this.choices.startingWith("a"));
+        assertEquals(ImmutableList.of(), this.choices.startingWith("z"));
+    }
+
+    @Test
+    public void testGet() {
+        assertEquals(Optional.of("Test123"), this.choices.get("test123"));
+        assertEquals(Optional.of("tes"), this.choices.get("TES"));
+        assertEquals(Optional.empty(), this.choices.get("test12"));
+        assertEquals(Optional.empty(), SortedChoices.of(ImmutableList.of()).get("test"));
+    }
+
+}
@@ -25,6 +25,7 @@
 package org.spongepowered.api.command.args.parsing;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import com.google.common.base.Function;
 import com.google.common.collect.ImmutableList;
@@ -103,6 +104,15 @@ public void testEscape() throws ArgumentParseException {
                 parseFrom("this demonstrates\\ escapes \\\"of 'various\\' characters\'"));
     }
 
+    @Test
+    public void testArgumentIndexes() throws ArgumentParseException {
+        List<SingleArg> args = new QuotedStringTokenizer(true, false, false).tokenize("a 'b c' d\\ e", false);
+        assertTrue(args.get(0).getCharSequence() instanceof InputSlice);
+        assertTrue(args.get(1).getCharSequence() instanceof InputSlice);
+        assertTrue(args.get(2).getCharSequence() instanceof String);
+        assertEquals(ImmutableList.of(new SingleArg("a", 0, 0), new SingleArg("b c", 2, 6), new SingleArg("d e", 8, 11)), args);
+    }
+
     @Test
     public void testTrailingSpace() throws ArgumentParseException {
         assertEquals(ImmutableList.of("a", "test", "argument", "string", ""), parseFrom("a test argument string "));
@@ -82,4 +82,11 @@ public void initialize() throws Exception {
     public void test() throws ArgumentParseException {
         assertEquals(this.output, parseFrom(this.input));
     }
+
+    @Test
+    public void testIndexes() throws ArgumentParseException {
+        for (SingleArg arg : SpaceSplitInputTokenizer.INSTANCE.tokenize(this.input, false)) {
+            assertEquals(arg.getValue(), this.input.substring(arg.getStartIdx(), arg.getEndIdx()));
+        }
+    }
 }
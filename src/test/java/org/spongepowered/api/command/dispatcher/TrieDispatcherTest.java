@@ -0,0 +1,127 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.command.dispatcher;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.command.CommandCallable;
+import org.spongepowered.api.command.CommandException;
+import org.spongepowered.api.command.CommandMapping;
+import org.spongepowered.api.command.CommandSource;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+public class TrieDispatcherTest {
+
+    private final TrieDispatcher dispatcher = new TrieDispatcher();
+    private final CommandSource source = mock(CommandSource.class);
+
+    private static CommandCallable command(boolean permitted) {
+        final CommandCallable callable = mock(CommandCallable.class);
+        when(callable.testPermission(any())).thenReturn(permitted);
+        return callable;
+    }
+
+    @Test
+    public void testGet() {
+        final CommandMapping mapping = this.dispatcher.register(command(true), "Test", "t").get();
+        assertThat(mapping.getPrimaryAlias(), is("Test"));
+        assertThat(this.dispatcher.get("test"), is(Optional.of(mapping)));
+        assertThat(this.dispatcher.get("TEST", this.source), is(Optional.of(mapping)));
+        assertThat(this.dispatcher.get("t"), is(Optional.of(mapping)));
+        assertThat(this.dispatcher.get("te").isPresent(), is(false));
+        assertThat(this.dispatcher.get("tests").isPresent(), is(false));
+        assertThat(this.dispatcher.containsAlias("TEST"), is(true));
+        assertThat(this.dispatcher.containsAlias("tes"), is(false));
+        assertThat(this.dispatcher.containsMapping(mapping), is(true));
+        assertThat(this.dispatcher.size(), is(2));
+        assertThat(this.dispatcher.getAliases(), containsInAnyOrder("Test", "t"));
+        assertThat(this.dispatcher.getPrimaryAliases(), contains("Test"));
+    }
+
+    @Test
+    public void testPermission() {
+        this.dispatcher.register(command(false), "secret");
+        assertThat(this.dispatcher.get("secret").isPresent(), is(true));
+        assertThat(this.dispatcher.get("secret", this.source).isPresent(), is(false));
+        assertThat(this.dispatcher.testPermission(this.source), is(false));
+    }
+
+    @Test
+    public void testDisambiguation() {
+        final CommandMapping first = this.dispatcher.register(command(true), "other", "shared").get();
+        final CommandMapping second = this.dispatcher.register(command(true), "shared").get();
+        final CommandMapping third = this.dispatcher.register(command(true), "another", "shared").get();
+        assertThat(this.dispatcher.get("shared"), is(Optional.of(second)));
+        assertThat(this.dispatcher.getAll().get("shared"), contains(first, second, third));
+
+        final TrieDispatcher firstOnly = new TrieDispatcher((source, alias, options) -> Optional.of(options.get(0)));
+        final CommandMapping mapping = firstOnly.register(command(true), "other", "shared").get();
+        firstOnly.register(command(true), "shared");
+        assertThat(firstOnly.get("shared"), is(Optional.of(mapping)));
+    }
+
+    @Test
+    public void testSuggestions() throws CommandException {
+        this.dispatcher.register(command(true), "teleport", "tp");
+        this.dispatcher.register(command(true), "tell");
+        this.dispatcher.register(command(false), "test");
+        this.dispatcher.register(command(true), "time");
+        assertThat(this.dispatcher.getSuggestions(this.source, "te", null), contains("teleport", "tell"));
+        assertThat(this.dispatcher.getSuggestions(this.source, "T", null), contains("teleport", "tell", "time", "tp"));
+        assertThat(this.dispatcher.getSuggestions(this.source, "x", null), is(empty()));
+        assertThat(this.dispatcher.getSuggestions(this.source, "", null), contains("teleport", "tell", "time", "tp"));
+    }
+
+    @Test
+    public void testRemove() {
+        final CommandMapping mapping = this.dispatcher.register(command(true), "teleport", "tp").get();
+        final CommandMapping tell = this.dispatcher.register(command(true), "tell").get();
+        assertThat(this.dispatcher.remove("TP"), contains(mapping));
+        assertThat(this.dispatcher.containsAlias("tp"), is(false));
+        assertThat(this.dispatcher.containsAlias("teleport"), is(true));
+        assertThat(this.dispatcher.remove("tp"), is(empty()));
+
+        assertThat(this.dispatcher.removeMapping(mapping), is(Optional.of(mapping)));
+        assertThat(this.dispatcher.removeMapping(mapping), is(Optional.empty()));
+        assertThat(this.dispatcher.containsMapping(mapping), is(false));
+        assertThat(this.dispatcher.getCommands(), contains(tell));
+        assertThat(this.dispatcher.size(), is(1));
+
+        assertThat(this.dispatcher.removeAll(Arrays.asList("tell", "missing")), is(true));
+        assertThat(this.dispatcher.size(), is(0));
+        assertThat(this.dispatcher.getCommands(), is(empty()));
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+public class CompactDataTest {
+
+    private static DataContainer compact() {
+        return DataContainer.createNew(DataContainer.Layout.COMPACT);
+    }
+
+    private static void fill(DataView view) {
+        view.set(of("int"), 1);
+        view.set(of("long"), 2L);
+        view.set(of("double"), 3.0D);
+        view.set(of("float"), 4.0F);
+        view.set(of("short"), (short) 5);
+        view.set(of("byte"), (byte) 6);
+        view.set(of("boolean"), true);
+        view.set(of("char"), 'c');
+        view.set(of("string"), "foo");
+        view.set(of("list"), ImmutableList.of(1, 2, 3));
+        view.set(of("foo", "bar", "baz"), "foobarbaz");
+        view.set(of("foo", "bar", "int"), 7);
+        final Map<String, Object> map = Maps.newLinkedHashMap();
+        map.put("a", 1);
+        map.put("b", "b");
+        view.set(of("map"), map);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testLayout() {
+        assertTrue(compact() instanceof CompactDataContainer);
+        assertTrue(DataContainer.createNew(DataContainer.Layout.LINKED_MAP) instanceof MemoryDataContainer);
+    }
+
+    @Test
+    public void testPrimitiveTypesArePreserved() {
+        final DataContainer container = compact();
+        fill(container);
+        assertEquals(1, container.get(of("int")).get());
+        assertEquals(2L, container.get(of("long")).get());
+        assertEquals(3.0D, container.get(of("double")).get());
+        assertEquals(4.0F, container.get(of("float")).get());
+        assertEquals((short) 5, container.get(of("short")).get());
+        assertEquals((byte) 6, container.get(of("byte")).get());
+        assertEquals(true, container.get(of("boolean")).get());
+        assertEquals('c', container.get(of("char")).get());
+        assertEquals(Optional.of(7), container.getInt(of("foo", "bar", "int")));
+        assertEquals(Optional.of(3), container.getInt(of("double")));
+        assertFalse(container.getInt(of("string")).isPresent());
+    }
+
+    @Test
+    public void testMatchesMemoryDataContainer() {
+        final DataContainer compact = compact();
+        final DataContainer memory = DataContainer.createNew(DataContainer.Layout.LINKED_MAP);
+        fill(compact);
+        fill(memory);
+        assertEquals(memory.getKeys(true), compact.getKeys(true));
+        assertEquals(memory.getValues(true), compact.getValues(true));
+        assertEquals(memory.getMap(of("map")), compact.getMap(of("map")));
+        assertEquals(memory.getIntegerList(of("list")), compact.getIntegerList(of("list")));
+        assertEquals(memory.hashCode(), compact.hashCode());
+    }
+
+    @Test
+    public void testNestedViews() {
+        final DataContainer container = compact();
+        container.set(of("foo", "bar", "baz"), "foobarbaz");
+        final DataView bar = container.getView(of("foo", "bar")).get();
+        assertEquals(of("foo", "bar"), bar.getCurrentPath());
+        assertEquals("bar", bar.getName());
+        assertTrue(bar.getContainer() == container);
+        assertEquals(Optional.of("foobarbaz"), bar.getString(of("baz")));
+
+        final DataContainer other = compact();
+        other.set(of("copied"), bar);
+        assertEquals(Optional.of("foobarbaz"), other.getString(of("copied", "baz")));
+        other.set(of("copied", "baz"), "changed");
+        assertEquals(Optional.of("foobarbaz"), bar.getString(of("baz")));
+    }
+
+    @Test
+    public void testSetValueOverPrimitive() {
+        final DataContainer container = compact();
+        container.set(of("foo"), 1);
+        container.set(of("foo", "bar"), "foobar");
+        assertEquals(Optional.of("foobar"), container.getString(of("foo", "bar")));
+        container.set(of("foo"), 2.0D);
+        assertEquals(Optional.of(2.0D), container.getDouble(of("foo")));
+        assertFalse(container.contains(of("foo", "bar")));
+    }
+
+    @Test
+    public void testManyKeys() {
+        final DataContainer container = compact();
+        for (int i = 0; i < 100; i++) {
+            container.set(of("key" + i), i);
+        }
+        for (int i = 0; i < 100; i += 2) {
+            container.remove(of("key" + i));
+        }
+        assertEquals(50, container.getKeys(false).size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 2 != 0, container.contains(of("key" + i)));
+        }
+        assertEquals(Optional.of(99), container.getInt(of("key99")));
+        assertEquals(of("key1"), container.getKeys(false).iterator().next());
+    }
+
+    @Test
+    public void testArraysAreCloned() {
+        final DataContainer container = compact();
+        final int[] ints = {1, 2, 3};
+        container.set(of("ints"), ints);
+        final int[] stored = (int[]) container.get(of("ints")).get();
+        assertArrayEquals(ints, stored);
+        assertNotSame(ints, stored);
+
+        final DataContainer unsafe = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED, DataContainer.Layout.COMPACT);
+        unsafe.set(of("ints"), ints);
+        assertTrue(unsafe.get(of("ints")).get() == ints);
+    }
+
+    @Test
+    public void testCopy() {
+        final DataContainer container = compact();
+        fill(container);
+        final DataContainer copy = container.copy();
+        assertEquals(container, copy);
+        copy.set(of("foo", "bar", "baz"), "changed");
+        assertEquals(Optional.of("foobarbaz"), container.getString(of("foo", "bar", "baz")));
+        assertFalse(container.equals(copy));
+    }
+
+}
@@ -31,7 +31,9 @@
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.regex.Pattern;
 
 public class DataQueryTest {
 
@@ -61,6 +63,30 @@ public void testOfForSeparatorPath() {
         assertThat(second.equals(test), is(true));
     }
 
+    /**
+     * Method: of(char separator, String path)
+     */
+    @Test
+    public void testOfMatchesSplit() {
+        for (String path : new String[] {"", "a", "a.b", ".a", "a.", "a..b", "a.b..", ".."}) {
+            final DataQuery query = DataQuery.of('.', path);
+            assertThat(query.getParts(), is(Arrays.asList(path.split(Pattern.quote(".")))));
+            assertThat(query.hashCode(), is(DataQuery.of(query.getParts()).hashCode()));
+        }
+    }
+
+    /**
+     * Method: of(char separator, String path), intern()
+     */
+    @Test
+    public void testInterned() {
+        assertThat(DataQuery.of('.', "this.is.interned") == DataQuery.of('.', "this.is.interned"), is(true));
+        assertThat(DataQuery.of('/', "this/is/interned") == DataQuery.of('.', "this.is.interned"), is(true));
+        assertThat(DataQuery.of("this", "is", "interned").intern() == DataQuery.of('.', "this.is.interned"), is(true));
+        assertThat(DataQuery.of('.', "ContentVersion") == Queries.CONTENT_VERSION, is(true));
+        assertThat(DataQuery.of().intern() == DataQuery.of(), is(true));
+    }
+
     /**
      * Method: of(String... parts)
      */
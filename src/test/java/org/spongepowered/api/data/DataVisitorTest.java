@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public class DataVisitorTest {
+
+    private static DataContainer fill(DataContainer container) {
+        return container.set(of("foo"), 1)
+                .set(of("bar", "baz"), "baz")
+                .set(of("bar", "qux", "quux"), ImmutableList.of(1, 2))
+                .set(of("empty"), "");
+    }
+
+    private static Map<DataQuery, Object> visitValues(DataView view) {
+        final Map<DataQuery, Object> values = new HashMap<>();
+        view.visit((path, value) -> values.put(path.toQuery(), value));
+        return values;
+    }
+
+    private static void assertVisits(DataView view) {
+        final Map<DataQuery, Object> expected = new HashMap<>();
+        expected.put(of("foo"), 1);
+        expected.put(of("bar", "baz"), "baz");
+        expected.put(of("bar", "qux", "quux"), ImmutableList.of(1, 2));
+        expected.put(of("empty"), "");
+        assertEquals(expected, visitValues(view));
+    }
+
+    @Test
+    public void testVisitLayouts() {
+        assertVisits(fill(DataContainer.createNew()));
+        assertVisits(fill(DataContainer.createNew(DataContainer.Layout.COMPACT)));
+        assertVisits(PersistentDataContainer.of(fill(DataContainer.createNew())));
+    }
+
+    @Test
+    public void testViewCallbacks() {
+        final List<String> events = new ArrayList<>();
+        fill(DataContainer.createNew()).visit(new DataVisitor() {
+            @Override
+            public boolean visitView(DataPath path, DataView view) {
+                events.add("begin " + path);
+                return !path.getKey().equals("qux");
+            }
+
+            @Override
+            public void endView(DataPath path, DataView view) {
+                events.add("end " + path);
+            }
+
+            @Override
+            public void visitValue(DataPath path, Object value) {
+                events.add(path.getDepth() + " " + path);
+            }
+        });
+        assertEquals(ImmutableList.of("1 foo", "begin bar", "2 bar.baz", "begin bar.qux", "end bar", "1 empty"), events);
+    }
+
+    @Test
+    public void testWalkMatchesGetKeys() {
+        final DataContainer container = fill(DataContainer.createNew());
+        final List<DataQuery> walked = container.walk().map(Map.Entry::getKey).collect(Collectors.toList());
+        assertEquals(container.getKeys(true), new HashSet<>(walked));
+        assertEquals(container.getKeys(true).size(), walked.size());
+        assertEquals("baz", container.walk().filter(entry -> entry.getKey().equals(of("bar", "baz"))).findFirst().get().getValue());
+        assertFalse(DataContainer.createNew().walk().findAny().isPresent());
+    }
+
+    @Test
+    public void testArraysCloned() {
+        final int[] array = {1, 2, 3};
+        final DataContainer container = DataContainer.createNew().set(of("array"), array);
+        final Object visited = visitValues(container).get(of("array"));
+        assertArrayEquals(array, (int[]) visited);
+        assertNotSame(visited, visitValues(container).get(of("array")));
+        assertNotSame(container.walk().findFirst().get().getValue(), container.walk().findFirst().get().getValue());
+    }
+
+}
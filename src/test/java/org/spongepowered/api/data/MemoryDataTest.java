@@ -234,6 +234,19 @@ public void testContainsEmpty() {
         assertTrue(container.contains(query));
     }
 
+    @Test
+    public void testRemove() {
+        DataContainer container = DataContainer.createNew();
+        container.set(of("foo", "bar", "baz"), "foobarbaz");
+        container.set(of("foo", "bar", "qux"), "foobarqux");
+        container.remove(of("foo", "bar", "baz"));
+        assertTrue(!container.contains(of("foo", "bar", "baz")));
+        assertTrue(container.contains(of("foo", "bar", "qux")));
+        container.remove(of("foo", "missing", "baz"));
+        container.remove(of("foo"));
+        assertTrue(container.isEmpty());
+    }
+
     @Test
     public void testGetName() {
         DataContainer container = DataContainer.createNew();
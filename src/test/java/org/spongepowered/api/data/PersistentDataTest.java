@@ -0,0 +1,173 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+
+import java.util.Optional;
+
+public class PersistentDataTest {
+
+    @Test
+    public void testSetDoesNotModify() {
+        final PersistentDataContainer empty = PersistentDataContainer.empty();
+        final PersistentDataContainer container = empty.with(of("foo", "bar"), 1).with(of("baz"), "baz");
+        assertTrue(empty.isEmpty());
+        assertEquals(1, container.getInt(of("foo", "bar")).get().intValue());
+        assertEquals("baz", container.getString(of("baz")).get());
+
+        final PersistentDataContainer changed = container.with(of("foo", "bar"), 2);
+        assertEquals(1, container.getInt(of("foo", "bar")).get().intValue());
+        assertEquals(2, changed.getInt(of("foo", "bar")).get().intValue());
+    }
+
+    @Test
+    public void testRemove() {
+        final PersistentDataContainer container = PersistentDataContainer.empty().with(of("foo", "bar"), 1).with(of("foo", "baz"), 2);
+        final PersistentDataContainer removed = container.without(of("foo", "bar"));
+        assertTrue(container.contains(of("foo", "bar")));
+        assertFalse(removed.contains(of("foo", "bar")));
+        assertTrue(removed.contains(of("foo", "baz")));
+        assertSame(removed, removed.without(of("missing", "path")));
+    }
+
+    @Test
+    public void testStructuralSharing() {
+        final PersistentDataContainer container = PersistentDataContainer.empty().with(of("foo", "bar"), 1).with(of("baz", "qux"), 2);
+        final PersistentDataContainer changed = container.with(of("baz", "qux"), 3);
+        assertSame(((PersistentDataView) container.getView(of("foo")).get()).map, ((PersistentDataView) changed.getView(of("foo")).get()).map);
+        assertSame(container, container.copy());
+        assertSame(container, container.with(of("foo", "bar"), container.get(of("foo", "bar")).get()));
+
+        final PersistentDataContainer other = PersistentDataContainer.empty().with(of("shared"), container);
+        assertSame(container.map, ((PersistentDataView) other.getView(of("shared")).get()).map);
+    }
+
+    @Test
+    public void testViews() {
+        final PersistentDataContainer container = PersistentDataContainer.empty().with(of("foo", "bar", "baz"), "foo");
+        final DataView view = container.getView(of("foo", "bar")).get();
+        assertEquals(of("foo", "bar"), view.getCurrentPath());
+        assertEquals(of("foo"), view.getParent().get().getCurrentPath());
+        assertSame(container, view.getContainer());
+
+        final DataView changed = ((PersistentDataView) view).with(of("qux"), 1);
+        assertEquals(of("foo", "bar"), changed.getCurrentPath());
+        assertEquals(1, changed.getContainer().getInt(of("foo", "bar", "qux")).get().intValue());
+        assertFalse(container.contains(of("foo", "bar", "qux")));
+
+        final PersistentDataContainer created = container.with(of("a"), ImmutableMap.of("b", ImmutableMap.of()));
+        assertTrue(created.getView(of("a", "b")).get().isEmpty());
+        assertTrue(created.contains(of("foo", "bar", "baz")));
+    }
+
+    @Test
+    public void testModifyingThrows() {
+        final PersistentDataContainer container = PersistentDataContainer.empty().with(of("foo", "bar"), 1);
+        final DataView view = container.getView(of("foo")).get();
+        assertThrows(() -> container.set(of("baz"), 1));
+        assertThrows(() -> container.remove(of("foo")));
+        assertThrows(() -> view.set(of("baz"), 1));
+        assertThrows(() -> view.remove(of("bar")));
+        assertThrows(() -> view.createView(of("baz")));
+        assertThrows(() -> view.createView(of("baz"), ImmutableMap.of("a", 1)));
+        assertFalse(container.contains(of("baz")));
+        assertFalse(container.contains(of("foo", "baz")));
+    }
+
+    private static void assertThrows(Runnable runnable) {
+        try {
+            runnable.run();
+            fail("Modified a persistent view");
+        } catch (UnsupportedOperationException ignored) {
+        }
+    }
+
+    @Test
+    public void testConversion() {
+        final DataContainer memory = DataContainer.createNew()
+                .set(of("foo", "bar"), 1)
+                .set(of("list"), ImmutableList.of(1, 2, 3))
+                .set(of("views"), ImmutableList.of(DataContainer.createNew().set(of("a"), "b")));
+        final PersistentDataContainer container = memory.asImmutable();
+        assertEquals(memory.getKeys(true), container.getKeys(true));
+        assertEquals(memory.getList(of("list")), container.getList(of("list")));
+        assertEquals("b", container.getViewList(of("views")).get().get(0).getString(of("a")).get());
+
+        final DataContainer mutable = container.asMutable();
+        assertEquals(memory, mutable);
+        mutable.set(of("foo", "bar"), 2);
+        assertEquals(1, container.getInt(of("foo", "bar")).get().intValue());
+        assertSame(container, PersistentDataContainer.of(container));
+    }
+
+    @Test
+    public void testMapManyKeys() {
+        PersistentDataMap map = PersistentDataMap.EMPTY;
+        for (int i = 0; i < 2000; i++) {
+            map = map.put("key" + i, i);
+        }
+        assertEquals(2000, map.size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i, map.get("key" + i));
+        }
+        PersistentDataMap removed = map;
+        for (int i = 0; i < 2000; i += 2) {
+            removed = removed.remove("key" + i);
+        }
+        assertEquals(1000, removed.size());
+        assertEquals(2000, map.size());
+        assertNull(removed.get("key0"));
+        assertEquals(1, removed.get("key1"));
+    }
+
+    @Test
+    public void testMapCollisions() {
+        // "Aa" and "BB" share the same hash code
+        final PersistentDataMap map = PersistentDataMap.EMPTY.put("Aa", 1).put("BB", 2);
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+        assertEquals(2, map.size());
+        assertEquals(1, map.get("Aa"));
+        assertEquals(2, map.get("BB"));
+        final PersistentDataMap removed = map.remove("Aa");
+        assertEquals(1, removed.size());
+        assertNull(removed.get("Aa"));
+        assertEquals(2, removed.get("BB"));
+        assertEquals(Optional.of(2), Optional.ofNullable(removed.put("Aa", 1).get("BB")));
+        assertEquals(map, removed.put("Aa", 1));
+        assertEquals(map.hashCode(), removed.put("Aa", 1).hashCode());
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.key;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+
+public class KeySetTest {
+
+    private static Key<?> key(int ordinal) {
+        final Key<?> key = mock(Key.class);
+        when(key.getOrdinal()).thenReturn(ordinal);
+        when(key.getId()).thenReturn("key" + ordinal);
+        return key;
+    }
+
+    @Test
+    public void testContains() {
+        final Key<?> first = key(0);
+        final Key<?> second = key(63);
+        final Key<?> third = key(64);
+        final Key<?> absent = key(200);
+        final KeySet set = KeySet.of(third, first, second, first);
+        assertEquals(3, set.size());
+        assertTrue(set.contains(first));
+        assertTrue(set.contains(second));
+        assertTrue(set.contains(third));
+        assertFalse(set.contains(absent));
+        assertFalse(set.contains((Object) "key0"));
+        assertEquals(ImmutableList.of(first, second, third), ImmutableList.copyOf(set));
+        assertEquals(ImmutableSet.of(first, second, third), set);
+        assertEquals(set, ImmutableSet.of(first, second, third));
+        assertEquals(ImmutableSet.of(first, second, third).hashCode(), set.hashCode());
+    }
+
+    @Test
+    public void testEmpty() {
+        assertSame(KeySet.of(), KeySet.of(ImmutableList.of()));
+        assertTrue(KeySet.of().isEmpty());
+        assertFalse(KeySet.of().iterator().hasNext());
+        assertFalse(KeySet.of().contains(key(0)));
+    }
+
+    @Test
+    public void testUnion() {
+        final Key<?> first = key(1);
+        final Key<?> second = key(70);
+        final Key<?> third = key(130);
+        final KeySet left = KeySet.of(first, second);
+        final KeySet right = KeySet.of(third);
+        final KeySet union = left.union(right);
+        assertEquals(3, union.size());
+        assertTrue(union.containsAll(left));
+        assertTrue(union.containsAll(right));
+        assertFalse(left.containsAll(union));
+        assertSame(union, union.union(left));
+        assertEquals(ImmutableList.of(first, second, third), ImmutableList.copyOf(union));
+    }
+
+}
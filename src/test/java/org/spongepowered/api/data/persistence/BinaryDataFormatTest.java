@@ -0,0 +1,149 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.spongepowered.api.data.DataContainer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class BinaryDataFormatTest {
+
+    @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+    private static DataContainer data() {
+        return DataContainer.createNew()
+                .set(of("string"), "foo")
+                .set(of("int"), 1)
+                .set(of("long"), 2L)
+                .set(of("double"), 3.0D)
+                .set(of("float"), 4.0F)
+                .set(of("short"), (short) 5)
+                .set(of("byte"), (byte) 6)
+                .set(of("boolean"), true)
+                .set(of("char"), 'c')
+                .set(of("nested", "deeper", "value"), "bar")
+                .set(of("nested", "int"), 7)
+                .set(of("list"), ImmutableList.of(1, 2, 3))
+                .set(of("views"), ImmutableList.of(DataContainer.createNew().set(of("a"), "b")));
+    }
+
+    @Test
+    public void testRoundTrip() throws IOException {
+        final DataContainer data = data();
+        final DataContainer read = BinaryDataFormat.INSTANCE.read(BinaryDataFormat.INSTANCE.write(data));
+        assertEquals(data.getKeys(true), read.getKeys(true));
+        assertEquals(data, read.copy());
+        assertEquals("bar", read.getString(of("nested", "deeper", "value")).get());
+        assertEquals(of("nested", "deeper"), read.getView(of("nested", "deeper")).get().getCurrentPath());
+        assertEquals("b", read.getViewList(of("views")).get().get(0).getString(of("a")).get());
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BinaryDataFormat.INSTANCE.writeTo(output, data);
+        assertEquals(data, BinaryDataFormat.INSTANCE.readFrom(new ByteArrayInputStream(output.toByteArray())).copy());
+    }
+
+    @Test
+    public void testArrays() {
+        final DataContainer data = DataContainer.createNew()
+                .set(of("bytes"), new byte[] {1, 2})
+                .set(of("ints"), new int[] {3, 4})
+                .set(of("longs"), new long[] {5L, 6L})
+                .set(of("doubles"), new double[] {7.0D})
+                .set(of("chars"), new char[] {'a', '\u20ac'});
+        final DataContainer read = BinaryDataFormat.INSTANCE.read(BinaryDataFormat.INSTANCE.write(data));
+        assertArrayEquals(new byte[] {1, 2}, (byte[]) read.get(of("bytes")).get());
+        assertArrayEquals(new int[] {3, 4}, (int[]) read.get(of("ints")).get());
+        assertArrayEquals(new long[] {5L, 6L}, (long[]) read.get(of("longs")).get());
+        assertArrayEquals(new double[] {7.0D}, (double[]) read.get(of("doubles")).get(), 0.0D);
+        assertArrayEquals(new char[] {'a', '\u20ac'}, (char[]) read.get(of("chars")).get());
+    }
+
+    @Test
+    public void testNestedViewsAreLazy() {
+        final DataContainer data = DataContainer.createNew()
+                .set(of("root"), 1)
+                .set(of("nested", "value"), "nested");
+        final ByteBuffer buffer = BinaryDataFormat.INSTANCE.write(data);
+        // Corrupt the value type of the nested entry, the last one written
+        buffer.put(buffer.limit() - "nested".length() - 5, (byte) 127);
+
+        final DataContainer read = BinaryDataFormat.INSTANCE.read(buffer);
+        assertEquals(1, read.getInt(of("root")).get().intValue());
+        assertTrue(read.contains(of("nested")));
+        try {
+            read.get(of("nested", "value"));
+        } catch (InvalidDataFormatException e) {
+            return;
+        }
+        throw new AssertionError("The nested view was decoded eagerly");
+    }
+
+    @Test
+    public void testMappedFile() throws IOException {
+        final DataContainer data = data();
+        final Path path = this.folder.newFile("data.bin").toPath();
+        final ByteBuffer buffer = BinaryDataFormat.INSTANCE.write(data);
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        Files.write(path, bytes);
+        assertEquals(data, BinaryDataFormat.INSTANCE.read(path).copy());
+    }
+
+    @Test
+    public void testCorruptedLength() {
+        final DataContainer data = DataContainer.createNew().set(of("bytes"), new byte[] {1, 2});
+        for (int length : new int[] {-1, 3, Integer.MAX_VALUE}) {
+            final ByteBuffer buffer = BinaryDataFormat.INSTANCE.write(data);
+            // The length of the array precedes its two elements
+            buffer.putInt(buffer.limit() - 6, length);
+            try {
+                BinaryDataFormat.INSTANCE.read(buffer);
+            } catch (InvalidDataFormatException e) {
+                continue;
+            }
+            throw new AssertionError("The corrupted length " + length + " was accepted");
+        }
+    }
+
+    @Test(expected = InvalidDataFormatException.class)
+    public void testInvalidData() {
+        BinaryDataFormat.INSTANCE.read(ByteBuffer.wrap(new byte[] {1, 2, 3, 4, 5}));
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import ninja.leaping.configurate.ConfigurationNode;
+import org.junit.Test;
+import org.spongepowered.api.data.ConfigurationNodeDataContainer;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.IOException;
+
+public class ConfigurationNodeTranslatorTest {
+
+    private static ConfigurationNode node() {
+        final ConfigurationNode node = ConfigurationNode.root();
+        node.getNode("string").setValue("foo");
+        node.getNode("int").setValue(1);
+        node.getNode("nested", "deeper", "value").setValue(2.5D);
+        node.getNode("list").setValue(ImmutableList.of(1, 2, 3));
+        node.getNode("views").appendListNode().getNode("a").setValue("b");
+        return node;
+    }
+
+    private static DataContainer data() {
+        return DataContainer.createNew()
+                .set(of("string"), "foo")
+                .set(of("int"), 1)
+                .set(of("nested", "deeper", "value"), 2.5D)
+                .set(of("list"), ImmutableList.of(1, 2, 3))
+                .set(of("views"), ImmutableList.of(DataContainer.createNew().set(of("a"), "b")));
+    }
+
+    @Test
+    public void testTranslate() {
+        assertEquals(data(), ConfigurationNodeTranslator.INSTANCE.translate(node()));
+        assertEquals(node(), ConfigurationNodeTranslator.INSTANCE.translate(data()));
+        final DataContainer container = DataContainer.createNew();
+        ConfigurationNodeTranslator.INSTANCE.addTo(node(), container);
+        assertEquals(data(), container);
+    }
+
+    @Test
+    public void testLiveView() {
+        final ConfigurationNode node = node();
+        final DataContainer container = ConfigurationNodeDataContainer.of(node);
+        assertEquals("foo", container.getString(of("string")).get());
+        assertEquals(2.5D, container.getDouble(of("nested", "deeper", "value")).get(), 0.0D);
+        assertEquals(ImmutableList.of(1, 2, 3), container.getIntegerList(of("list")).get());
+        assertEquals("b", container.getViewList(of("views")).get().get(0).getString(of("a")).get());
+        assertEquals(data().getKeys(true), container.getKeys(true));
+
+        final DataView nested = container.getView(of("nested")).get();
+        assertEquals(of("nested"), nested.getCurrentPath());
+        nested.set(of("deeper", "other"), "bar");
+        assertEquals("bar", node.getNode("nested", "deeper", "other").getString());
+        node.getNode("string").setValue("changed");
+        assertEquals("changed", container.getString(of("string")).get());
+
+        container.set(of("view"), DataContainer.createNew().set(of("x"), 1));
+        assertEquals(1, node.getNode("view", "x").getInt());
+        container.remove(of("int"));
+        assertTrue(node.getNode("int").isVirtual());
+        assertFalse(container.contains(of("int")));
+        assertTrue(container.createView(of("empty")).isEmpty());
+        assertTrue(container.contains(of("empty")));
+    }
+
+    @Test
+    public void testStreaming() throws IOException {
+        final DataReader reader = ConfigurationNodeTranslator.reader(node());
+        assertEquals(data(), reader.readView());
+        assertEquals(DataReader.Token.END_DOCUMENT, reader.peek());
+
+        final ConfigurationNode node = ConfigurationNode.root();
+        try (DataWriter writer = ConfigurationNodeTranslator.writer(node)) {
+            DataReader.of(data()).transferTo(writer);
+        }
+        assertEquals(node(), node);
+
+        final ConfigurationNode copy = ConfigurationNode.root();
+        try (DataWriter writer = ConfigurationNodeTranslator.writer(copy)) {
+            ConfigurationNodeTranslator.reader(node()).transferTo(writer);
+        }
+        assertEquals(node(), copy);
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.util.Color;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class DataContentUpdaterTest {
+
+    private static final DataQuery VERSION = of("version");
+
+    private static DataContentUpdater updater(int from, int to) {
+        return new DataContentUpdater() {
+            @Override
+            public int getInputVersion() {
+                return from;
+            }
+
+            @Override
+            public int getOutputVersion() {
+                return to;
+            }
+
+            @Override
+            public DataView update(DataView content) {
+                assertEquals(from, content.getInt(VERSION).get().intValue());
+                return content.set(VERSION, to);
+            }
+        };
+    }
+
+    @Test
+    public void testComposedChain() {
+        final DataContentUpdaterRegistry registry = new DataContentUpdaterRegistry();
+        final DataContentUpdater single = updater(1, 2);
+        registry.register(Color.class, single);
+        registry.register(Color.class, updater(2, 3));
+        registry.register(Color.class, updater(3, 4));
+        registry.register(Color.class, updater(2, 4));
+
+        assertSame(single, registry.get(Color.class, 1, 2).get());
+        final DataContentUpdater fused = registry.get(Color.class, 1, 4).get();
+        assertEquals(1, fused.getInputVersion());
+        assertEquals(4, fused.getOutputVersion());
+        assertEquals(4, fused.update(DataContainer.createNew().set(VERSION, 1)).getInt(VERSION).get().intValue());
+        assertSame(fused, registry.get(Color.class, 1, 4).get());
+        assertFalse(registry.get(Color.class, 1, 5).isPresent());
+        assertFalse(registry.get(Color.class, 4, 1).isPresent());
+
+        registry.register(Color.class, updater(4, 5));
+        assertTrue(registry.get(Color.class, 1, 5).isPresent());
+    }
+
+    @Test
+    public void testBatchUpdate() throws InterruptedException {
+        final List<DataView> views = Lists.newArrayList();
+        for (int i = 0; i < 1000; i++) {
+            views.add(DataContainer.createNew().set(VERSION, 1).set(of("index"), i));
+        }
+        final ConcurrentLinkedQueue<DataView> updated = new ConcurrentLinkedQueue<>();
+        final AtomicInteger notifications = new AtomicInteger();
+        final BatchDataContentUpdater.Progress progress = BatchDataContentUpdater.builder()
+                .updater(updater(1, 2))
+                .parallelism(4)
+                .maxPending(16)
+                .progress(p -> notifications.incrementAndGet(), 100)
+                .build()
+                .update(views, updated::add);
+        assertEquals(1000, progress.getProcessed());
+        assertEquals(1000, updated.size());
+        assertEquals(10, notifications.get());
+        for (DataView view : updated) {
+            assertEquals(2, view.getInt(VERSION).get().intValue());
+        }
+    }
+
+    @Test(expected = InvalidDataException.class)
+    public void testBatchUpdateFailure() throws InterruptedException {
+        BatchDataContentUpdater.builder()
+                .updater(updater(2, 3))
+                .build()
+                .update(Collections.singletonList(DataContainer.createNew().set(VERSION, 1)), view -> { });
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.persistence.DataReader.Token;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class DataReaderTest {
+
+    private static DataContainer data() {
+        return DataContainer.createNew()
+                .set(of("foo"), "bar")
+                .set(of("nested", "int"), 1)
+                .set(of("nested", "deeper", "long"), 2L)
+                .set(of("list"), ImmutableList.of(1, 2, 3))
+                .set(of("views"), ImmutableList.of(DataContainer.createNew().set(of("a"), "b")));
+    }
+
+    @Test
+    public void testTokens() throws IOException {
+        final DataReader reader = DataReader.of(DataContainer.createNew().set(of("a"), 1).set(of("b"), ImmutableList.of("c")));
+        assertEquals(Token.BEGIN_VIEW, reader.peek());
+        reader.beginView();
+        assertEquals("a", reader.nextKey());
+        assertEquals(1, reader.nextValue());
+        assertEquals("b", reader.nextKey());
+        reader.beginList();
+        assertEquals("c", reader.nextValue());
+        assertEquals(Token.END_LIST, reader.peek());
+        reader.endList();
+        reader.endView();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnexpectedToken() throws IOException {
+        DataReader.of(DataContainer.createNew()).nextKey();
+    }
+
+    @Test
+    public void testReadView() throws IOException {
+        final DataContainer data = data();
+        assertEquals(data, DataReader.of(data).readView());
+    }
+
+    @Test
+    public void testSkipValue() throws IOException {
+        final DataReader reader = DataReader.of(data());
+        reader.beginView();
+        while (reader.peek() == Token.KEY) {
+            if (reader.nextKey().equals("list")) {
+                assertEquals(ImmutableList.of(1, 2, 3), reader.readValue());
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endView();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void testDefaultSkipValue() throws IOException {
+        final DataReader reader = new ForwardingReader(DataReader.of(data()));
+        reader.beginView();
+        while (reader.peek() == Token.KEY) {
+            // Skips the key along with its value
+            reader.skipValue();
+        }
+        reader.endView();
+        assertEquals(Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    public void testDefaultTransfer() throws IOException {
+        final AtomicReference<DataContainer> result = new AtomicReference<>();
+        final DataWriter writer = new DataContainerWriter() {
+            @Override
+            protected void complete(DataContainer container) {
+                result.set(container);
+            }
+        };
+        final DataReader reader = new ForwardingReader(DataReader.of(data()));
+        reader.beginView();
+        writer.beginView();
+        reader.transferTo(writer);
+        // The value of the key was transferred as well
+        assertEquals(Token.KEY, reader.peek());
+        while (reader.peek() == Token.KEY) {
+            reader.transferTo(writer);
+        }
+        reader.endView();
+        writer.endView().close();
+        assertEquals(data(), result.get());
+    }
+
+    @Test
+    public void testReadQueries() throws IOException {
+        final DataContainer container = DataReader.of(data()).readQueries(ImmutableList.of(of("foo"), of("nested", "deeper", "long")));
+        assertEquals("bar", container.getString(of("foo")).get());
+        assertEquals(2L, container.getLong(of("nested", "deeper", "long")).get().longValue());
+        assertFalse(container.contains(of("nested", "int")));
+        assertFalse(container.contains(of("list")));
+    }
+
+    @Test
+    public void testTransfer() throws IOException {
+        final AtomicReference<DataContainer> result = new AtomicReference<>();
+        final DataWriter writer = new DataContainerWriter() {
+            @Override
+            protected void complete(DataContainer container) {
+                result.set(container);
+            }
+        };
+        final DataContainer data = data();
+        DataReader.of(data).transferTo(writer);
+        writer.close();
+        assertNotNull(result.get());
+        assertEquals(data, result.get());
+    }
+
+    @Test
+    public void testWriteView() throws IOException {
+        final AtomicReference<DataContainer> result = new AtomicReference<>();
+        final DataWriter writer = new DataContainerWriter() {
+            @Override
+            protected void complete(DataContainer container) {
+                result.set(container);
+            }
+        };
+        final DataContainer data = data();
+        writer.write(data).close();
+        assertEquals(data, result.get());
+        assertTrue(result.get().getViewList(of("views")).isPresent());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testUnfinishedWriter() throws IOException {
+        final DataWriter writer = new DataContainerWriter() {
+            @Override
+            protected void complete(DataContainer container) {
+            }
+        };
+        writer.beginView().key("foo");
+        writer.close();
+    }
+
+    /**
+     * A reader which relies on the default implementations of the
+     * {@link DataReader} methods.
+     */
+    private static final class ForwardingReader implements DataReader {
+
+        private final DataReader reader;
+
+        ForwardingReader(DataReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Token peek() throws IOException {
+            return this.reader.peek();
+        }
+
+        @Override
+        public void beginView() throws IOException {
+            this.reader.beginView();
+        }
+
+        @Override
+        public void endView() throws IOException {
+            this.reader.endView();
+        }
+
+        @Override
+        public void beginList() throws IOException {
+            this.reader.beginList();
+        }
+
+        @Override
+        public void endList() throws IOException {
+            this.reader.endList();
+        }
+
+        @Override
+        public String nextKey() throws IOException {
+            return this.reader.nextKey();
+        }
+
+        @Override
+        public Object nextValue() throws IOException {
+            return this.reader.nextValue();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.reader.close();
+        }
+
+    }
+
+}
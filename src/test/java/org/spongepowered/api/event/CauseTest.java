@@ -118,5 +118,41 @@ public void testListedArray() {
         assertThat(stringList.equals(fooList), is(true));
     }
 
+    @Test
+    public void testRepeatedLookups() {
+        final Cause cause = Cause.builder().append("foo").append(1).append("bar").append(2L).build(EventContext.empty());
+        for (int i = 0; i < 2; i++) {
+            assertThat(cause.first(String.class), is(Optional.of("foo")));
+            assertThat(cause.last(String.class), is(Optional.of("bar")));
+            assertThat(cause.first(Number.class), is(Optional.of(1)));
+            assertThat(cause.last(Number.class), is(Optional.of(2L)));
+            assertThat(cause.allOf(Number.class), is(ImmutableList.of(1, 2L)));
+            assertThat(cause.noneOf(Number.class), is(ImmutableList.of("foo", "bar")));
+            assertThat(cause.containsType(Double.class), is(false));
+            assertThat(cause.first(Double.class).isPresent(), is(false));
+        }
+    }
+
+    @Test
+    public void testBeforeSkipsRoot() {
+        final Cause cause = Cause.builder().append("foo").append(1).append("bar").build(EventContext.empty());
+        assertThat(cause.before(String.class), is(Optional.of(1)));
+        assertThat(cause.after(String.class), is(Optional.of(1)));
+        assertThat(cause.after(CharSequence.class), is(Optional.of(1)));
+    }
+
+    @Test
+    public void testManyLookupTypes() {
+        final Cause cause = Cause.builder().append("foo").append(1).build(EventContext.empty());
+        final Class<?>[] types = {Object.class, String.class, Integer.class, Number.class, CharSequence.class, Comparable.class,
+                Long.class, Double.class, Float.class, Short.class, Byte.class, Character.class, Boolean.class, Iterable.class,
+                List.class, Optional.class, Cause.class, EventContext.class, Runnable.class, Thread.class};
+        for (int i = 0; i < 2; i++) {
+            for (Class<?> type : types) {
+                final boolean contained = type.isInstance("foo") || type.isInstance(1);
+                assertThat(cause.containsType(type), is(contained));
+            }
+        }
+    }
 
 }
@@ -0,0 +1,96 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKey;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public class EventContextTest {
+
+    private static final EventContextKey<String> FIRST = key("first", 0);
+    private static final EventContextKey<Integer> SECOND = key("second", 1);
+    private static final EventContextKey<String> DISTANT = key("distant", 130);
+
+    @SuppressWarnings("unchecked")
+    private static <T> EventContextKey<T> key(String id, int ordinal) {
+        final EventContextKey<T> key = mock(EventContextKey.class);
+        when(key.getId()).thenReturn(id);
+        when(key.getOrdinal()).thenReturn(ordinal);
+        return key;
+    }
+
+    @Test
+    public void testGet() {
+        final EventContext context = EventContext.builder().add(SECOND, 2).add(DISTANT, "far").build();
+        assertThat(context.get(SECOND), is(Optional.of(2)));
+        assertThat(context.get(DISTANT), is(Optional.of("far")));
+        assertThat(context.get(FIRST), is(Optional.empty()));
+        assertThat(context.containsKey(DISTANT), is(true));
+        assertThat(context.containsKey(FIRST), is(false));
+        assertThat(EventContext.empty().containsKey(DISTANT), is(false));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateKey() {
+        EventContext.builder().add(FIRST, "foo").add(FIRST, "bar");
+    }
+
+    @Test
+    public void testFrom() {
+        final EventContext context = EventContext.builder().add(FIRST, "foo").build();
+        final EventContext copy = EventContext.builder().from(context).add(SECOND, 2).build();
+        assertThat(context.containsKey(SECOND), is(false));
+        assertThat(copy.get(FIRST), is(Optional.of("foo")));
+        assertThat(copy.get(SECOND), is(Optional.of(2)));
+
+        final EventContext merged = EventContext.builder().add(DISTANT, "far").from(copy).build();
+        assertThat(merged.keySet(), contains(FIRST, SECOND, DISTANT));
+    }
+
+    @Test
+    public void testAsMap() {
+        final Map<EventContextKey<?>, Object> entries = new HashMap<>();
+        entries.put(FIRST, "foo");
+        entries.put(DISTANT, "far");
+        final EventContext context = EventContext.of(entries);
+        assertThat(context.asMap(), is(ImmutableMap.<EventContextKey<?>, Object>of(FIRST, "foo", DISTANT, "far")));
+        assertThat(context.hashCode(), is(entries.hashCode()));
+        assertThat(context, is(EventContext.builder().add(DISTANT, "far").add(FIRST, "foo").build()));
+        assertThat(context.toString(), is("Context[\"first\"=foo, \"distant\"=far]"));
+    }
+
+}
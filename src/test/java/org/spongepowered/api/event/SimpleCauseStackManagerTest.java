@@ -0,0 +1,134 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.cause.EventContextKey;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class SimpleCauseStackManagerTest {
+
+    @SuppressWarnings("unchecked")
+    private static final EventContextKey<String> KEY = mock(EventContextKey.class);
+
+    @Test
+    public void testCurrentCause() {
+        final CauseStackManager manager = new SimpleCauseStackManager();
+        manager.pushCause("foo").pushCause(1);
+        assertThat(manager.getCurrentCause().all(), contains(1, "foo"));
+        assertThat(manager.peekCause(), is(1));
+        assertThat(manager.popCause(), is(1));
+        assertThat(manager.getCurrentCause().all(), contains("foo"));
+    }
+
+    @Test
+    public void testCachedUntilChanged() {
+        final CauseStackManager manager = new SimpleCauseStackManager();
+        manager.pushCause("foo").addContext(KEY, "bar");
+        final Cause cause = manager.getCurrentCause();
+        final EventContext context = manager.getCurrentContext();
+        assertSame(cause, manager.getCurrentCause());
+        assertSame(context, cause.getContext());
+
+        manager.addContext(KEY, "bar");
+        assertSame(cause, manager.getCurrentCause());
+        manager.addContext(KEY, "baz");
+        assertNotSame(cause, manager.getCurrentCause());
+        assertThat(manager.getCurrentCause().getContext().get(KEY), is(Optional.of("baz")));
+
+        final Cause changed = manager.getCurrentCause();
+        manager.pushCause(1);
+        assertNotSame(changed, manager.getCurrentCause());
+        assertSame(manager.getCurrentContext(), manager.getCurrentCause().getContext());
+    }
+
+    @Test
+    public void testFrameRestoresState() {
+        final CauseStackManager manager = new SimpleCauseStackManager();
+        manager.pushCause("foo").addContext(KEY, "bar");
+        final Cause cause = manager.getCurrentCause();
+        try (CauseStackManager.StackFrame frame = manager.pushCauseFrame()) {
+            frame.pushCause(1).pushCause(2).addContext(KEY, "baz");
+            assertThat(manager.getCurrentCause().all(), contains(2, 1, "foo"));
+            assertThat(manager.getContext(KEY), is(Optional.of("baz")));
+        }
+        assertThat(manager.getCurrentCause(), is(cause));
+        assertThat(manager.getContext(KEY), is(Optional.of("bar")));
+
+        try (CauseStackManager.StackFrame frame = manager.pushCauseFrame()) {
+            frame.removeContext(KEY);
+            frame.addContext(KEY, "qux");
+        }
+        assertThat(manager.getContext(KEY), is(Optional.of("bar")));
+    }
+
+    @Test
+    public void testFramesReused() {
+        final CauseStackManager manager = new SimpleCauseStackManager();
+        final CauseStackManager.StackFrame frame = manager.pushCauseFrame();
+        manager.popCauseFrame(frame);
+        assertSame(frame, manager.pushCauseFrame());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPopBelowFrame() {
+        final CauseStackManager manager = new SimpleCauseStackManager();
+        manager.pushCause("foo");
+        manager.pushCauseFrame();
+        manager.popCause();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testPopFrameOutOfOrder() {
+        final CauseStackManager manager = new SimpleCauseStackManager();
+        final CauseStackManager.StackFrame first = manager.pushCauseFrame();
+        manager.pushCauseFrame();
+        manager.popCauseFrame(first);
+    }
+
+    @Test
+    public void testThreadLocal() throws Exception {
+        final CauseStackManager manager = SimpleCauseStackManager.threadLocal();
+        manager.pushCause("foo");
+        final Object other = CompletableFuture.supplyAsync(() -> {
+            manager.pushCause("bar");
+            return manager.peekCause();
+        }).get();
+        assertThat(other, is("bar"));
+        assertThat(manager.getCurrentCause().all(), contains("foo"));
+    }
+
+}
@@ -0,0 +1,419 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.reflect.TypeToken;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.metric.EventMetrics;
+import org.spongepowered.api.event.metric.ListenerMetrics;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+public class SimpleEventManagerTest {
+
+    private final Object plugin = new Object();
+    private PluginManager pluginManager;
+    private SimpleEventManager eventManager;
+
+    @Before
+    public void setUp() {
+        this.pluginManager = mock(PluginManager.class);
+        final PluginContainer container = mock(PluginContainer.class);
+        when(container.getId()).thenReturn("test");
+        when(this.pluginManager.fromInstance(this.plugin)).thenReturn(Optional.of(container));
+        this.eventManager = new SimpleEventManager(this.pluginManager);
+    }
+
+    private static Cause cause(Object cause) {
+        return Cause.of(EventContext.empty(), cause);
+    }
+
+    @Test
+    public void testPostInOrder() {
+        final Listeners listeners = new Listeners();
+        this.eventManager.registerListeners(this.plugin, listeners);
+        this.eventManager.registerListener(this.plugin, TestEvent.class, Order.PRE, event -> listeners.calls.add("pre"));
+        assertThat(this.eventManager.post(new TestEvent(cause("foo"))), is(false));
+        assertThat(listeners.calls, contains("pre", "first foo", "default", "post"));
+    }
+
+    @Test
+    public void testBeforeModifications() {
+        final Listeners listeners = new Listeners();
+        this.eventManager.registerListeners(this.plugin, listeners);
+        this.eventManager.registerListener(this.plugin, TestEvent.class, Order.LATE, true, event -> listeners.calls.add("late before"));
+        this.eventManager.post(new TestEvent(cause("foo")));
+        assertThat(listeners.calls, contains("late before", "first foo", "default", "post"));
+    }
+
+    @Test
+    public void testCancelled() {
+        this.eventManager.registerListener(this.plugin, TestEvent.class, event -> event.setCancelled(true));
+        assertThat(this.eventManager.post(new TestEvent(cause("foo"))), is(true));
+    }
+
+    @Test
+    public void testHasListeners() {
+        assertThat(this.eventManager.hasListeners(TestEvent.class), is(false));
+        final Listeners listeners = new Listeners();
+        this.eventManager.registerListeners(this.plugin, listeners);
+        assertThat(this.eventManager.hasListeners(TestEvent.class), is(true));
+        assertThat(this.eventManager.hasListeners(SubEvent.class), is(true));
+        assertThat(this.eventManager.hasListeners(Event.class), is(false));
+
+        this.eventManager.unregisterListeners(listeners);
+        assertThat(this.eventManager.hasListeners(TestEvent.class), is(false));
+
+        this.eventManager.registerListener(this.plugin, Event.class, event -> { });
+        assertThat(this.eventManager.hasListeners(TestEvent.class), is(true));
+        this.eventManager.unregisterPluginListeners(this.plugin);
+        assertThat(this.eventManager.hasListeners(TestEvent.class), is(false));
+    }
+
+    @Test
+    @SuppressWarnings("serial")
+    public void testGenericListeners() {
+        final List<Object> calls = new ArrayList<>();
+        this.eventManager.registerListener(this.plugin, new TypeToken<TestGenericEvent<String>>() {}, event -> calls.add(event));
+        assertThat(this.eventManager.hasListeners(new TypeToken<TestGenericEvent<String>>() {}), is(true));
+        assertThat(this.eventManager.hasListeners(new TypeToken<TestGenericEvent<Integer>>() {}), is(false));
+        assertThat(this.eventManager.hasListeners(TestGenericEvent.class), is(true));
+
+        final TestGenericEvent<String> string = new TestGenericEvent<>(TypeToken.of(String.class), cause("foo"));
+        this.eventManager.post(string);
+        this.eventManager.post(new TestGenericEvent<>(TypeToken.of(Integer.class), cause("foo")));
+        assertThat(calls, contains(string));
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        final ExecutorService main = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "main"));
+        final ExecutorService async = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "async"));
+        try {
+            this.eventManager = new SimpleEventManager(this.pluginManager) {
+                @Override
+                protected Executor getSyncExecutor(PluginContainer plugin) {
+                    return main;
+                }
+
+                @Override
+                protected boolean isMainThread() {
+                    return false;
+                }
+            };
+            final AsyncListeners listeners = new AsyncListeners();
+            this.eventManager.registerListeners(this.plugin, listeners);
+            assertThat(this.eventManager.postAsync(new TestEvent(cause("foo")), async).get(), is(true));
+            assertThat(listeners.calls, contains("early async", "late main"));
+        } finally {
+            main.shutdown();
+            async.shutdown();
+        }
+    }
+
+    @Test
+    public void testPostAsyncOnMainThread() throws Exception {
+        this.eventManager = new SimpleEventManager(this.pluginManager) {
+            @Override
+            protected Executor getSyncExecutor(PluginContainer plugin) {
+                throw new AssertionError("Listeners were deferred to the next tick");
+            }
+
+            @Override
+            protected boolean isMainThread() {
+                return true;
+            }
+        };
+        this.eventManager.setSampleInterval(1);
+        final Listeners listeners = new Listeners();
+        this.eventManager.registerListeners(this.plugin, listeners);
+        final CompletableFuture<Boolean> future = this.eventManager.postAsync(new TestEvent(cause("foo")), runnable -> {
+            throw new AssertionError("No listener is async");
+        });
+        assertThat(future.isDone(), is(true));
+        assertThat(future.get(), is(false));
+        assertThat(listeners.calls, contains("first foo", "default", "post"));
+
+        final EventMetrics metrics = this.eventManager.getEventMetrics().iterator().next();
+        assertThat(metrics.getPosts(), is(1L));
+        assertThat(metrics.getHistogram().getCount(), is(1L));
+    }
+
+    @Test
+    public void testBatchedListeners() {
+        this.eventManager.setSampleInterval(1);
+        final BatchedListeners listeners = new BatchedListeners();
+        this.eventManager.registerListeners(this.plugin, listeners);
+        final TestEvent first = new TestEvent(cause("foo"));
+        final TestEvent cancelled = new TestEvent(cause("foo"));
+        cancelled.setCancelled(true);
+        final SubEvent second = new SubEvent(cause("foo"));
+        this.eventManager.post(first);
+        this.eventManager.post(cancelled);
+        this.eventManager.post(second);
+        assertThat(listeners.batches, is(empty()));
+
+        this.eventManager.flushBatches();
+        assertThat(listeners.batches, is(ImmutableList.<List<TestEvent>>of(ImmutableList.of(first, second))));
+        final ListenerMetrics metrics = this.eventManager.getListenerMetrics().iterator().next();
+        assertThat(metrics.getInvocations(), is(1L));
+        assertThat(metrics.getHistogram().getCount(), is(1L));
+
+        this.eventManager.flushBatches();
+        assertThat(listeners.batches.size(), is(1));
+
+        this.eventManager.post(first);
+        this.eventManager.unregisterListeners(listeners);
+        this.eventManager.flushBatches();
+        assertThat(listeners.batches.size(), is(1));
+    }
+
+    @Test
+    public void testMetrics() {
+        this.eventManager.setSampleInterval(1);
+        final Listeners listeners = new Listeners();
+        this.eventManager.registerListeners(this.plugin, listeners);
+        this.eventManager.post(new TestEvent(cause("foo")));
+        this.eventManager.post(new SubEvent(cause("foo")));
+
+        final Collection<ListenerMetrics> listenerMetrics = this.eventManager.getListenerMetrics();
+        assertThat(listenerMetrics.size(), is(3));
+        for (ListenerMetrics metrics : listenerMetrics) {
+            assertThat(metrics.getInvocations(), is(2L));
+            assertThat(metrics.getHistogram().getCount(), is(2L));
+            assertThat(metrics.getEventType(), is(TypeToken.of(TestEvent.class)));
+        }
+        assertThat(listenerMetrics.stream().map(ListenerMetrics::getName).collect(Collectors.toList()),
+                containsInAnyOrder(Listeners.class.getName() + ".onPost", Listeners.class.getName() + ".onDefault",
+                        Listeners.class.getName() + ".onFirst"));
+
+        final Map<Class<?>, Long> posts = this.eventManager.getEventMetrics().stream()
+                .collect(Collectors.toMap(EventMetrics::getEventClass, EventMetrics::getPosts));
+        assertThat(posts, is(ImmutableMap.of(TestEvent.class, 1L, SubEvent.class, 1L)));
+
+        this.eventManager.resetMetrics();
+        assertThat(this.eventManager.getEventMetrics(), is(empty()));
+        assertThat(this.eventManager.getListenerMetrics().iterator().next().getInvocations(), is(0L));
+    }
+
+    @Test
+    public void testStaticBatchedListener() {
+        StaticBatchedListeners.batches.clear();
+        this.eventManager.registerListeners(this.plugin, new StaticBatchedListeners());
+        final TestEvent event = new TestEvent(cause("foo"));
+        this.eventManager.post(event);
+        this.eventManager.flushBatches();
+        assertThat(StaticBatchedListeners.batches, is(ImmutableList.<List<TestEvent>>of(ImmutableList.of(event))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchedListenerOrder() {
+        this.eventManager.registerListeners(this.plugin, new InvalidBatchedListeners());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBatchedListenerFilter() {
+        this.eventManager.registerListeners(this.plugin, new FilteredBatchedListeners());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownPlugin() {
+        this.eventManager.registerListeners(new Object(), new Listeners());
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+
+        TestEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class SubEvent extends TestEvent {
+
+        SubEvent(Cause cause) {
+            super(cause);
+        }
+
+    }
+
+    public static class TestGenericEvent<T> implements GenericEvent<T> {
+
+        private final TypeToken<T> genericType;
+        private final Cause cause;
+
+        TestGenericEvent(TypeToken<T> genericType, Cause cause) {
+            this.genericType = genericType;
+            this.cause = cause;
+        }
+
+        @Override
+        public TypeToken<T> getGenericType() {
+            return this.genericType;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+    }
+
+    public static class AsyncListeners {
+
+        final List<String> calls = new ArrayList<>();
+
+        private void record(String name) {
+            this.calls.add(name + " " + Thread.currentThread().getName());
+        }
+
+        @Listener(order = Order.EARLY, async = true)
+        public void onEarly(TestEvent event) {
+            record("early");
+            event.setCancelled(true);
+        }
+
+        @Listener
+        public void onDefault(TestEvent event) {
+            record("default");
+        }
+
+        @Listener(order = Order.LATE)
+        @IsCancelled
+        public void onLate(TestEvent event) {
+            record("late");
+        }
+
+    }
+
+    public static class BatchedListeners {
+
+        final List<List<TestEvent>> batches = new ArrayList<>();
+
+        @Listener(order = Order.POST, batched = true)
+        public void onBatch(List<? extends TestEvent> events) {
+            this.batches.add(new ArrayList<>(events));
+        }
+
+    }
+
+    public static class StaticBatchedListeners {
+
+        static final List<List<TestEvent>> batches = new ArrayList<>();
+
+        @Listener(order = Order.POST, batched = true)
+        public static void onBatch(List<TestEvent> events) {
+            batches.add(new ArrayList<>(events));
+        }
+
+    }
+
+    public static class InvalidBatchedListeners {
+
+        @Listener(batched = true)
+        public void onBatch(List<TestEvent> events) {
+        }
+
+    }
+
+    public static class FilteredBatchedListeners {
+
+        @Listener(order = Order.POST, batched = true)
+        @IsCancelled
+        public void onBatch(List<TestEvent> events) {
+        }
+
+    }
+
+    public static class Listeners {
+
+        final List<String> calls = new ArrayList<>();
+
+        @Listener(order = Order.POST)
+        public void onPost(TestEvent event) {
+            this.calls.add("post");
+        }
+
+        @Listener
+        public void onDefault(TestEvent event) {
+            this.calls.add("default");
+        }
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(TestEvent event, @First String value) {
+            this.calls.add("first " + value);
+        }
+
+        public void notAListener(TestEvent event) {
+            this.calls.add("not a listener");
+        }
+
+    }
+
+}
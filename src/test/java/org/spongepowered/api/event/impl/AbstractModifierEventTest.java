@@ -0,0 +1,118 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.impl;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.event.cause.entity.damage.DamageFunction;
+import org.spongepowered.api.event.cause.entity.damage.DamageModifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AbstractModifierEventTest {
+
+    private static final double ERROR = 0.03;
+
+    private final DamageModifier first = mock(DamageModifier.class);
+    private final DamageModifier second = mock(DamageModifier.class);
+    private final AtomicInteger calls = new AtomicInteger();
+    private AbstractDamageEntityEvent event;
+
+    @Before
+    public void setUp() {
+        this.event = mock(AbstractDamageEntityEvent.class, withSettings().useConstructor().defaultAnswer(CALLS_REAL_METHODS));
+        this.event.originalDamage = 1;
+        this.event.originalFunctions = Lists.newArrayList(
+                DamageFunction.of(this.first, p -> {
+                    this.calls.incrementAndGet();
+                    return p * 2;
+                }),
+                DamageFunction.of(this.second, p -> p * 5));
+        this.event.init();
+    }
+
+    @Test
+    public void testOriginalAmounts() {
+        assertThat(this.calls.get(), is(1));
+        assertThat(this.event.getOriginalFinalDamage(), is(closeTo(18, ERROR)));
+        assertThat(this.event.getOriginalModifierDamage(this.first), is(closeTo(2, ERROR)));
+        assertThat(this.event.getOriginalModifierDamage(this.second), is(closeTo(15, ERROR)));
+        assertThat(this.event.getOriginalDamages(), is(ImmutableMap.of(this.first, 2.0, this.second, 15.0)));
+
+        // The amounts computed for the originals are reused
+        assertThat(this.event.getFinalDamage(), is(closeTo(18, ERROR)));
+        assertThat(this.event.getDamage(this.second), is(closeTo(15, ERROR)));
+        assertThat(this.calls.get(), is(1));
+    }
+
+    @Test
+    public void testLazyRecomputation() {
+        this.event.setBaseDamage(2);
+        this.event.setBaseDamage(3);
+        this.event.setDamage(this.second, p -> p);
+        assertThat(this.calls.get(), is(1));
+
+        assertThat(this.event.getFinalDamage(), is(closeTo(18, ERROR)));
+        assertThat(this.event.getDamage(this.first), is(closeTo(6, ERROR)));
+        assertThat(this.event.getDamage(this.second), is(closeTo(9, ERROR)));
+        assertThat(this.calls.get(), is(2));
+
+        assertThat(this.event.getOriginalFinalDamage(), is(closeTo(18, ERROR)));
+        assertThat(this.event.getOriginalModifierDamage(this.first), is(closeTo(2, ERROR)));
+        assertThat(this.event.getOriginalModifierDamage(this.second), is(closeTo(15, ERROR)));
+    }
+
+    @Test
+    public void testApplicable() {
+        final DamageModifier third = mock(DamageModifier.class);
+        assertThat(this.event.isModifierApplicable(this.first), is(true));
+        assertThat(this.event.isModifierApplicable(third), is(false));
+
+        this.event.setDamage(third, p -> 1);
+        assertThat(this.event.isModifierApplicable(third), is(true));
+        assertThat(this.event.getDamage(third), is(closeTo(1, ERROR)));
+        assertThat(this.event.getFinalDamage(), is(closeTo(19, ERROR)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotApplicable() {
+        this.event.getDamage(mock(DamageModifier.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNotOriginal() {
+        this.event.getOriginalModifierDamage(mock(DamageModifier.class));
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event.metric;
+
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBuckets() {
+        assertThat(LatencyHistogram.getBucket(0), is(0));
+        assertThat(LatencyHistogram.getBucket(1), is(1));
+        assertThat(LatencyHistogram.getBucket(2), is(2));
+        assertThat(LatencyHistogram.getBucket(3), is(2));
+        assertThat(LatencyHistogram.getBucket(1000), is(10));
+        assertThat(LatencyHistogram.getBucket(Long.MAX_VALUE), is(LatencyHistogram.BUCKETS - 1));
+        for (int bucket = 1; bucket < LatencyHistogram.BUCKETS - 1; bucket++) {
+            assertThat(LatencyHistogram.getBucket(LatencyHistogram.getUpperBound(bucket) - 1), is(bucket));
+            assertThat(LatencyHistogram.getBucket(LatencyHistogram.getUpperBound(bucket)), is(bucket + 1));
+        }
+    }
+
+    @Test
+    public void testRecorder() {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < 100; i++) {
+            recorder.count();
+        }
+        for (int i = 0; i < 9; i++) {
+            recorder.record(100);
+        }
+        recorder.record(5000);
+
+        final LatencyHistogram histogram = recorder.getHistogram();
+        assertThat(recorder.getInvocations(), is(100L));
+        assertThat(histogram.getCount(), is(10L));
+        assertThat(histogram.getCount(LatencyHistogram.getBucket(100)), is(9L));
+        assertThat(histogram.getTotalNanos(), is(5900L));
+        assertThat(histogram.getMeanNanos(), is(590L));
+        assertThat(histogram.getPercentileNanos(50), is(128L));
+        assertThat(histogram.getPercentileNanos(90), is(128L));
+        assertThat(histogram.getPercentileNanos(99), is(8192L));
+        assertThat(histogram.estimateTotalNanos(recorder.getInvocations()), is(59000L));
+
+        recorder.reset();
+        assertThat(recorder.getInvocations(), is(0L));
+        assertThat(recorder.getHistogram().getCount(), is(0L));
+        assertThat(recorder.getHistogram().getPercentileNanos(99), is(0L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidPercentile() {
+        LatencyHistogram.empty().getPercentileNanos(101);
+    }
+
+}
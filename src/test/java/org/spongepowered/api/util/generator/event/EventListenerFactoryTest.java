@@ -0,0 +1,318 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataHolder;
+import org.spongepowered.api.data.manipulator.mutable.entity.HealthData;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.cause.EventContext;
+import org.spongepowered.api.event.filter.Getter;
+import org.spongepowered.api.event.filter.IsCancelled;
+import org.spongepowered.api.event.filter.cause.After;
+import org.spongepowered.api.event.filter.cause.All;
+import org.spongepowered.api.event.filter.cause.Before;
+import org.spongepowered.api.event.filter.cause.First;
+import org.spongepowered.api.event.filter.cause.Last;
+import org.spongepowered.api.event.filter.cause.Root;
+import org.spongepowered.api.event.filter.data.Has;
+import org.spongepowered.api.event.filter.data.Supports;
+import org.spongepowered.api.event.filter.type.Exclude;
+import org.spongepowered.api.event.filter.type.Include;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class EventListenerFactoryTest {
+
+    private final EventListenerFactory factory = new EventListenerFactory("org.spongepowered.test.listener");
+
+    private List<Object> call(String name, Event event) throws Exception {
+        final Listeners listeners = new Listeners();
+        final EventListener<Event> listener = this.factory.create(listeners, method(name));
+        listener.handle(event);
+        return listeners.calls;
+    }
+
+    private static java.lang.reflect.Method method(String name) {
+        return Arrays.stream(Listeners.class.getMethods()).filter(method -> method.getName().equals(name)).findFirst().get();
+    }
+
+    private static TestEvent event(Object... causes) {
+        return new TestEvent(Cause.of(EventContext.empty(), Arrays.asList(causes)));
+    }
+
+    @Test
+    public void testEventType() throws Exception {
+        assertThat(call("onEvent", event("foo")), contains("event"));
+        assertThat(call("onEvent", new OtherEvent(Cause.of(EventContext.empty(), "foo"))), is(empty()));
+    }
+
+    @Test
+    public void testCancellation() throws Exception {
+        final TestEvent event = event("foo");
+        event.setCancelled(true);
+        assertThat(call("onEvent", event), is(empty()));
+        assertThat(call("onCancelled", event), contains("cancelled"));
+        assertThat(call("onAny", event), contains("any"));
+        event.setCancelled(false);
+        assertThat(call("onCancelled", event), is(empty()));
+        assertThat(call("onCancelled", new OtherEvent(Cause.of(EventContext.empty(), "foo"))), is(empty()));
+    }
+
+    @Test
+    public void testIncludeExclude() throws Exception {
+        final OtherEvent other = new OtherEvent(Cause.of(EventContext.empty(), "foo"));
+        assertThat(call("onIncluded", event("foo")), contains("included"));
+        assertThat(call("onIncluded", other), is(empty()));
+        assertThat(call("onExcluded", event("foo")), is(empty()));
+        assertThat(call("onExcluded", other), contains("excluded"));
+    }
+
+    @Test
+    public void testCauseFilters() throws Exception {
+        assertThat(call("onFirst", event(1, "foo", "bar")), contains("foo"));
+        assertThat(call("onFirst", event(1, 2)), is(empty()));
+        assertThat(call("onLast", event("foo", 1, "bar")), contains("bar"));
+        assertThat(call("onRoot", event("foo", 1)), contains("foo"));
+        assertThat(call("onRoot", event(1, "foo")), is(empty()));
+        assertThat(call("onBefore", event("foo", 1)), contains("foo"));
+        assertThat(call("onAfter", event(1, "foo")), contains("foo"));
+        assertThat(call("onAll", event("foo", 1, "bar")), contains("foo", "bar"));
+        assertThat(call("onAll", event(1)), is(empty()));
+        assertThat(call("onTwo", event("foo", 1)), contains("foo", 1));
+    }
+
+    @Test
+    public void testTypeFilter() throws Exception {
+        assertThat(call("onFilteredNumber", event(1L, 2)), contains(2));
+        assertThat(call("onFilteredNumber", event(1L)), is(empty()));
+        assertThat(call("onInverseNumber", event(1L, 2)), contains(1L));
+        assertThat(call("onInverseNumber", event(2)), is(empty()));
+    }
+
+    @Test
+    public void testGetter() throws Exception {
+        assertThat(call("onName", event("foo")), contains("name"));
+        assertThat(call("onLevel", event("foo")), contains(3));
+        final TestEvent event = event("foo");
+        event.name = null;
+        assertThat(call("onName", event), is(empty()));
+    }
+
+    @Test
+    public void testDataFilters() throws Exception {
+        final DataHolder holder = mock(DataHolder.class);
+        when(holder.supports(HealthData.class)).thenReturn(true);
+        assertThat(call("onSupports", event(holder)), contains(holder));
+        assertThat(call("onHas", event(holder)), is(empty()));
+        when(holder.get(HealthData.class)).thenReturn(Optional.of(mock(HealthData.class)));
+        assertThat(call("onHas", event(holder)), contains(holder));
+        assertThat(call("onHas", event("foo")), is(empty()));
+    }
+
+    @Test
+    public void testStatic() throws Exception {
+        Listeners.staticCalls = 0;
+        this.factory.create(null, method("onStatic")).handle(event("foo"));
+        assertThat(Listeners.staticCalls, is(1));
+    }
+
+    @Test
+    public void testClassReused() {
+        final Class<?> first = this.factory.create(new Listeners(), method("onEvent")).getClass();
+        assertThat(this.factory.create(new Listeners(), method("onEvent")).getClass() == first, is(true));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingSource() {
+        this.factory.create(new Listeners(), method("onMissingSource"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownGetter() {
+        this.factory.create(new Listeners(), method("onUnknownGetter"));
+    }
+
+    public static class TestEvent implements Event, Cancellable {
+
+        private final Cause cause;
+        private boolean cancelled;
+        String name = "name";
+
+        TestEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public int getLevel() {
+            return 3;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    public static class OtherEvent implements Event {
+
+        private final Cause cause;
+
+        OtherEvent(Cause cause) {
+            this.cause = cause;
+        }
+
+        @Override
+        public Cause getCause() {
+            return this.cause;
+        }
+
+    }
+
+    public static class Listeners {
+
+        static int staticCalls;
+
+        final List<Object> calls = new ArrayList<>();
+
+        public void onEvent(TestEvent event) {
+            this.calls.add("event");
+        }
+
+        @IsCancelled
+        public void onCancelled(Event event) {
+            this.calls.add("cancelled");
+        }
+
+        @IsCancelled(Tristate.UNDEFINED)
+        public void onAny(TestEvent event) {
+            this.calls.add("any");
+        }
+
+        @Include(TestEvent.class)
+        public void onIncluded(Event event) {
+            this.calls.add("included");
+        }
+
+        @Exclude(TestEvent.class)
+        public void onExcluded(Event event) {
+            this.calls.add("excluded");
+        }
+
+        public void onFirst(TestEvent event, @First String value) {
+            this.calls.add(value);
+        }
+
+        public void onLast(TestEvent event, @Last String value) {
+            this.calls.add(value);
+        }
+
+        public void onRoot(TestEvent event, @Root String value) {
+            this.calls.add(value);
+        }
+
+        public void onBefore(TestEvent event, @Before(Integer.class) String value) {
+            this.calls.add(value);
+        }
+
+        public void onAfter(TestEvent event, @After(Integer.class) String value) {
+            this.calls.add(value);
+        }
+
+        public void onAll(TestEvent event, @All String[] values) {
+            this.calls.addAll(Arrays.asList(values));
+        }
+
+        public boolean onTwo(TestEvent event, @First String value, @First Integer number) {
+            this.calls.add(value);
+            this.calls.add(number);
+            return true;
+        }
+
+        public void onFilteredNumber(TestEvent event, @Last(typeFilter = Integer.class) Number value) {
+            this.calls.add(value);
+        }
+
+        public void onInverseNumber(TestEvent event, @First(typeFilter = Integer.class, inverse = true) Number value) {
+            this.calls.add(value);
+        }
+
+        public void onName(TestEvent event, @Getter("getName") String name) {
+            this.calls.add(name);
+        }
+
+        public void onLevel(TestEvent event, @Getter("getLevel") int level) {
+            this.calls.add(level);
+        }
+
+        public void onHas(TestEvent event, @First @Has(HealthData.class) Object holder) {
+            this.calls.add(holder);
+        }
+
+        public void onSupports(TestEvent event, @First @Supports(HealthData.class) DataHolder holder) {
+            this.calls.add(holder);
+        }
+
+        public static void onStatic(TestEvent event) {
+            staticCalls++;
+        }
+
+        public void onMissingSource(TestEvent event, String value) {
+        }
+
+        public void onUnknownGetter(TestEvent event, @Getter("getMissing") String value) {
+        }
+
+    }
+
+}
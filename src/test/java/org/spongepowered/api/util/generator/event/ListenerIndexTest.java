@@ -0,0 +1,136 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.generator.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ListenerIndexTest {
+
+    private static final String BASE = ListenerIndexTest.class.getName() + "$Base";
+    private static final String SUB = ListenerIndexTest.class.getName() + "$Sub";
+    private static final String EVENT = "Lorg/spongepowered/api/event/Event;";
+
+    private static ListenerIndex read(String... lines) throws IOException {
+        return ListenerIndex.read(new StringReader(String.join("\n", lines)));
+    }
+
+    private static List<String> names(List<ListenerIndex.IndexedListener> listeners) {
+        return listeners.stream().map(listener -> listener.getMethod().getName()).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testListeners() throws IOException {
+        final ListenerIndex index = read(
+                "# comment",
+                "class " + BASE,
+                "listener onEvent (" + EVENT + ")V LATE true false false",
+                "listener onArray (" + EVENT + "[Ljava/lang/String;I)V DEFAULT false true true");
+        final List<ListenerIndex.IndexedListener> listeners = index.getListeners(Base.class).get();
+        assertThat(names(listeners), contains("onEvent", "onArray"));
+
+        final ListenerIndex.IndexedListener listener = listeners.get(0);
+        assertThat(listener.getOrder(), is(Order.LATE));
+        assertThat(listener.isBeforeModifications(), is(true));
+        assertThat(listener.isAsync(), is(false));
+        assertThat(listeners.get(1).isAsync(), is(true));
+        assertThat(listeners.get(1).isBatched(), is(true));
+    }
+
+    @Test
+    public void testInheritedListeners() throws IOException {
+        final ListenerIndex index = read(
+                "class " + BASE,
+                "listener onEvent (" + EVENT + ")V DEFAULT false false false",
+                "listener onArray (" + EVENT + "[Ljava/lang/String;I)V DEFAULT false false false",
+                "class " + SUB,
+                "listener onSub (" + EVENT + ")V DEFAULT false false false");
+
+        // onEvent is overridden without @Listener, like Class.getMethods()
+        // would show
+        assertThat(names(index.getListeners(Sub.class).get()), containsInAnyOrder("onSub", "onArray"));
+    }
+
+    @Test
+    public void testMissingSuperclass() throws IOException {
+        final ListenerIndex index = read(
+                "class " + SUB,
+                "listener onSub (" + EVENT + ")V DEFAULT false false false");
+        assertThat(index.contains(Sub.class), is(true));
+        assertThat(index.contains(Base.class), is(false));
+        assertThat(index.getListeners(Sub.class).isPresent(), is(false));
+    }
+
+    @Test
+    public void testOutdatedEntry() throws IOException {
+        final ListenerIndex index = read(
+                "class " + BASE,
+                "listener onRemoved (" + EVENT + ")V DEFAULT false false false",
+                "listener onEvent (Lorg/spongepowered/api/event/Missing;)V DEFAULT false false false");
+        assertThat(index.getListeners(Base.class).get().isEmpty(), is(true));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidLine() throws IOException {
+        read("class " + BASE, "listener onEvent");
+    }
+
+    public static class Base {
+
+        @Listener
+        public void onEvent(Event event) {
+        }
+
+        @Listener
+        public void onArray(Event event, String[] strings, int value) {
+        }
+
+    }
+
+    public static class Sub extends Base {
+
+        @Override
+        public void onEvent(Event event) {
+        }
+
+        @Listener
+        public void onSub(Event event) {
+        }
+
+    }
+
+}